@@ -0,0 +1,69 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+public enum BenchmarkPosition {
+
+    OPENING(
+        " n n n n",
+        "n n n n ",
+        " n n n n",
+        "        ",
+        "        ",
+        "b b b b ",
+        " b b b b",
+        "b b b b "),
+    MIDGAME(
+        " n n   n",
+        "n   n   ",
+        " n   n  ",
+        "  n b   ",
+        " b   n  ",
+        "b   b b ",
+        " b     b",
+        "b   b   "),
+    ENDGAME(
+        "       N",
+        "        ",
+        "   B    ",
+        "        ",
+        " n      ",
+        "      B ",
+        "   N    ",
+        "b       ");
+
+    private static final long SEED = 2020;
+
+    private String[] rows;
+
+    private BenchmarkPosition(String... rows) {
+        assert rows.length == Coordinate.getDimension();
+        this.rows = rows;
+    }
+
+    Board getBoard() {
+        Board board = new Board();
+        for (int i = 0; i < this.rows.length; i++)
+            for (int j = 0; j < this.rows[i].length(); j++)
+                board.put(new Coordinate(i, j), BenchmarkPosition.getPiece(this.rows[i].charAt(j)));
+        return board;
+    }
+
+    Game getGame() {
+        return new Game(this.getBoard(), BenchmarkPosition.SEED);
+    }
+
+    private static Piece getPiece(char character) {
+        switch (character) {
+        case 'b':
+            return new Pawn(Color.WHITE);
+        case 'B':
+            return new Draught(Color.WHITE);
+        case 'n':
+            return new Pawn(Color.BLACK);
+        case 'N':
+            return new Draught(Color.BLACK);
+        default:
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,51 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+
+    @Param
+    private BenchmarkPosition position;
+
+    @Param({ "WHITE", "BLACK" })
+    private Color color;
+
+    private Board board;
+    private Coordinate lastCoordinate;
+
+    @Setup
+    public void setup() {
+        this.board = this.position.getBoard();
+        this.lastCoordinate = this.board.getCoordinatesWithActualColor(this.color).get(0);
+    }
+
+    @Benchmark
+    public List<Coordinate> getCoordinatesWithPieceCanEat() {
+        return this.board.getCoordinatesWithPieceCanEat(this.color, this.lastCoordinate);
+    }
+
+    @Benchmark
+    public boolean isBlocked() {
+        return this.board.isBlocked(this.color);
+    }
+
+}
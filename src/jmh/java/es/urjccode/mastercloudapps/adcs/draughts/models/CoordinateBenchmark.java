@@ -0,0 +1,49 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CoordinateBenchmark {
+
+    @Param({ "1", "3", "7" })
+    private int distance;
+
+    private Coordinate[] origins;
+    private Coordinate[] targets;
+
+    @Setup
+    public void setup() {
+        int size = Coordinate.getDimension() - this.distance;
+        this.origins = new Coordinate[size];
+        this.targets = new Coordinate[size];
+        for (int i = 0; i < size; i++) {
+            this.origins[i] = new Coordinate(i, i);
+            this.targets[i] = new Coordinate(i + this.distance, i + this.distance);
+        }
+    }
+
+    @Benchmark
+    public void getBetweenDiagonalCoordinates(Blackhole blackhole) {
+        for (int i = 0; i < this.origins.length; i++)
+            blackhole.consume(this.origins[i].getBetweenDiagonalCoordinates(this.targets[i]));
+    }
+
+}
@@ -0,0 +1,67 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBenchmark {
+
+    @Param
+    private BenchmarkPosition position;
+
+    private Game game;
+    private MoveBuffer moveBuffer;
+    private Coordinate[][] moves;
+    private int move;
+
+    @Setup
+    public void setup() {
+        this.game = this.position.getGame();
+        this.moveBuffer = new MoveBuffer();
+        this.game.generateMoves(this.moveBuffer);
+        this.moves = new Coordinate[this.moveBuffer.size()][];
+        for (int i = 0; i < this.moveBuffer.size(); i++)
+            this.moves[i] = this.moveBuffer.getCoordinates(i);
+        this.move = 0;
+    }
+
+    @Benchmark
+    public Game copy() {
+        return new Game(this.game);
+    }
+
+    @Benchmark
+    public Error move() {
+        Game game = new Game(this.game);
+        this.move = (this.move + 1) % this.moves.length;
+        return game.move(this.moves[this.move]);
+    }
+
+    @Benchmark
+    public boolean isBlocked() {
+        return this.game.isBlocked();
+    }
+
+    @Benchmark
+    public int generateMoves() {
+        this.game.generateMoves(this.moveBuffer);
+        return this.moveBuffer.size();
+    }
+
+}
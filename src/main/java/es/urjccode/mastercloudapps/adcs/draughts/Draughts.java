@@ -1,11 +1,19 @@
 package es.urjccode.mastercloudapps.adcs.draughts;
 
+import java.util.Locale;
+
 import es.urjccode.mastercloudapps.adcs.draughts.controllers.Logic;
 import es.urjccode.mastercloudapps.adcs.draughts.controllers.InteractorController;
+import es.urjccode.mastercloudapps.adcs.draughts.engine.AlphaBetaEngine;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.utils.Console;
 import es.urjccode.mastercloudapps.adcs.draughts.views.View;
 
 class Draughts {
-    
+
+    private static final int ENGINE_DEPTH = AlphaBetaEngine.MAXIMUM_DEPTH;
+    private static final long ENGINE_MILLIS = 1000;
+
     private View view;
 
     private Logic logic;
@@ -24,8 +32,26 @@ class Draughts {
 		} while (controller != null); 
     }
 
+    private boolean setEngines(String... colors) {
+        Color[] engineColors = new Color[colors.length];
+        for (int i = 0; i < colors.length; i++)
+            try {
+                engineColors[i] = Color.valueOf(colors[i].toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                return false;
+            }
+        for (Color color : engineColors)
+            this.logic.setEngine(color, new AlphaBetaEngine(Draughts.ENGINE_DEPTH, Draughts.ENGINE_MILLIS));
+        return true;
+    }
+
     public static void main(String[] args){
-        new Draughts().play();
+        Draughts draughts = new Draughts();
+        if (!draughts.setEngines(args)) {
+            new Console().writeln("usage: Draughts [white] [black]");
+            return;
+        }
+        draughts.play();
     }
     
 }
\ No newline at end of file
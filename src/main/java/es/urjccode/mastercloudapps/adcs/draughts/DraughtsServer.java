@@ -0,0 +1,58 @@
+package es.urjccode.mastercloudapps.adcs.draughts;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import es.urjccode.mastercloudapps.adcs.draughts.server.ConsoleServer;
+import es.urjccode.mastercloudapps.adcs.draughts.server.GameServer;
+import es.urjccode.mastercloudapps.adcs.draughts.server.Journal;
+import es.urjccode.mastercloudapps.adcs.draughts.server.NioServer;
+import es.urjccode.mastercloudapps.adcs.draughts.server.SessionRegistry;
+import es.urjccode.mastercloudapps.adcs.draughts.utils.Console;
+
+class DraughtsServer {
+
+    private static final int PORT = 2020;
+    private static final String CONSOLE_MODE = "console";
+    private static final String NIO_MODE = "nio";
+    private static final int MAXIMUM_CONNECTIONS = 256;
+    private static final int MAXIMUM_SESSIONS = 10000;
+    private static final long MAXIMUM_IDLE_MILLIS = 30 * 60 * 1000;
+
+    public static void main(String[] args) throws IOException {
+        int port = DraughtsServer.PORT;
+        if (args.length > 0)
+            port = Integer.parseInt(args[0]);
+        Console console = new Console();
+        if (args.length > 1 && DraughtsServer.CONSOLE_MODE.equals(args[1])) {
+            ConsoleServer consoleServer = new ConsoleServer(port, true);
+            consoleServer.start();
+            console.writeln("Draughts console server on port " + consoleServer.getPort()
+                + (consoleServer.isVirtual() ? " (virtual threads)" : " (platform threads)"));
+        } else if (args.length > 1 && DraughtsServer.NIO_MODE.equals(args[1])) {
+            NioServer nioServer = new NioServer(port, Runtime.getRuntime().availableProcessors(),
+                DraughtsServer.getSessionRegistry(args, console));
+            nioServer.start();
+            console.writeln("Draughts NIO server on port " + nioServer.getPort()
+                + " (" + nioServer.getReactors() + " selectors)");
+        } else {
+            GameServer gameServer = new GameServer(port, DraughtsServer.MAXIMUM_CONNECTIONS,
+                DraughtsServer.getSessionRegistry(args, console));
+            gameServer.start();
+            console.writeln("Draughts server on port " + gameServer.getPort());
+        }
+    }
+
+    private static SessionRegistry getSessionRegistry(String[] args, Console console) throws IOException {
+        if (args.length <= 2)
+            return new SessionRegistry(DraughtsServer.MAXIMUM_SESSIONS, DraughtsServer.MAXIMUM_IDLE_MILLIS);
+        SessionRegistry sessionRegistry = new SessionRegistry(DraughtsServer.MAXIMUM_SESSIONS,
+            DraughtsServer.MAXIMUM_IDLE_MILLIS, new Journal(Paths.get(args[2])));
+        long start = System.currentTimeMillis();
+        int sessions = sessionRegistry.recover(Runtime.getRuntime().availableProcessors());
+        console.writeln("Recovered " + sessions + " games from " + args[2] + " in "
+            + (System.currentTimeMillis() - start) + " ms");
+        return sessionRegistry;
+    }
+
+}
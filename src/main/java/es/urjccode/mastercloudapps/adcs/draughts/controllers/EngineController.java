@@ -0,0 +1,49 @@
+package es.urjccode.mastercloudapps.adcs.draughts.controllers;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import es.urjccode.mastercloudapps.adcs.draughts.engine.Engine;
+import es.urjccode.mastercloudapps.adcs.draughts.engine.OpeningBook;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.State;
+
+class EngineController extends Controller {
+
+    private Map<Color, Engine> engines;
+    private OpeningBook openingBook;
+
+    protected EngineController(Game game, State state) {
+        super(game, state);
+        this.engines = new EnumMap<Color, Engine>(Color.class);
+    }
+
+    public void setEngine(Color color, Engine engine) {
+        assert color != null;
+        if (engine == null)
+            this.engines.remove(color);
+        else
+            this.engines.put(color, engine);
+    }
+
+    public void setOpeningBook(OpeningBook openingBook) {
+        this.openingBook = openingBook;
+    }
+
+    public boolean isEngineTurn() {
+        return this.engines.containsKey(this.game.getTurnColor());
+    }
+
+    public Coordinate[] getMove() {
+        assert this.isEngineTurn();
+        if (this.openingBook != null) {
+            Coordinate[] coordinates = this.openingBook.probe(this.game);
+            if (coordinates != null)
+                return coordinates;
+        }
+        return this.engines.get(this.game.getTurnColor()).getMove(this.game);
+    }
+
+}
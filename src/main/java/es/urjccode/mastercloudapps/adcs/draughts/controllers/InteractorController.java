@@ -1,5 +1,6 @@
 package es.urjccode.mastercloudapps.adcs.draughts.controllers;
 
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Piece;
@@ -15,6 +16,10 @@ public abstract class InteractorController extends Controller {
 		return this.game.getPiece(coordinate);
 	}
 
+	public Color getTurnColor() {
+		return this.game.getTurnColor();
+	}
+
 	abstract public void accept(InteractorControllersVisitor controllersVisitor);
 
 }
@@ -1,9 +1,14 @@
 package es.urjccode.mastercloudapps.adcs.draughts.controllers;
 
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 
+import es.urjccode.mastercloudapps.adcs.draughts.engine.Engine;
+import es.urjccode.mastercloudapps.adcs.draughts.engine.OpeningBook;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.PositionCodec;
 import es.urjccode.mastercloudapps.adcs.draughts.models.State;
 import es.urjccode.mastercloudapps.adcs.draughts.models.StateValue;
 
@@ -11,18 +16,44 @@ public class Logic {
 
 	private Game game;
 	private State state;
+	private PlayController playController;
 	private Map<StateValue, InteractorController> controllers;
 
 	public Logic() {
 		this.game = new Game();
 		this.state = new State();
+		this.playController = new PlayController(this.game, this.state);
         this.controllers = new HashMap<StateValue, InteractorController>();
 		this.controllers.put(StateValue.INITIAL, new StartController(this.game, this.state));
-		this.controllers.put(StateValue.IN_GAME, new PlayController(this.game, this.state));
+		this.controllers.put(StateValue.IN_GAME, this.playController);
 		this.controllers.put(StateValue.FINAL, new ResumeController(this.game, this.state));
 		this.controllers.put(StateValue.EXIT, null);
 	}
 
+	public void setEngine(Color color, Engine engine) {
+		this.playController.setEngine(color, engine);
+	}
+
+	public void setOpeningBook(OpeningBook openingBook) {
+		this.playController.setOpeningBook(openingBook);
+	}
+
+	public void save(ByteBuffer buffer) {
+		PositionCodec.encode(this.game, buffer);
+	}
+
+	public boolean restore(StateValue stateValue, ByteBuffer buffer) {
+		assert stateValue != null && stateValue != StateValue.EXIT;
+		this.state.reset();
+		while (this.state.getValueState() != stateValue)
+			this.state.next();
+		return PositionCodec.decode(buffer, this.game);
+	}
+
+	public StateValue getStateValue() {
+		return this.state.getValueState();
+	}
+
 	public InteractorController getController() {
 		return this.controllers.get(this.state.getValueState());
     }
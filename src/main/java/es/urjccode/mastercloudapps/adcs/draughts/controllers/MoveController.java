@@ -14,10 +14,14 @@ class MoveController extends Controller {
     }
 
     public Error move(Coordinate... coordinates) {
+        return this.move(Game.RANDOM_PENALTY, coordinates);
+    }
+
+    public Error move(int penalty, Coordinate... coordinates) {
         assert coordinates.length >= MoveController.MINIMUM_COORDINATES;
 		for(Coordinate coordinate: coordinates)
 			assert coordinate != null;
-		Error error = this.game.move(coordinates);
+		Error error = this.game.move(penalty, coordinates);
 		if (this.game.isBlocked())
 			this.state.next();
 		return error;
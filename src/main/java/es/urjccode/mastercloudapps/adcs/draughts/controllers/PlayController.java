@@ -1,5 +1,7 @@
 package es.urjccode.mastercloudapps.adcs.draughts.controllers;
 
+import es.urjccode.mastercloudapps.adcs.draughts.engine.Engine;
+import es.urjccode.mastercloudapps.adcs.draughts.engine.OpeningBook;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
 import es.urjccode.mastercloudapps.adcs.draughts.models.State;
@@ -10,17 +12,43 @@ public class PlayController extends InteractorController {
 
 	private CancelController cancelController;
 	private MoveController moveController;
+	private EngineController engineController;
 
 	public PlayController(Game game, State state) {
 		super(game, state);
 		this.cancelController = new CancelController(game, state);
 		this.moveController = new MoveController(game, state);
+		this.engineController = new EngineController(game, state);
 	}
 
 	public Error move(Coordinate... coordinates) {
 		return this.moveController.move(coordinates);
 	}
 
+	public Error move(int penalty, Coordinate... coordinates) {
+		return this.moveController.move(penalty, coordinates);
+	}
+
+	public int getLastPenalty() {
+		return this.game.getLastPenalty();
+	}
+
+	public void setEngine(Color color, Engine engine) {
+		this.engineController.setEngine(color, engine);
+	}
+
+	public void setOpeningBook(OpeningBook openingBook) {
+		this.engineController.setOpeningBook(openingBook);
+	}
+
+	public boolean isEngineTurn() {
+		return this.engineController.isEngineTurn();
+	}
+
+	public Error moveEngine() {
+		return this.moveController.move(this.engineController.getMove());
+	}
+
 	public void cancel() {
 		this.cancelController.cancel();
 	}
@@ -0,0 +1,55 @@
+package es.urjccode.mastercloudapps.adcs.draughts.database;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+import es.urjccode.mastercloudapps.adcs.draughts.models.PositionCodec;
+
+public class Continuation {
+
+    private static final int NUMBER_BITS = 8;
+    private static final int NUMBER_MASK = (1 << Continuation.NUMBER_BITS) - 1;
+
+    private int move;
+    private long count;
+
+    Continuation(int move, long count) {
+        assert move != 0;
+        this.move = move;
+        this.count = count;
+    }
+
+    static int getMove(Coordinate[] coordinates) {
+        assert coordinates != null && coordinates.length >= 2;
+        return PositionCodec.getNumber(coordinates[0]) << Continuation.NUMBER_BITS
+            | PositionCodec.getNumber(coordinates[coordinates.length - 1]);
+    }
+
+    public Coordinate getOrigin() {
+        return PositionCodec.getCoordinate(this.move >>> Continuation.NUMBER_BITS);
+    }
+
+    public Coordinate getTarget() {
+        return PositionCodec.getCoordinate(this.move & Continuation.NUMBER_MASK);
+    }
+
+    public long getCount() {
+        return this.count;
+    }
+
+    public Coordinate[] getCoordinates(Game game) {
+        assert game != null;
+        MoveBuffer moves = new MoveBuffer();
+        game.generateMoves(moves);
+        int move = moves.find(this.getOrigin(), this.getTarget());
+        if (move == -1)
+            return null;
+        return moves.getCoordinates(move);
+    }
+
+    @Override
+    public String toString() {
+        return (this.move >>> Continuation.NUMBER_BITS) + "-" + (this.move & Continuation.NUMBER_MASK);
+    }
+
+}
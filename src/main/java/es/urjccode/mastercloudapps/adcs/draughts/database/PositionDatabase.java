@@ -0,0 +1,347 @@
+package es.urjccode.mastercloudapps.adcs.draughts.database;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.pdn.PdnArchive;
+import es.urjccode.mastercloudapps.adcs.draughts.pdn.PdnGame;
+import es.urjccode.mastercloudapps.adcs.draughts.pdn.PdnReader;
+import es.urjccode.mastercloudapps.adcs.draughts.pdn.PdnValidator;
+import es.urjccode.mastercloudapps.adcs.draughts.utils.Console;
+
+public class PositionDatabase implements Closeable {
+
+    public static final long DEFAULT_CAPACITY = 1 << 16;
+    static final int CONTINUATIONS = 5;
+    private static final int MAGIC = 0x44504442;
+    private static final int VERSION = 1;
+    private static final int SLOT_SIZE = 64;
+    private static final int KEY = 0;
+    private static final int GAMES = PositionDatabase.KEY + Long.BYTES;
+    private static final int WHITE_WINS = PositionDatabase.GAMES + Integer.BYTES;
+    private static final int DRAWS = PositionDatabase.WHITE_WINS + Integer.BYTES;
+    private static final int BLACK_WINS = PositionDatabase.DRAWS + Integer.BYTES;
+    private static final int FIRST_CONTINUATION = PositionDatabase.BLACK_WINS + Integer.BYTES;
+    private static final int HEADER_CAPACITY = 2 * Integer.BYTES;
+    private static final int HEADER_SIZE = PositionDatabase.HEADER_CAPACITY + Long.BYTES;
+    private static final int HEADER_POSITIONS = PositionDatabase.HEADER_SIZE;
+    private static final int MOVE_SHIFT = 48;
+    private static final long COUNT_MASK = (1L << PositionDatabase.MOVE_SHIFT) - 1;
+    private static final int BUFFER_BITS = 30;
+    private static final long BUFFER_MASK = (1L << PositionDatabase.BUFFER_BITS) - 1;
+    private static final int LOAD_NUMERATOR = 3;
+    private static final int LOAD_DENOMINATOR = 4;
+    private static final int MAXIMUM_MOVES = 1024;
+    private static final int BENCHMARK_KEYS = 1 << 16;
+    private static final int BENCHMARK_LOOKUPS = 1 << 22;
+    private static final String GROWING_SUFFIX = ".growing";
+
+    private static class Table {
+
+        private FileChannel channel;
+        private MappedByteBuffer[] buffers;
+        private long mask;
+
+        Table(Path path, long capacity) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            if (this.channel.size() >= PositionDatabase.SLOT_SIZE) {
+                MappedByteBuffer header = this.channel.map(FileChannel.MapMode.READ_ONLY, 0, PositionDatabase.HEADER_SIZE);
+                if (header.getInt() != PositionDatabase.MAGIC || header.getInt() != PositionDatabase.VERSION)
+                    throw new IOException("not a position database: " + path);
+                capacity = header.getLong();
+            } else
+                capacity = Long.highestOneBit(Math.max(capacity, PositionDatabase.CONTINUATIONS) * 2 - 1);
+            long size = (capacity + 1) * PositionDatabase.SLOT_SIZE;
+            this.buffers = new MappedByteBuffer[(int) ((size - 1 >>> PositionDatabase.BUFFER_BITS) + 1)];
+            for (int i = 0; i < this.buffers.length; i++) {
+                long position = (long) i << PositionDatabase.BUFFER_BITS;
+                this.buffers[i] = this.channel.map(FileChannel.MapMode.READ_WRITE, position,
+                    Math.min(size - position, 1L << PositionDatabase.BUFFER_BITS));
+            }
+            this.mask = capacity - 1;
+            this.buffers[0].putInt(0, PositionDatabase.MAGIC);
+            this.buffers[0].putInt(Integer.BYTES, PositionDatabase.VERSION);
+            this.buffers[0].putLong(PositionDatabase.HEADER_CAPACITY, capacity);
+        }
+
+        long getLong(long position) {
+            return this.buffers[(int) (position >>> PositionDatabase.BUFFER_BITS)]
+                .getLong((int) (position & PositionDatabase.BUFFER_MASK));
+        }
+
+        int getInt(long position) {
+            return this.buffers[(int) (position >>> PositionDatabase.BUFFER_BITS)]
+                .getInt((int) (position & PositionDatabase.BUFFER_MASK));
+        }
+
+        void putLong(long position, long value) {
+            this.buffers[(int) (position >>> PositionDatabase.BUFFER_BITS)]
+                .putLong((int) (position & PositionDatabase.BUFFER_MASK), value);
+        }
+
+        void putInt(long position, int value) {
+            this.buffers[(int) (position >>> PositionDatabase.BUFFER_BITS)]
+                .putInt((int) (position & PositionDatabase.BUFFER_MASK), value);
+        }
+
+        long getPosition(long slot) {
+            return (slot + 1) * PositionDatabase.SLOT_SIZE;
+        }
+
+        long find(long key) {
+            long slot = key & this.mask;
+            while (true) {
+                long position = this.getPosition(slot);
+                if (this.getInt(position + PositionDatabase.GAMES) == 0)
+                    return -slot - 1;
+                if (this.getLong(position + PositionDatabase.KEY) == key)
+                    return slot;
+                slot = slot + 1 & this.mask;
+            }
+        }
+
+        void force() {
+            for (MappedByteBuffer buffer : this.buffers)
+                buffer.force();
+        }
+
+    }
+
+    private Path path;
+    private volatile Table table;
+    private long size;
+    private PdnValidator validator;
+    private long[] keys;
+    private int[] moves;
+    private int plies;
+
+    public PositionDatabase(Path path) throws IOException {
+        this(path, PositionDatabase.DEFAULT_CAPACITY);
+    }
+
+    public PositionDatabase(Path path, long capacity) throws IOException {
+        assert path != null;
+        assert capacity > 0;
+        this.path = path;
+        this.table = new Table(path, capacity);
+        this.size = this.table.getLong(PositionDatabase.HEADER_POSITIONS);
+        this.validator = new PdnValidator();
+        this.keys = new long[PositionDatabase.MAXIMUM_MOVES];
+        this.moves = new int[PositionDatabase.MAXIMUM_MOVES];
+    }
+
+    public synchronized boolean add(PdnGame game) throws IOException {
+        assert game != null;
+        this.plies = 0;
+        if (!this.validator.validate(game, this::record))
+            return false;
+        Color winner = game.getWinner();
+        int result = winner == Color.WHITE ? PositionDatabase.WHITE_WINS
+            : winner == Color.BLACK ? PositionDatabase.BLACK_WINS
+            : game.isDraw() ? PositionDatabase.DRAWS : 0;
+        for (int i = 0; i < this.plies; i++)
+            this.add(this.keys[i], result, this.moves[i]);
+        this.add(this.validator.getGame().getKey(), result, 0);
+        return true;
+    }
+
+    private void record(long key, Coordinate[] coordinates) {
+        if (this.plies == this.keys.length) {
+            this.keys = Arrays.copyOf(this.keys, this.keys.length * 2);
+            this.moves = Arrays.copyOf(this.moves, this.moves.length * 2);
+        }
+        this.keys[this.plies] = key;
+        this.moves[this.plies] = Continuation.getMove(coordinates);
+        this.plies++;
+    }
+
+    private void add(long key, int result, int move) throws IOException {
+        long slot = this.table.find(key);
+        if (slot < 0) {
+            if ((this.size + 1) * PositionDatabase.LOAD_DENOMINATOR > (this.table.mask + 1) * PositionDatabase.LOAD_NUMERATOR) {
+                this.grow();
+                slot = this.table.find(key);
+            }
+            slot = -slot - 1;
+            this.table.putLong(this.table.getPosition(slot) + PositionDatabase.KEY, key);
+            this.size++;
+            this.table.putLong(PositionDatabase.HEADER_POSITIONS, this.size);
+        }
+        long position = this.table.getPosition(slot);
+        this.increment(position + PositionDatabase.GAMES);
+        if (result != 0)
+            this.increment(position + result);
+        if (move != 0)
+            this.addContinuation(position + PositionDatabase.FIRST_CONTINUATION, move);
+    }
+
+    private void increment(long position) {
+        this.table.putInt(position, this.table.getInt(position) + 1);
+    }
+
+    private void addContinuation(long position, int move) {
+        long minimumPosition = position;
+        long minimumCount = Long.MAX_VALUE;
+        for (int i = 0; i < PositionDatabase.CONTINUATIONS; i++, position += Long.BYTES) {
+            long continuation = this.table.getLong(position);
+            if (continuation == 0 || continuation >>> PositionDatabase.MOVE_SHIFT == move) {
+                this.table.putLong(position, (long) move << PositionDatabase.MOVE_SHIFT
+                    | (continuation & PositionDatabase.COUNT_MASK) + 1);
+                return;
+            }
+            if ((continuation & PositionDatabase.COUNT_MASK) < minimumCount) {
+                minimumCount = continuation & PositionDatabase.COUNT_MASK;
+                minimumPosition = position;
+            }
+        }
+        this.table.putLong(minimumPosition, (long) move << PositionDatabase.MOVE_SHIFT | minimumCount + 1);
+    }
+
+    private void grow() throws IOException {
+        Table table = this.table;
+        Path growing = Paths.get(this.path + PositionDatabase.GROWING_SUFFIX);
+        Files.deleteIfExists(growing);
+        Table larger = new Table(growing, (table.mask + 1) * 2);
+        for (long slot = 0; slot <= table.mask; slot++) {
+            long position = table.getPosition(slot);
+            if (table.getInt(position + PositionDatabase.GAMES) == 0)
+                continue;
+            long target = larger.getPosition(-larger.find(table.getLong(position + PositionDatabase.KEY)) - 1);
+            for (int offset = 0; offset < PositionDatabase.SLOT_SIZE; offset += Long.BYTES)
+                larger.putLong(target + offset, table.getLong(position + offset));
+        }
+        larger.putLong(PositionDatabase.HEADER_POSITIONS, this.size);
+        larger.force();
+        Files.move(growing, this.path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        this.table = larger;
+        table.channel.close();
+    }
+
+    public PositionStatistics get(long key) {
+        Table table = this.table;
+        long slot = table.find(key);
+        if (slot < 0)
+            return null;
+        return PositionDatabase.getStatistics(table, table.getPosition(slot));
+    }
+
+    public synchronized void forEach(Consumer<PositionStatistics> consumer) {
+        assert consumer != null;
+        for (long slot = 0; slot <= this.table.mask; slot++) {
+            long position = this.table.getPosition(slot);
+            if (this.table.getInt(position + PositionDatabase.GAMES) != 0)
+                consumer.accept(PositionDatabase.getStatistics(this.table, position));
+        }
+    }
+
+    private static PositionStatistics getStatistics(Table table, long position) {
+        List<Continuation> continuations = new ArrayList<Continuation>();
+        for (int i = 0; i < PositionDatabase.CONTINUATIONS; i++) {
+            long continuation = table.getLong(position + PositionDatabase.FIRST_CONTINUATION + i * Long.BYTES);
+            if (continuation != 0)
+                continuations.add(new Continuation((int) (continuation >>> PositionDatabase.MOVE_SHIFT),
+                    continuation & PositionDatabase.COUNT_MASK));
+        }
+        Collections.sort(continuations, Comparator.comparingLong(Continuation::getCount).reversed());
+        return new PositionStatistics(table.getLong(position + PositionDatabase.KEY),
+            table.getInt(position + PositionDatabase.GAMES),
+            table.getInt(position + PositionDatabase.WHITE_WINS),
+            table.getInt(position + PositionDatabase.DRAWS),
+            table.getInt(position + PositionDatabase.BLACK_WINS),
+            continuations);
+    }
+
+    public int getGames(long key) {
+        Table table = this.table;
+        long slot = table.find(key);
+        if (slot < 0)
+            return 0;
+        return table.getInt(table.getPosition(slot) + PositionDatabase.GAMES);
+    }
+
+    public synchronized long getSize() {
+        return this.size;
+    }
+
+    public long getCapacity() {
+        return this.table.mask + 1;
+    }
+
+    public synchronized void force() {
+        this.table.force();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        this.table.force();
+        this.table.channel.close();
+    }
+
+    private synchronized long[] getKeys(int maximum) {
+        long[] keys = new long[(int) Math.min(maximum, this.size)];
+        int i = 0;
+        for (long slot = 0; slot <= this.table.mask && i < keys.length; slot++) {
+            long position = this.table.getPosition(slot);
+            if (this.table.getInt(position + PositionDatabase.GAMES) != 0)
+                keys[i++] = this.table.getLong(position + PositionDatabase.KEY);
+        }
+        return keys;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Console console = new Console();
+        if (args.length == 0) {
+            console.writeln("usage: PositionDatabase <database> [file.pdn ...]");
+            return;
+        }
+        try (PositionDatabase database = new PositionDatabase(Paths.get(args[0]))) {
+            for (int i = 1; i < args.length; i++) {
+                long games = 0;
+                long rejected = 0;
+                long start = System.currentTimeMillis();
+                try (PdnReader reader = new PdnArchive(Paths.get(args[i])).getReader()) {
+                    PdnGame game;
+                    while ((game = reader.next()) != null)
+                        if (database.add(game))
+                            games++;
+                        else
+                            rejected++;
+                }
+                console.writeln(args[i] + ": " + games + " games, " + rejected + " rejected, "
+                    + (System.currentTimeMillis() - start) + " ms");
+            }
+            console.writeln("positions\tcapacity\tlookup ns");
+            long[] keys = database.getKeys(PositionDatabase.BENCHMARK_KEYS);
+            long nanos = 0;
+            if (keys.length > 0) {
+                Random random = new Random(0);
+                long games = 0;
+                long start = System.nanoTime();
+                for (int i = 0; i < PositionDatabase.BENCHMARK_LOOKUPS; i++)
+                    games += database.getGames(keys[random.nextInt(keys.length)]);
+                nanos = (System.nanoTime() - start) / PositionDatabase.BENCHMARK_LOOKUPS;
+                assert games > 0;
+            }
+            console.writeln(database.getSize() + "\t" + database.getCapacity() + "\t" + nanos);
+            console.writeln("initial position: " + database.get(new Game().getKey()));
+        }
+    }
+
+}
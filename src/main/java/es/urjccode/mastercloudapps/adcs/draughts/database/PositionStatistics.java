@@ -0,0 +1,54 @@
+package es.urjccode.mastercloudapps.adcs.draughts.database;
+
+import java.util.Collections;
+import java.util.List;
+
+public class PositionStatistics {
+
+    private long key;
+    private int games;
+    private int whiteWins;
+    private int draws;
+    private int blackWins;
+    private List<Continuation> continuations;
+
+    PositionStatistics(long key, int games, int whiteWins, int draws, int blackWins, List<Continuation> continuations) {
+        this.key = key;
+        this.games = games;
+        this.whiteWins = whiteWins;
+        this.draws = draws;
+        this.blackWins = blackWins;
+        this.continuations = continuations;
+    }
+
+    public long getKey() {
+        return this.key;
+    }
+
+    public int getGames() {
+        return this.games;
+    }
+
+    public int getWhiteWins() {
+        return this.whiteWins;
+    }
+
+    public int getDraws() {
+        return this.draws;
+    }
+
+    public int getBlackWins() {
+        return this.blackWins;
+    }
+
+    public List<Continuation> getContinuations() {
+        return Collections.unmodifiableList(this.continuations);
+    }
+
+    @Override
+    public String toString() {
+        return this.games + " games +" + this.whiteWins + " =" + this.draws + " -" + this.blackWins
+            + " " + this.continuations;
+    }
+
+}
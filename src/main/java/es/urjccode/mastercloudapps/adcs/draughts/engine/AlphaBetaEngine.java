@@ -0,0 +1,251 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import java.util.SplittableRandom;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+import es.urjccode.mastercloudapps.adcs.draughts.tablebase.Tablebase;
+
+public class AlphaBetaEngine implements Engine {
+
+    public static final int MAXIMUM_DEPTH = 64;
+    public static final long DEFAULT_SEED = 0x2545F4914F6CDD1DL;
+    static final int WIN = 1000000;
+    private static final int INFINITE = AlphaBetaEngine.WIN + 1;
+    private static final int MAXIMUM_PLY = 2 * AlphaBetaEngine.MAXIMUM_DEPTH;
+    private static final int CHECKED_NODES = 1023;
+    private static final int WIN_SCORES = AlphaBetaEngine.WIN - AlphaBetaEngine.MAXIMUM_PLY;
+    static final int TABLEBASE_WIN = AlphaBetaEngine.WIN_SCORES - AlphaBetaEngine.MAXIMUM_PLY - 1;
+    private static final int DISTANCE_SCORES = AlphaBetaEngine.TABLEBASE_WIN - AlphaBetaEngine.MAXIMUM_PLY;
+
+    private int maximumDepth;
+    private long maximumMillis;
+    private Evaluator evaluator;
+    private TranspositionTable transpositionTable;
+    private Tablebase tablebase;
+    private SplittableRandom random;
+    private MoveBuffer[] moves;
+    private long deadline;
+    private boolean stopped;
+    private volatile boolean aborted;
+    private long nodes;
+    private int completedDepth;
+
+    public AlphaBetaEngine(int maximumDepth) {
+        this(maximumDepth, 0);
+    }
+
+    public AlphaBetaEngine(int maximumDepth, long maximumMillis) {
+        this(maximumDepth, maximumMillis, new TranspositionTable());
+    }
+
+    public AlphaBetaEngine(int maximumDepth, long maximumMillis, TranspositionTable transpositionTable) {
+        assert 0 < maximumDepth && maximumDepth <= AlphaBetaEngine.MAXIMUM_DEPTH;
+        assert maximumMillis >= 0;
+        assert transpositionTable != null;
+        this.maximumDepth = maximumDepth;
+        this.maximumMillis = maximumMillis;
+        this.evaluator = new Evaluator();
+        this.transpositionTable = transpositionTable;
+        this.random = new SplittableRandom(AlphaBetaEngine.DEFAULT_SEED);
+        this.moves = new MoveBuffer[AlphaBetaEngine.MAXIMUM_PLY + 1];
+        for (int i = 0; i < this.moves.length; i++)
+            this.moves[i] = new MoveBuffer();
+    }
+
+    public void setTablebase(Tablebase tablebase) {
+        this.tablebase = tablebase;
+    }
+
+    public void setSeed(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public Coordinate[] getMove(Game game) {
+        if (this.tablebase != null) {
+            Coordinate[] coordinates = this.tablebase.getMove(game);
+            if (coordinates != null)
+                return coordinates;
+        }
+        this.transpositionTable.nextGeneration();
+        return this.getMove(game, 1, TranspositionTable.NONE_MOVE);
+    }
+
+    Coordinate[] getMove(Game game, int firstDepth, int firstMove) {
+        assert game != null;
+        assert 0 < firstDepth && firstDepth <= this.maximumDepth;
+        this.deadline = Long.MAX_VALUE;
+        if (this.maximumMillis > 0)
+            this.deadline = System.currentTimeMillis() + this.maximumMillis;
+        this.stopped = false;
+        this.nodes = 0;
+        this.completedDepth = 0;
+        MoveBuffer rootMoves = this.moves[0];
+        game.generateMoves(rootMoves);
+        if (rootMoves.isEmpty())
+            return null;
+        int bestMove = firstMove;
+        if (bestMove == TranspositionTable.NONE_MOVE)
+            bestMove = TranspositionTable.getMove(this.transpositionTable.probe(game.getKey()));
+        if (bestMove >= rootMoves.size())
+            bestMove %= rootMoves.size();
+        for (int depth = firstDepth; depth <= this.maximumDepth && !this.stopped && rootMoves.size() > 1; depth++) {
+            int move = this.searchRoot(game, depth, bestMove);
+            if (!this.stopped || depth == firstDepth) {
+                bestMove = move;
+                this.completedDepth = depth;
+            }
+        }
+        return rootMoves.getCoordinates(bestMove);
+    }
+
+    private int searchRoot(Game game, int depth, int previousBestMove) {
+        MoveBuffer rootMoves = this.moves[0];
+        int alpha = -AlphaBetaEngine.INFINITE;
+        int bestMove = previousBestMove;
+        for (int i = 0; i < rootMoves.size() && !this.stopped; i++) {
+            int move = AlphaBetaEngine.getOrderedMove(i, previousBestMove);
+            game.makeMove(rootMoves, move, this.random);
+            int score = -this.search(game, depth - 1, -AlphaBetaEngine.INFINITE, -alpha, 1);
+            game.unmakeMove();
+            if (!this.stopped && score > alpha) {
+                alpha = score;
+                bestMove = move;
+            }
+        }
+        return bestMove;
+    }
+
+    private static int getOrderedMove(int position, int firstMove) {
+        if (position == 0)
+            return firstMove;
+        if (position <= firstMove)
+            return position - 1;
+        return position;
+    }
+
+    private int search(Game game, int depth, int alpha, int beta, int ply) {
+        if (this.tablebase != null) {
+            int value = this.tablebase.probeWdl(game);
+            if (value != Tablebase.UNKNOWN)
+                return value * (AlphaBetaEngine.TABLEBASE_WIN - ply);
+        }
+        if (depth <= 0)
+            return this.quiescence(game, alpha, beta, ply);
+        if (this.isStopped())
+            return 0;
+        long key = game.getKey();
+        long entry = this.transpositionTable.probe(key);
+        int hashMove = TranspositionTable.NONE_MOVE;
+        if (entry != 0) {
+            hashMove = TranspositionTable.getMove(entry);
+            int score = AlphaBetaEngine.fromTable(TranspositionTable.getScore(entry), ply);
+            int bound = TranspositionTable.getBound(entry);
+            if (TranspositionTable.getDepth(entry) >= depth && (bound == TranspositionTable.EXACT
+                    || bound == TranspositionTable.LOWER && score >= beta
+                    || bound == TranspositionTable.UPPER && score <= alpha))
+                return score;
+        }
+        MoveBuffer moves = this.moves[ply];
+        game.generateMoves(moves);
+        if (moves.isEmpty())
+            return -AlphaBetaEngine.WIN + ply;
+        if (hashMove >= moves.size())
+            hashMove = 0;
+        int bestScore = -AlphaBetaEngine.INFINITE;
+        int bestMove = hashMove;
+        int originalAlpha = alpha;
+        for (int i = 0; i < moves.size() && alpha < beta; i++) {
+            int move = AlphaBetaEngine.getOrderedMove(i, hashMove);
+            game.makeMove(moves, move, this.random);
+            int score = -this.search(game, depth - 1, -beta, -alpha, ply + 1);
+            game.unmakeMove();
+            if (this.stopped)
+                return 0;
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = move;
+            }
+            if (score > alpha)
+                alpha = score;
+        }
+        int bound = TranspositionTable.EXACT;
+        if (bestScore >= beta)
+            bound = TranspositionTable.LOWER;
+        else if (bestScore <= originalAlpha)
+            bound = TranspositionTable.UPPER;
+        this.transpositionTable.store(key, depth, bound, AlphaBetaEngine.toTable(bestScore, ply),
+            Math.min(bestMove, TranspositionTable.NONE_MOVE));
+        return bestScore;
+    }
+
+    static int toTable(int score, int ply) {
+        if (score > AlphaBetaEngine.DISTANCE_SCORES)
+            return score + ply;
+        if (score < -AlphaBetaEngine.DISTANCE_SCORES)
+            return score - ply;
+        return score;
+    }
+
+    static int fromTable(int score, int ply) {
+        if (score > AlphaBetaEngine.DISTANCE_SCORES)
+            return score - ply;
+        if (score < -AlphaBetaEngine.DISTANCE_SCORES)
+            return score + ply;
+        return score;
+    }
+
+    private int quiescence(Game game, int alpha, int beta, int ply) {
+        if (this.isStopped())
+            return 0;
+        MoveBuffer moves = this.moves[ply];
+        game.generateMoves(moves);
+        if (moves.isEmpty())
+            return -AlphaBetaEngine.WIN + ply;
+        int score = this.evaluator.evaluate(game);
+        if (score >= beta || ply == AlphaBetaEngine.MAXIMUM_PLY)
+            return score;
+        if (score > alpha)
+            alpha = score;
+        for (int i = 0; i < moves.size(); i++)
+            if (moves.isCapture(i)) {
+                game.makeMove(moves, i, this.random);
+                score = -this.quiescence(game, -beta, -alpha, ply + 1);
+                game.unmakeMove();
+                if (this.stopped)
+                    return 0;
+                if (score >= beta)
+                    return score;
+                if (score > alpha)
+                    alpha = score;
+            }
+        return alpha;
+    }
+
+    private boolean isStopped() {
+        this.nodes++;
+        if ((this.nodes & AlphaBetaEngine.CHECKED_NODES) == 0
+                && (this.aborted || System.currentTimeMillis() >= this.deadline))
+            this.stopped = true;
+        return this.stopped;
+    }
+
+    void resume() {
+        this.aborted = false;
+    }
+
+    void abort() {
+        this.aborted = true;
+    }
+
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    public int getCompletedDepth() {
+        return this.completedDepth;
+    }
+
+}
@@ -0,0 +1,10 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+
+public interface Engine {
+
+    Coordinate[] getMove(Game game);
+
+}
@@ -0,0 +1,40 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+
+class Evaluator {
+
+    static final int PAWN = 100;
+    static final int DRAUGHT = 300;
+    private static final int ADVANCE = 4;
+    private static final int ROW_SQUARES = Coordinate.getDimension() / 2;
+    private static final int SQUARES = Coordinate.getDimension() * Evaluator.ROW_SQUARES;
+    private static final int[][] ADVANCES = Evaluator.getAdvances();
+
+    private static int[][] getAdvances() {
+        int[][] advances = new int[Color.values().length][Evaluator.SQUARES];
+        for (int square = 0; square < Evaluator.SQUARES; square++) {
+            int row = square / Evaluator.ROW_SQUARES;
+            advances[Color.WHITE.ordinal()][square] = Evaluator.ADVANCE * (Coordinate.getDimension() - 1 - row);
+            advances[Color.BLACK.ordinal()][square] = Evaluator.ADVANCE * row;
+        }
+        return advances;
+    }
+
+    int evaluate(Game game) {
+        Color color = game.getTurnColor();
+        return this.evaluate(game, color) - this.evaluate(game, color.getOpposite());
+    }
+
+    private int evaluate(Game game, Color color) {
+        int pawns = game.getPawnSquares(color);
+        int score = Integer.bitCount(pawns) * Evaluator.PAWN
+            + Integer.bitCount(game.getDraughtSquares(color)) * Evaluator.DRAUGHT;
+        for (; pawns != 0; pawns &= pawns - 1)
+            score += Evaluator.ADVANCES[color.ordinal()][Integer.numberOfTrailingZeros(pawns)];
+        return score;
+    }
+
+}
@@ -0,0 +1,105 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.tablebase.Tablebase;
+
+public class LazySmpEngine implements Engine {
+
+    private int maximumDepth;
+    private TranspositionTable transpositionTable;
+    private AlphaBetaEngine[] engines;
+    private ExecutorService executorService;
+    private Tablebase tablebase;
+
+    public LazySmpEngine(int threads, int maximumDepth, long maximumMillis) {
+        this(threads, maximumDepth, maximumMillis, new TranspositionTable());
+    }
+
+    public LazySmpEngine(int threads, int maximumDepth, long maximumMillis, TranspositionTable transpositionTable) {
+        assert threads > 0;
+        this.maximumDepth = maximumDepth;
+        this.transpositionTable = transpositionTable;
+        this.engines = new AlphaBetaEngine[threads];
+        for (int i = 0; i < threads; i++)
+            this.engines[i] = new AlphaBetaEngine(maximumDepth, maximumMillis, transpositionTable);
+        this.setSeed(AlphaBetaEngine.DEFAULT_SEED);
+        this.executorService = Executors.newFixedThreadPool(Math.max(1, threads - 1), runnable -> {
+            Thread thread = new Thread(runnable, "lazy-smp");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void setSeed(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        for (AlphaBetaEngine engine : this.engines)
+            engine.setSeed(random.nextLong());
+    }
+
+    public void setTablebase(Tablebase tablebase) {
+        this.tablebase = tablebase;
+        for (AlphaBetaEngine engine : this.engines)
+            engine.setTablebase(tablebase);
+    }
+
+    @Override
+    public Coordinate[] getMove(Game game) {
+        assert game != null;
+        if (this.tablebase != null) {
+            Coordinate[] coordinates = this.tablebase.getMove(game);
+            if (coordinates != null)
+                return coordinates;
+        }
+        this.transpositionTable.nextGeneration();
+        List<Future<Coordinate[]>> helpers = new ArrayList<Future<Coordinate[]>>();
+        for (int i = 1; i < this.engines.length; i++) {
+            AlphaBetaEngine helper = this.engines[i];
+            Game copy = new Game(game);
+            int firstDepth = Math.min(1 + i % 2, this.maximumDepth);
+            int firstMove = i;
+            helper.resume();
+            helpers.add(this.executorService.submit(() -> helper.getMove(copy, firstDepth, firstMove)));
+        }
+        Coordinate[] coordinates = this.engines[0].getMove(game, 1, TranspositionTable.NONE_MOVE);
+        for (int i = 1; i < this.engines.length; i++)
+            this.engines[i].abort();
+        for (Future<Coordinate[]> helper : helpers)
+            try {
+                helper.get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException ex) {
+                throw new IllegalStateException(ex.getCause());
+            }
+        return coordinates;
+    }
+
+    public void shutdown() {
+        this.executorService.shutdownNow();
+    }
+
+    public int getThreads() {
+        return this.engines.length;
+    }
+
+    public long getNodes() {
+        long nodes = 0;
+        for (AlphaBetaEngine engine : this.engines)
+            nodes += engine.getNodes();
+        return nodes;
+    }
+
+    public int getCompletedDepth() {
+        return this.engines[0].getCompletedDepth();
+    }
+
+}
@@ -0,0 +1,77 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.utils.Console;
+
+public class LazySmpReport {
+
+    private static final long DEFAULT_MILLIS = 1000;
+    private static final int DEFAULT_MOVES = 8;
+    private static final long SEED = 2020;
+
+    private Console console;
+    private long millis;
+    private int moves;
+
+    public LazySmpReport(long millis, int moves) {
+        assert millis > 0;
+        assert moves > 0;
+        this.console = new Console();
+        this.millis = millis;
+        this.moves = moves;
+    }
+
+    public void report(int maximumThreads) {
+        assert maximumThreads > 0;
+        double baseNps = 0;
+        this.console.writeln("threads\tnodes\tmillis\tnps\tspeedup\tdepth");
+        for (int threads = 1; threads <= maximumThreads; threads = LazySmpReport.getNextThreads(threads, maximumThreads)) {
+            long[] result = this.measure(threads);
+            double nps = result[0] * 1000.0 / Math.max(1, result[1]);
+            if (threads == 1)
+                baseNps = nps;
+            this.console.writeln(threads + "\t" + result[0] + "\t" + result[1] + "\t" + (long) nps
+                + "\t" + String.format("%.2f", nps / baseNps) + "\t" + result[2]);
+        }
+    }
+
+    long[] measure(int threads) {
+        LazySmpEngine engine = new LazySmpEngine(threads, AlphaBetaEngine.MAXIMUM_DEPTH, this.millis);
+        Game game = new Game(LazySmpReport.SEED);
+        long nodes = 0;
+        long depths = 0;
+        int searches = 0;
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < this.moves && !game.isBlocked(); i++) {
+            Coordinate[] coordinates = engine.getMove(game);
+            nodes += engine.getNodes();
+            depths += engine.getCompletedDepth();
+            searches++;
+            game.move(coordinates);
+        }
+        long elapsed = System.currentTimeMillis() - start;
+        engine.shutdown();
+        return new long[] { nodes, elapsed, depths / Math.max(1, searches) };
+    }
+
+    private static int getNextThreads(int threads, int maximumThreads) {
+        if (threads < maximumThreads && threads * 2 > maximumThreads)
+            return maximumThreads;
+        return threads * 2;
+    }
+
+    public static void main(String[] args) {
+        int maximumThreads = Runtime.getRuntime().availableProcessors();
+        long millis = LazySmpReport.DEFAULT_MILLIS;
+        int moves = LazySmpReport.DEFAULT_MOVES;
+        if (args.length > 0)
+            maximumThreads = Integer.parseInt(args[0]);
+        if (args.length > 1)
+            millis = Long.parseLong(args[1]);
+        if (args.length > 2)
+            moves = Integer.parseInt(args[2]);
+        new LazySmpReport(millis, moves).report(maximumThreads);
+    }
+
+}
@@ -0,0 +1,312 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+
+public class MctsEngine implements Engine {
+
+    public static final long DEFAULT_SEED = 0x9E3779B97F4A7C15L;
+    static final int MAXIMUM_TREE_PLY = 128;
+    static final int MAXIMUM_PLAYOUT_PLY = 160;
+    private static final int EXPANSION_VISITS = 2;
+    private static final double EXPLORATION = 1.0;
+    private static final int WIN = 2;
+    private static final int DRAW = 1;
+    private static final int DECISIVE_SCORE = Evaluator.PAWN;
+    private static final int ROOT_MOVE = -1;
+
+    private static class Node {
+
+        private static final AtomicIntegerFieldUpdater<Node> VISITS =
+            AtomicIntegerFieldUpdater.newUpdater(Node.class, "visits");
+        private static final AtomicIntegerFieldUpdater<Node> WINS =
+            AtomicIntegerFieldUpdater.newUpdater(Node.class, "wins");
+
+        private int move;
+        private volatile int visits;
+        private volatile int wins;
+        private volatile Node[] children;
+        private volatile Node[] outcomes;
+
+        Node(int move) {
+            this.move = move;
+        }
+
+        synchronized Node[] expand(int size) {
+            if (this.children == null) {
+                Node[] children = new Node[size];
+                for (int i = 0; i < size; i++)
+                    children[i] = new Node(i);
+                this.children = children;
+            }
+            return this.children;
+        }
+
+        Node getOutcome(int penalty, int penalties) {
+            Node[] outcomes = this.outcomes;
+            if (outcomes == null)
+                synchronized (this) {
+                    if (this.outcomes == null) {
+                        outcomes = new Node[penalties];
+                        for (int i = 0; i < penalties; i++)
+                            outcomes[i] = new Node(i);
+                        this.outcomes = outcomes;
+                    }
+                    outcomes = this.outcomes;
+                }
+            return outcomes[penalty];
+        }
+
+        void visit() {
+            Node.VISITS.incrementAndGet(this);
+        }
+
+        void win(int points) {
+            Node.WINS.addAndGet(this, points);
+        }
+
+    }
+
+    private class Worker {
+
+        private SplittableRandom random;
+        private Evaluator evaluator;
+        private MoveBuffer[] moves;
+        private MoveBuffer playoutMoves;
+        private Node[] path;
+        private Color[] movers;
+        private int penalties;
+        private long playouts;
+
+        Worker(SplittableRandom random) {
+            this.random = random;
+            this.evaluator = new Evaluator();
+            this.moves = new MoveBuffer[MctsEngine.MAXIMUM_TREE_PLY];
+            for (int i = 0; i < this.moves.length; i++)
+                this.moves[i] = new MoveBuffer();
+            this.playoutMoves = new MoveBuffer();
+            this.path = new Node[2 * MctsEngine.MAXIMUM_TREE_PLY + 1];
+            this.movers = new Color[this.path.length];
+        }
+
+        Void search(Game game) {
+            this.playouts = 0;
+            while (MctsEngine.this.next()) {
+                this.iterate(game);
+                this.playouts++;
+            }
+            return null;
+        }
+
+        private void iterate(Game game) {
+            Node node = MctsEngine.this.root;
+            node.visit();
+            int depth = 0;
+            int plies = 0;
+            while (plies < MctsEngine.MAXIMUM_TREE_PLY) {
+                MoveBuffer moves = this.moves[plies];
+                Node[] children = node.children;
+                if (children == null && node.visits < MctsEngine.EXPANSION_VISITS)
+                    break;
+                game.generateMoves(moves);
+                if (children == null)
+                    children = node.expand(moves.size());
+                if (children.length == 0)
+                    break;
+                Node child = MctsEngine.select(node, children);
+                child.visit();
+                Color mover = game.getTurnColor();
+                this.path[++depth] = child;
+                this.movers[depth] = mover;
+                int penalty = this.makeMove(game, moves, child.move);
+                plies++;
+                if (penalty != Game.RANDOM_PENALTY) {
+                    child = child.getOutcome(penalty, this.penalties);
+                    child.visit();
+                    this.path[++depth] = child;
+                    this.movers[depth] = mover;
+                }
+                node = child;
+            }
+            Color winner = this.playout(game);
+            for (int i = 1; i <= depth; i++)
+                if (winner == null)
+                    this.path[i].win(MctsEngine.DRAW);
+                else if (winner == this.movers[i])
+                    this.path[i].win(MctsEngine.WIN);
+            for (int i = 0; i < plies; i++)
+                game.unmakeMove();
+        }
+
+        private Color playout(Game game) {
+            MoveBuffer moves = this.playoutMoves;
+            Color winner = null;
+            int plies = 0;
+            while (true) {
+                game.generateMoves(moves);
+                if (moves.isEmpty()) {
+                    winner = game.getTurnColor().getOpposite();
+                    break;
+                }
+                if (plies == MctsEngine.MAXIMUM_PLAYOUT_PLY) {
+                    int score = this.evaluator.evaluate(game);
+                    if (score >= MctsEngine.DECISIVE_SCORE)
+                        winner = game.getTurnColor();
+                    else if (score <= -MctsEngine.DECISIVE_SCORE)
+                        winner = game.getTurnColor().getOpposite();
+                    break;
+                }
+                this.makeMove(game, moves, this.choose(moves));
+                plies++;
+            }
+            for (int i = 0; i < plies; i++)
+                game.unmakeMove();
+            return winner;
+        }
+
+        private int choose(MoveBuffer moves) {
+            int captures = 0;
+            for (int i = 0; i < moves.size(); i++)
+                if (moves.isCapture(i))
+                    captures++;
+            if (captures == 0)
+                return this.random.nextInt(moves.size());
+            int capture = this.random.nextInt(captures);
+            for (int i = 0;; i++)
+                if (moves.isCapture(i) && capture-- == 0)
+                    return i;
+        }
+
+        private int makeMove(Game game, MoveBuffer moves, int move) {
+            this.penalties = game.makeMove(moves, move, this.random);
+            if (this.penalties <= 1)
+                return Game.RANDOM_PENALTY;
+            return game.getLastPenalty();
+        }
+
+    }
+
+    private int maximumPlayouts;
+    private long maximumMillis;
+    private Worker[] workers;
+    private ExecutorService executorService;
+    private AtomicLong tickets;
+    private long deadline;
+    private volatile boolean stopped;
+    private volatile Node root;
+
+    public MctsEngine(int threads, int maximumPlayouts, long maximumMillis) {
+        this(threads, maximumPlayouts, maximumMillis, MctsEngine.DEFAULT_SEED);
+    }
+
+    public MctsEngine(int threads, int maximumPlayouts, long maximumMillis, long seed) {
+        assert threads > 0;
+        assert maximumPlayouts >= 0;
+        assert maximumMillis >= 0;
+        assert maximumPlayouts > 0 || maximumMillis > 0;
+        this.maximumPlayouts = maximumPlayouts;
+        this.maximumMillis = maximumMillis;
+        SplittableRandom random = new SplittableRandom(seed);
+        this.workers = new Worker[threads];
+        for (int i = 0; i < threads; i++)
+            this.workers[i] = new Worker(random.split());
+        this.executorService = Executors.newFixedThreadPool(Math.max(1, threads - 1), runnable -> {
+            Thread thread = new Thread(runnable, "mcts");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.tickets = new AtomicLong();
+    }
+
+    @Override
+    public Coordinate[] getMove(Game game) {
+        assert game != null;
+        MoveBuffer rootMoves = new MoveBuffer();
+        game.generateMoves(rootMoves);
+        if (rootMoves.isEmpty())
+            return null;
+        this.root = new Node(MctsEngine.ROOT_MOVE);
+        Node[] children = this.root.expand(rootMoves.size());
+        this.tickets.set(0);
+        this.deadline = Long.MAX_VALUE;
+        if (this.maximumMillis > 0)
+            this.deadline = System.currentTimeMillis() + this.maximumMillis;
+        this.stopped = rootMoves.size() == 1;
+        List<Future<Void>> helpers = new ArrayList<Future<Void>>();
+        for (int i = 1; i < this.workers.length; i++) {
+            Worker helper = this.workers[i];
+            Game copy = new Game(game);
+            helpers.add(this.executorService.submit(() -> helper.search(copy)));
+        }
+        this.workers[0].search(game);
+        for (Future<Void> helper : helpers)
+            try {
+                helper.get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException ex) {
+                throw new IllegalStateException(ex.getCause());
+            }
+        Node best = children[0];
+        for (Node child : children)
+            if (child.visits > best.visits || child.visits == best.visits && child.wins > best.wins)
+                best = child;
+        return rootMoves.getCoordinates(best.move);
+    }
+
+    private boolean next() {
+        if (this.stopped)
+            return false;
+        boolean next = (this.maximumPlayouts == 0 || this.tickets.incrementAndGet() <= this.maximumPlayouts)
+            && System.currentTimeMillis() < this.deadline;
+        if (!next)
+            this.stopped = true;
+        return next;
+    }
+
+    private static Node select(Node node, Node[] children) {
+        double logVisits = Math.log(Math.max(1, node.visits));
+        Node best = null;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (Node child : children) {
+            int visits = child.visits;
+            if (visits == 0)
+                return child;
+            double value = child.wins / (double) (MctsEngine.WIN * visits)
+                + MctsEngine.EXPLORATION * Math.sqrt(logVisits / visits);
+            if (value > bestValue) {
+                bestValue = value;
+                best = child;
+            }
+        }
+        return best;
+    }
+
+    public void shutdown() {
+        this.executorService.shutdownNow();
+    }
+
+    public int getThreads() {
+        return this.workers.length;
+    }
+
+    public long getPlayouts() {
+        long playouts = 0;
+        for (Worker worker : this.workers)
+            playouts += worker.playouts;
+        return playouts;
+    }
+
+}
@@ -0,0 +1,95 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import java.util.SplittableRandom;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.utils.Console;
+
+public class MctsReport {
+
+    private static final long DEFAULT_MILLIS = 100;
+    private static final int DEFAULT_GAMES = 10;
+    private static final int MAXIMUM_PLIES = 200;
+    private static final long SEED = 2020;
+    static final int MCTS_WINS = 0;
+    static final int ALPHA_BETA_WINS = 1;
+    static final int DRAWS = 2;
+    static final int PLAYOUTS = 3;
+    static final int MCTS_MILLIS = 4;
+
+    private Console console;
+    private long millis;
+    private int games;
+
+    public MctsReport(long millis, int games) {
+        assert millis > 0;
+        assert games > 0;
+        this.console = new Console();
+        this.millis = millis;
+        this.games = games;
+    }
+
+    public void report(int maximumThreads) {
+        assert maximumThreads > 0;
+        this.console.writeln("threads\tgames\tmcts\talpha-beta\tdraws\tscore\tplayouts/cpu-s");
+        for (int threads = 1; threads <= maximumThreads; threads *= 2) {
+            long[] result = this.play(threads);
+            double score = (result[MctsReport.MCTS_WINS] + result[MctsReport.DRAWS] / 2.0) / this.games;
+            this.console.writeln(threads + "\t" + this.games + "\t" + result[MctsReport.MCTS_WINS]
+                + "\t" + result[MctsReport.ALPHA_BETA_WINS] + "\t" + result[MctsReport.DRAWS]
+                + "\t" + String.format("%.3f", score) + "\t"
+                + result[MctsReport.PLAYOUTS] * 1000 / Math.max(1, result[MctsReport.MCTS_MILLIS] * threads));
+        }
+    }
+
+    long[] play(int threads) {
+        MctsEngine mctsEngine = new MctsEngine(threads, 0, Math.max(1, this.millis / threads));
+        AlphaBetaEngine alphaBetaEngine = new AlphaBetaEngine(AlphaBetaEngine.MAXIMUM_DEPTH, this.millis);
+        long[] result = new long[MctsReport.MCTS_MILLIS + 1];
+        SplittableRandom seeds = new SplittableRandom(MctsReport.SEED);
+        long gameSeed = 0;
+        for (int i = 0; i < this.games; i++) {
+            Color mctsColor = i % 2 == 0 ? Color.WHITE : Color.BLACK;
+            if (i % 2 == 0)
+                gameSeed = seeds.nextLong();
+            Game game = new Game(gameSeed);
+            int plies = 0;
+            while (!game.isBlocked() && plies < MctsReport.MAXIMUM_PLIES) {
+                Coordinate[] coordinates;
+                if (game.getTurnColor() == mctsColor) {
+                    long start = System.currentTimeMillis();
+                    coordinates = mctsEngine.getMove(game);
+                    result[MctsReport.MCTS_MILLIS] += System.currentTimeMillis() - start;
+                    result[MctsReport.PLAYOUTS] += mctsEngine.getPlayouts();
+                } else
+                    coordinates = alphaBetaEngine.getMove(game);
+                game.move(coordinates);
+                plies++;
+            }
+            if (!game.isBlocked())
+                result[MctsReport.DRAWS]++;
+            else if (game.getTurnColor() == mctsColor)
+                result[MctsReport.ALPHA_BETA_WINS]++;
+            else
+                result[MctsReport.MCTS_WINS]++;
+        }
+        mctsEngine.shutdown();
+        return result;
+    }
+
+    public static void main(String[] args) {
+        int maximumThreads = Runtime.getRuntime().availableProcessors();
+        long millis = MctsReport.DEFAULT_MILLIS;
+        int games = MctsReport.DEFAULT_GAMES;
+        if (args.length > 0)
+            maximumThreads = Integer.parseInt(args[0]);
+        if (args.length > 1)
+            millis = Long.parseLong(args[1]);
+        if (args.length > 2)
+            games = Integer.parseInt(args[2]);
+        new MctsReport(millis, games).report(maximumThreads);
+    }
+
+}
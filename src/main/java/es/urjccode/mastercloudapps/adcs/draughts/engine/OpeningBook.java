@@ -0,0 +1,182 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import es.urjccode.mastercloudapps.adcs.draughts.database.Continuation;
+import es.urjccode.mastercloudapps.adcs.draughts.database.PositionDatabase;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+import es.urjccode.mastercloudapps.adcs.draughts.models.PositionCodec;
+import es.urjccode.mastercloudapps.adcs.draughts.utils.Console;
+
+public class OpeningBook {
+
+    public static final int DEFAULT_MINIMUM_COUNT = 2;
+    public static final long DEFAULT_SEED = 0x6A09E667F3BCC909L;
+    private static final int MAGIC = 0x424F4F4B;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 2 * Integer.BYTES + Long.BYTES;
+    private static final int RECORD_SIZE = Long.BYTES + 2 * Integer.BYTES;
+    private static final int MOVE = Long.BYTES;
+    private static final int WEIGHT = OpeningBook.MOVE + Integer.BYTES;
+    private static final int NUMBER_BITS = 8;
+    private static final int NUMBER_MASK = (1 << OpeningBook.NUMBER_BITS) - 1;
+    private static final int BENCHMARK_PROBES = 1 << 20;
+
+    private MappedByteBuffer buffer;
+    private long records;
+    private SplittableRandom random;
+    private MoveBuffer moves;
+    private int[] candidates;
+    private int[] weights;
+
+    public OpeningBook(Path path, long seed) throws IOException {
+        assert path != null;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (this.buffer.capacity() < OpeningBook.HEADER_SIZE || this.buffer.getInt(0) != OpeningBook.MAGIC
+                || this.buffer.getInt(Integer.BYTES) != OpeningBook.VERSION)
+            throw new IOException("not an opening book: " + path);
+        this.records = this.buffer.getLong(2 * Integer.BYTES);
+        if (OpeningBook.HEADER_SIZE + this.records * OpeningBook.RECORD_SIZE != this.buffer.capacity())
+            throw new IOException("truncated opening book: " + path);
+        this.setSeed(seed);
+        this.moves = new MoveBuffer();
+        this.candidates = new int[0];
+        this.weights = new int[0];
+    }
+
+    public synchronized void setSeed(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    public synchronized Coordinate[] probe(Game game) {
+        assert game != null;
+        long key = game.getKey();
+        long record = this.find(key);
+        if (record == this.records)
+            return null;
+        game.generateMoves(this.moves);
+        int size = 0;
+        long total = 0;
+        for (; record < this.records && this.getKey(record) == key; record++) {
+            int move = this.buffer.getInt(OpeningBook.getPosition(record) + OpeningBook.MOVE);
+            int candidate = this.moves.find(PositionCodec.getCoordinate(move >>> OpeningBook.NUMBER_BITS),
+                PositionCodec.getCoordinate(move & OpeningBook.NUMBER_MASK));
+            int weight = this.buffer.getInt(OpeningBook.getPosition(record) + OpeningBook.WEIGHT);
+            if (candidate >= 0 && weight > 0) {
+                if (size == this.candidates.length) {
+                    this.candidates = Arrays.copyOf(this.candidates, size * 2 + 1);
+                    this.weights = Arrays.copyOf(this.weights, size * 2 + 1);
+                }
+                this.candidates[size] = candidate;
+                this.weights[size] = weight;
+                size++;
+                total += weight;
+            }
+        }
+        if (size == 0)
+            return null;
+        long chosen = (long) (this.random.nextDouble() * total);
+        for (int i = 0; i < size - 1; i++) {
+            chosen -= this.weights[i];
+            if (chosen < 0)
+                return this.moves.getCoordinates(this.candidates[i]);
+        }
+        return this.moves.getCoordinates(this.candidates[size - 1]);
+    }
+
+    private long find(long key) {
+        long low = 0;
+        long high = this.records;
+        while (low < high) {
+            long middle = low + high >>> 1;
+            if (this.getKey(middle) < key)
+                low = middle + 1;
+            else
+                high = middle;
+        }
+        if (low < this.records && this.getKey(low) == key)
+            return low;
+        return this.records;
+    }
+
+    private long getKey(long record) {
+        return this.buffer.getLong(OpeningBook.getPosition(record));
+    }
+
+    private static int getPosition(long record) {
+        return (int) (OpeningBook.HEADER_SIZE + record * OpeningBook.RECORD_SIZE);
+    }
+
+    public long getRecords() {
+        return this.records;
+    }
+
+    public static long write(Path path, PositionDatabase database, int minimumCount) throws IOException {
+        assert path != null && database != null;
+        assert minimumCount > 0;
+        List<long[]> records = new ArrayList<long[]>();
+        database.forEach(statistics -> {
+            for (Continuation continuation : statistics.getContinuations())
+                if (continuation.getCount() >= minimumCount)
+                    records.add(new long[] { statistics.getKey(),
+                        (long) (PositionCodec.getNumber(continuation.getOrigin()) << OpeningBook.NUMBER_BITS
+                            | PositionCodec.getNumber(continuation.getTarget())) << Integer.SIZE
+                            | Math.min(continuation.getCount(), Integer.MAX_VALUE) });
+        });
+        records.sort(Comparator.<long[]>comparingLong(record -> record[0])
+            .thenComparing(Comparator.<long[]>comparingLong(record -> (int) record[1]).reversed()));
+        ByteBuffer buffer = ByteBuffer.allocate(OpeningBook.HEADER_SIZE + records.size() * OpeningBook.RECORD_SIZE);
+        buffer.putInt(OpeningBook.MAGIC);
+        buffer.putInt(OpeningBook.VERSION);
+        buffer.putLong(records.size());
+        for (long[] record : records)
+            buffer.putLong(record[0]).putLong(record[1]);
+        buffer.flip();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+            channel.force(true);
+        }
+        return records.size();
+    }
+
+    public static void main(String[] args) throws IOException {
+        Console console = new Console();
+        if (args.length < 2) {
+            console.writeln("usage: OpeningBook <database> <book> [minimumCount] [seed]");
+            return;
+        }
+        int minimumCount = OpeningBook.DEFAULT_MINIMUM_COUNT;
+        if (args.length > 2)
+            minimumCount = Integer.parseInt(args[2]);
+        long seed = OpeningBook.DEFAULT_SEED;
+        if (args.length > 3)
+            seed = Long.parseLong(args[3]);
+        try (PositionDatabase database = new PositionDatabase(Paths.get(args[0]))) {
+            console.writeln(OpeningBook.write(Paths.get(args[1]), database, minimumCount) + " records");
+        }
+        OpeningBook book = new OpeningBook(Paths.get(args[1]), seed);
+        Game game = new Game();
+        long start = System.nanoTime();
+        for (int i = 0; i < OpeningBook.BENCHMARK_PROBES; i++)
+            book.probe(game);
+        console.writeln("probe ns\t" + (System.nanoTime() - start) / OpeningBook.BENCHMARK_PROBES);
+    }
+
+}
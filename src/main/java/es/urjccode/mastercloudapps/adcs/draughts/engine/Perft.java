@@ -0,0 +1,152 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+import es.urjccode.mastercloudapps.adcs.draughts.utils.Console;
+
+public class Perft {
+
+    private static final int DEFAULT_DEPTH = 7;
+
+    private MoveBuffer[] moves;
+
+    public Perft() {
+        this.moves = new MoveBuffer[0];
+    }
+
+    public long perft(Game game, int depth) {
+        assert game != null;
+        assert depth >= 0;
+        if (this.moves.length < depth) {
+            this.moves = new MoveBuffer[depth];
+            for (int i = 0; i < depth; i++)
+                this.moves[i] = new MoveBuffer();
+        }
+        return this.count(game, depth);
+    }
+
+    private long count(Game game, int depth) {
+        if (depth == 0)
+            return 1;
+        MoveBuffer moves = this.moves[depth - 1];
+        game.generateMoves(moves);
+        long nodes = 0;
+        for (int move = 0; move < moves.size(); move++) {
+            int penalties = game.makeMove(moves, move, 0);
+            nodes += depth == 1 ? 1 : this.count(game, depth - 1);
+            game.unmakeMove();
+            for (int penalty = 1; penalty < penalties; penalty++) {
+                game.makeMove(moves, move, penalty);
+                nodes += depth == 1 ? 1 : this.count(game, depth - 1);
+                game.unmakeMove();
+            }
+        }
+        return nodes;
+    }
+
+    public Map<String, Long> divide(Game game, int depth) {
+        assert game != null;
+        assert depth > 0;
+        Map<String, Long> divide = new LinkedHashMap<String, Long>();
+        MoveBuffer moves = new MoveBuffer();
+        game.generateMoves(moves);
+        for (int move = 0; move < moves.size(); move++) {
+            long nodes = 0;
+            int penalties = 1;
+            for (int penalty = 0; penalty < penalties; penalty++) {
+                penalties = Math.max(1, game.makeMove(moves, move, penalty));
+                nodes += this.perft(game, depth - 1);
+                game.unmakeMove();
+            }
+            divide.put(moves.toString(move), nodes);
+        }
+        return divide;
+    }
+
+    public static long parallelPerft(Game game, int depth, ForkJoinPool forkJoinPool) {
+        assert game != null;
+        assert depth > 0;
+        assert forkJoinPool != null;
+        return forkJoinPool.invoke(new RootTask(game, depth));
+    }
+
+    private static class RootTask extends RecursiveTask<Long> {
+
+        private static final long serialVersionUID = 1L;
+
+        private Game game;
+        private int depth;
+
+        RootTask(Game game, int depth) {
+            this.game = game;
+            this.depth = depth;
+        }
+
+        @Override
+        protected Long compute() {
+            MoveBuffer moves = new MoveBuffer();
+            this.game.generateMoves(moves);
+            List<MoveTask> tasks = new ArrayList<MoveTask>();
+            for (int move = 0; move < moves.size(); move++) {
+                int penalties = this.game.makeMove(moves, move, 0);
+                this.game.unmakeMove();
+                for (int penalty = 0; penalty < Math.max(1, penalties); penalty++)
+                    tasks.add(new MoveTask(this.game, moves, move, penalty, this.depth - 1));
+            }
+            long nodes = 0;
+            for (MoveTask task : RecursiveTask.invokeAll(tasks))
+                nodes += task.join();
+            return nodes;
+        }
+
+    }
+
+    private static class MoveTask extends RecursiveTask<Long> {
+
+        private static final long serialVersionUID = 1L;
+
+        private Game game;
+        private int depth;
+
+        MoveTask(Game game, MoveBuffer moves, int move, int penalty, int depth) {
+            this.game = new Game(game);
+            this.game.makeMove(moves, move, penalty);
+            this.depth = depth;
+        }
+
+        @Override
+        protected Long compute() {
+            return new Perft().perft(this.game, this.depth);
+        }
+
+    }
+
+    public static void main(String[] args) {
+        int depth = Perft.DEFAULT_DEPTH;
+        if (args.length > 0)
+            depth = Integer.parseInt(args[0]);
+        Console console = new Console();
+        console.writeln("depth\tnodes\tmillis\tnps\tmode");
+        for (int i = 1; i <= depth; i++) {
+            long start = System.currentTimeMillis();
+            long nodes = new Perft().perft(new Game(), i);
+            Perft.report(console, i, nodes, System.currentTimeMillis() - start, "sequential");
+            start = System.currentTimeMillis();
+            nodes = Perft.parallelPerft(new Game(), i, ForkJoinPool.commonPool());
+            Perft.report(console, i, nodes, System.currentTimeMillis() - start,
+                "parallel(" + ForkJoinPool.commonPool().getParallelism() + ")");
+        }
+    }
+
+    private static void report(Console console, int depth, long nodes, long millis, String mode) {
+        console.writeln(depth + "\t" + nodes + "\t" + millis + "\t" + nodes * 1000 / Math.max(1, millis) + "\t" + mode);
+    }
+
+}
@@ -0,0 +1,137 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+public class TranspositionTable {
+
+    public static final int DEFAULT_MEGABYTES = 16;
+    static final int EXACT = 1;
+    static final int LOWER = 2;
+    static final int UPPER = 3;
+    static final int NONE_MOVE = 0xFFF;
+    private static final int BYTES_PER_MEGABYTE = 1 << 20;
+    private static final int LONGS_PER_ENTRY = 2;
+    private static final int ENTRIES_PER_BUCKET = 2;
+    private static final int LONGS_PER_BUCKET = TranspositionTable.LONGS_PER_ENTRY * TranspositionTable.ENTRIES_PER_BUCKET;
+    private static final int DEPTH_PREFERRED = 0;
+    private static final int ALWAYS_REPLACE = TranspositionTable.LONGS_PER_ENTRY;
+    private static final int SCORE_BITS = 32;
+    private static final int DEPTH_SHIFT = TranspositionTable.SCORE_BITS;
+    private static final int BOUND_SHIFT = TranspositionTable.DEPTH_SHIFT + 8;
+    private static final int MOVE_SHIFT = TranspositionTable.BOUND_SHIFT + 2;
+    private static final int GENERATION_SHIFT = TranspositionTable.MOVE_SHIFT + 12;
+
+    private long[] entries;
+    private long mask;
+    private volatile int generation;
+    private LongAdder hits;
+    private LongAdder misses;
+    private LongAdder collisions;
+
+    public TranspositionTable(int megabytes) {
+        assert megabytes > 0;
+        long buckets = Long.highestOneBit((long) megabytes * TranspositionTable.BYTES_PER_MEGABYTE
+            / (TranspositionTable.LONGS_PER_BUCKET * Long.BYTES));
+        assert buckets * TranspositionTable.LONGS_PER_BUCKET <= Integer.MAX_VALUE;
+        this.entries = new long[(int) buckets * TranspositionTable.LONGS_PER_BUCKET];
+        this.mask = buckets - 1;
+        this.generation = 0;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.collisions = new LongAdder();
+    }
+
+    public TranspositionTable() {
+        this(TranspositionTable.DEFAULT_MEGABYTES);
+    }
+
+    public void nextGeneration() {
+        this.generation = (this.generation + 1) & 0xFF;
+    }
+
+    public void clear() {
+        Arrays.fill(this.entries, 0);
+        this.generation = 0;
+        this.hits.reset();
+        this.misses.reset();
+        this.collisions.reset();
+    }
+
+    long probe(long key) {
+        int bucket = this.getBucket(key);
+        for (int entry = bucket; entry < bucket + TranspositionTable.LONGS_PER_BUCKET; entry += TranspositionTable.LONGS_PER_ENTRY) {
+            long data = this.entries[entry + 1];
+            if (data != 0 && (this.entries[entry] ^ data) == key) {
+                this.hits.increment();
+                return data;
+            }
+        }
+        this.misses.increment();
+        return 0;
+    }
+
+    void store(long key, int depth, int bound, int score, int move) {
+        assert 0 <= depth && depth <= 0xFF;
+        assert bound == TranspositionTable.EXACT || bound == TranspositionTable.LOWER || bound == TranspositionTable.UPPER;
+        assert 0 <= move && move <= TranspositionTable.NONE_MOVE;
+        long data = (score & 0xFFFFFFFFL)
+            | (long) depth << TranspositionTable.DEPTH_SHIFT
+            | (long) bound << TranspositionTable.BOUND_SHIFT
+            | (long) move << TranspositionTable.MOVE_SHIFT
+            | (long) this.generation << TranspositionTable.GENERATION_SHIFT;
+        int bucket = this.getBucket(key);
+        int entry = bucket + TranspositionTable.ALWAYS_REPLACE;
+        long preferredData = this.entries[bucket + TranspositionTable.DEPTH_PREFERRED + 1];
+        if (preferredData == 0 || (this.entries[bucket] ^ preferredData) == key
+                || TranspositionTable.getDepth(preferredData) <= depth
+                || TranspositionTable.getGeneration(preferredData) != this.generation)
+            entry = bucket + TranspositionTable.DEPTH_PREFERRED;
+        long previousData = this.entries[entry + 1];
+        if (previousData != 0 && (this.entries[entry] ^ previousData) != key)
+            this.collisions.increment();
+        this.entries[entry] = key ^ data;
+        this.entries[entry + 1] = data;
+    }
+
+    private int getBucket(long key) {
+        return (int) (key & this.mask) * TranspositionTable.LONGS_PER_BUCKET;
+    }
+
+    static int getScore(long data) {
+        return (int) data;
+    }
+
+    static int getDepth(long data) {
+        return (int) (data >>> TranspositionTable.DEPTH_SHIFT) & 0xFF;
+    }
+
+    static int getBound(long data) {
+        return (int) (data >>> TranspositionTable.BOUND_SHIFT) & 0x3;
+    }
+
+    static int getMove(long data) {
+        return (int) (data >>> TranspositionTable.MOVE_SHIFT) & TranspositionTable.NONE_MOVE;
+    }
+
+    private static int getGeneration(long data) {
+        return (int) (data >>> TranspositionTable.GENERATION_SHIFT) & 0xFF;
+    }
+
+    public int getBuckets() {
+        return (int) this.mask + 1;
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    public long getCollisions() {
+        return this.collisions.sum();
+    }
+
+}
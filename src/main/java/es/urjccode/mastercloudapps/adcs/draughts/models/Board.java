@@ -6,28 +6,160 @@ import java.util.List;
 
 class Board {
 
-    private Piece[][] pieces;
+    private static final int ROW_SQUARES = Coordinate.getDimension() / 2;
+    static final int SQUARES = Coordinate.getDimension() * Board.ROW_SQUARES;
+    static final int STATE_SIZE = 4;
+    private static final int NONE = -1;
+    private static final Color[] COLORS = Color.values();
+    private static final Piece[] PAWNS = { new Pawn(Color.WHITE), new Pawn(Color.BLACK) };
+    private static final Piece[] DRAUGHTS = { new Draught(Color.WHITE), new Draught(Color.BLACK) };
+    private static final int[][] NEIGHBOURS = Board.getNeighbours();
+    private static final int[][] RAYS = Board.getRays();
+    private static final int[][] BETWEENS = Board.getBetweens();
+    private static final boolean[][] ADVANCES = Board.getAdvances();
+    private static final int[] LIMITS = Board.getLimits();
+
+    private int[] colors;
+    private int draughts;
+    private long key;
+    private int[] path;
 
     Board() {
-        this.pieces = new Piece[Coordinate.getDimension()][Coordinate.getDimension()];
-        for (int i = 0; i < Coordinate.getDimension(); i++)
-            for (int j = 0; j < Coordinate.getDimension(); j++)
-                this.pieces[i][j] = null;
+        this.colors = new int[Color.values().length];
+        this.draughts = 0;
+        this.key = 0;
+        this.path = new int[Board.SQUARES + 1];
+    }
+
+    Board(Board board) {
+        this();
+        this.colors = board.colors.clone();
+        this.draughts = board.draughts;
+        this.key = board.key;
+    }
+
+    static int getSquare(Coordinate coordinate) {
+        assert coordinate.isBlack();
+        return coordinate.getRow() * Board.ROW_SQUARES + coordinate.getColumn() / 2;
+    }
+
+    static Coordinate getCoordinate(int square) {
+        assert 0 <= square && square < Board.SQUARES;
+        int row = square / Board.ROW_SQUARES;
+        return Coordinate.of(row, square % Board.ROW_SQUARES * 2 + (row + 1) % 2);
+    }
+
+    private static int[][] getNeighbours() {
+        int[][] neighbours = new int[Direction.values().length][Board.SQUARES];
+        for (Direction direction : Direction.values())
+            for (int square = 0; square < Board.SQUARES; square++) {
+                Coordinate neighbour = Board.getCoordinate(square).getNeighbour(direction);
+                neighbours[direction.ordinal()][square] = Board.NONE;
+                if (neighbour != null)
+                    neighbours[direction.ordinal()][square] = Board.getSquare(neighbour);
+            }
+        return neighbours;
+    }
+
+    private static int[][] getRays() {
+        int[][] rays = new int[Direction.values().length][Board.SQUARES];
+        for (int direction = 0; direction < rays.length; direction++)
+            for (int square = 0; square < Board.SQUARES; square++)
+                for (int cursor = Board.NEIGHBOURS[direction][square]; cursor != Board.NONE;
+                        cursor = Board.NEIGHBOURS[direction][cursor])
+                    rays[direction][square] |= 1 << cursor;
+        return rays;
+    }
+
+    private static int[][] getBetweens() {
+        int[][] betweens = new int[Board.SQUARES][Board.SQUARES];
+        for (int direction = 0; direction < Board.RAYS.length; direction++)
+            for (int square = 0; square < Board.SQUARES; square++)
+                for (int target = 0; target < Board.SQUARES; target++)
+                    if ((Board.RAYS[direction][square] & 1 << target) != 0)
+                        betweens[square][target] = Board.RAYS[direction][square] & ~Board.RAYS[direction][target]
+                            & ~(1 << target);
+        return betweens;
+    }
+
+    private static int getNearestSquare(int direction, int square, int squares) {
+        squares &= Board.RAYS[direction][square];
+        if (squares == 0)
+            return Board.NONE;
+        if (Board.NEIGHBOURS[direction][square] > square)
+            return Integer.numberOfTrailingZeros(squares);
+        return Integer.SIZE - 1 - Integer.numberOfLeadingZeros(squares);
+    }
+
+    private static boolean[][] getAdvances() {
+        boolean[][] advances = new boolean[Color.values().length][Direction.values().length];
+        Coordinate origin = Coordinate.of(0, 0);
+        for (Color color : Color.values())
+            for (Direction direction : Direction.values())
+                advances[color.ordinal()][direction.ordinal()] =
+                    Board.PAWNS[color.ordinal()].isAdvanced(origin, direction.getDistanceCoordinate(1));
+        return advances;
+    }
+
+    private static int[] getLimits() {
+        int[] limits = new int[Color.values().length];
+        for (Color color : Color.values())
+            for (int square = 0; square < Board.SQUARES; square++)
+                if (Board.PAWNS[color.ordinal()].isLimit(Board.getCoordinate(square)))
+                    limits[color.ordinal()] |= 1 << square;
+        return limits;
     }
 
     Piece getPiece(Coordinate coordinate) {
         assert coordinate != null;
-        return this.pieces[coordinate.getRow()][coordinate.getColumn()];
+        if (!coordinate.isBlack())
+            return null;
+        return this.getPiece(Board.getSquare(coordinate));
+    }
+
+    private Piece getPiece(int square) {
+        Color color = this.getColor(square);
+        if (color == null)
+            return null;
+        if ((this.draughts & 1 << square) != 0)
+            return Board.DRAUGHTS[color.ordinal()];
+        return Board.PAWNS[color.ordinal()];
     }
 
     void put(Coordinate coordinate, Piece piece) {
-        this.pieces[coordinate.getRow()][coordinate.getColumn()] = piece;
+        assert piece == null || coordinate.isBlack();
+        if (coordinate.isBlack())
+            this.put(Board.getSquare(coordinate), piece);
+    }
+
+    private void put(int square, Piece piece) {
+        if (!this.isEmpty(square))
+            this.remove(square);
+        if (piece != null)
+            this.put(square, piece.getColor(), piece.isDraught());
+    }
+
+    private void put(int square, Color color, boolean isDraught) {
+        assert this.isEmpty(square);
+        this.colors[color.ordinal()] |= 1 << square;
+        if (isDraught)
+            this.draughts |= 1 << square;
+        this.key ^= Zobrist.getPiece(color, isDraught, square);
+    }
+
+    void remove(int square) {
+        assert !this.isEmpty(square);
+        this.key ^= Zobrist.getPiece(this.getColor(square), (this.draughts & 1 << square) != 0, square);
+        for (int i = 0; i < this.colors.length; i++)
+            this.colors[i] &= ~(1 << square);
+        this.draughts &= ~(1 << square);
     }
 
     Piece remove(Coordinate coordinate) {
         assert this.getPiece(coordinate) != null;
-        Piece piece = this.getPiece(coordinate);
-        this.put(coordinate, null);
+        int square = Board.getSquare(coordinate);
+        Piece piece = this.getPiece(square);
+        this.remove(square);
         return piece;
     }
 
@@ -36,96 +168,178 @@ class Board {
         this.put(target, this.remove(origin));
     }
 
+    void move(MoveBuffer moves, int move) {
+        int origin = moves.getSquare(move, 0);
+        int length = moves.getLength(move);
+        Color color = this.getColor(origin);
+        boolean isDraught = (this.draughts & 1 << origin) != 0;
+        for (int i = 1; i < length; i++)
+            isDraught |= (Board.LIMITS[color.ordinal()] & 1 << moves.getSquare(move, i)) != 0;
+        for (int captures = moves.getCaptures(move); captures != 0; captures &= captures - 1)
+            this.remove(Integer.numberOfTrailingZeros(captures));
+        this.remove(origin);
+        this.put(moves.getSquare(move, length - 1), color, isDraught);
+    }
+
+    void setPosition(int whiteSquares, int blackSquares, int draughtSquares) {
+        assert (whiteSquares & blackSquares) == 0;
+        assert (draughtSquares & ~(whiteSquares | blackSquares)) == 0;
+        for (int i = 0; i < Board.SQUARES; i++) {
+            if (!this.isEmpty(i))
+                this.remove(i);
+            if ((whiteSquares & 1 << i) != 0)
+                this.put(i, Color.WHITE, (draughtSquares & 1 << i) != 0);
+            else if ((blackSquares & 1 << i) != 0)
+                this.put(i, Color.BLACK, (draughtSquares & 1 << i) != 0);
+        }
+    }
+
+    void save(long[] states, int offset) {
+        states[offset] = this.colors[Color.WHITE.ordinal()];
+        states[offset + 1] = this.colors[Color.BLACK.ordinal()];
+        states[offset + 2] = this.draughts;
+        states[offset + 3] = this.key;
+    }
+
+    void restore(long[] states, int offset) {
+        this.colors[Color.WHITE.ordinal()] = (int) states[offset];
+        this.colors[Color.BLACK.ordinal()] = (int) states[offset + 1];
+        this.draughts = (int) states[offset + 2];
+        this.key = states[offset + 3];
+    }
+
+    int getPawnSquares(Color color) {
+        return this.colors[color.ordinal()] & ~this.draughts;
+    }
+
+    int getDraughtSquares(Color color) {
+        return this.colors[color.ordinal()] & this.draughts;
+    }
+
+    long getKey() {
+        return this.key;
+    }
+
     List<Piece> getBetweenDiagonalPieces(Coordinate origin, Coordinate target) {
         List<Piece> betweenDiagonalPieces = new ArrayList<Piece>();
-        if (origin.isOnDiagonal(target))
-            for (Coordinate coordinate : origin.getBetweenDiagonalCoordinates(target)) {
-                Piece piece = this.getPiece(coordinate);
-                if (piece != null)
-                    betweenDiagonalPieces.add(piece);
-            }
+        if (origin.isOnDiagonal(target)) {
+            int betweenSquares = this.getBetweenDiagonalSquares(origin, target) & this.getOccupiedSquares();
+            for (; betweenSquares != 0; betweenSquares &= betweenSquares - 1)
+                betweenDiagonalPieces.add(this.getPiece(Integer.numberOfTrailingZeros(betweenSquares)));
+        }
         return betweenDiagonalPieces;
     }
 
+    private int getBetweenDiagonalSquares(Coordinate origin, Coordinate target) {
+        assert origin.isOnDiagonal(target);
+        return Board.BETWEENS[Board.getSquare(origin)][Board.getSquare(target)];
+    }
+
+    private int getOccupiedSquares() {
+        int occupiedSquares = 0;
+        for (int i = 0; i < this.colors.length; i++)
+            occupiedSquares |= this.colors[i];
+        return occupiedSquares;
+    }
+
     Color getColor(Coordinate coordinate) {
-        final Piece piece = this.getPiece(coordinate);
-        if (piece == null)
+        if (!coordinate.isBlack())
             return null;
-        return piece.getColor();
+        return this.getColor(Board.getSquare(coordinate));
+    }
+
+    private Color getColor(int square) {
+        for (Color color : Board.COLORS)
+            if ((this.colors[color.ordinal()] & 1 << square) != 0)
+                return color;
+        return null;
     }
 
     boolean isEmpty(Coordinate coordinate) {
         return this.getPiece(coordinate) == null;
     }
 
+    private boolean isEmpty(int square) {
+        return (this.getOccupiedSquares() & 1 << square) == 0;
+    }
+
     @Override
     public String toString() {
-        String string = "";
-        string += this.toStringHorizontalNumbers();
+        StringBuilder string = new StringBuilder();
+        this.appendHorizontalNumbers(string);
         for (int i = 0; i < Coordinate.getDimension(); i++)
-            string += this.toStringHorizontalPiecesWithNumbers(i);
-        string += this.toStringHorizontalNumbers();
-        return string;
+            this.appendHorizontalPiecesWithNumbers(string, i);
+        this.appendHorizontalNumbers(string);
+        return string.toString();
     }
 
-    private String toStringHorizontalNumbers() {
-        String string = " ";
+    private void appendHorizontalNumbers(StringBuilder string) {
+        string.append(' ');
         for (int j = 0; j < Coordinate.getDimension(); j++)
-            string += j;
-        return string + "\n";
+            string.append(j);
+        string.append('\n');
     }
 
-    private String toStringHorizontalPiecesWithNumbers(int row) {
-        String string = " " + row;
+    private void appendHorizontalPiecesWithNumbers(StringBuilder string, int row) {
+        string.append(' ').append(row);
         for (int j = 0; j < Coordinate.getDimension(); j++) {
-            Piece piece = this.getPiece(new Coordinate(row, j));
+            Piece piece = this.getPiece(Coordinate.of(row, j));
             if (piece == null)
-                string += " ";
-            else {
-                string += piece;
-            }
+                string.append(' ');
+            else
+                string.append(piece);
         }
-        return string + row + "\n";
+        string.append(row).append('\n');
     }
 
     public List<Coordinate> getCoordinatesWithPieceCanEat(Color color, Coordinate lastMoveCoordinate) {
         assert color != null;
         List<Coordinate> piecesCanEat = new ArrayList<Coordinate>();
-        List<Coordinate> coordinatesWithActualColor = getCoordinatesWithActualColor(color);
-        for (Coordinate coordinate : coordinatesWithActualColor) {
-            Piece piece = getPiece(coordinate);
-            if (!lastMoveCoordinate.equals(coordinate) && this.canEat(piece, coordinate))
-                piecesCanEat.add(coordinate);
+        int lastMoveSquare = Board.NONE;
+        if (lastMoveCoordinate.isBlack())
+            lastMoveSquare = Board.getSquare(lastMoveCoordinate);
+        for (int squares = this.getSquaresWithPieceCanEat(color, lastMoveSquare); squares != 0; squares &= squares - 1)
+            piecesCanEat.add(Board.getCoordinate(Integer.numberOfTrailingZeros(squares)));
+        return piecesCanEat;
+    }
+
+    int getSquaresWithPieceCanEat(Color color, int lastMoveSquare) {
+        assert color != null;
+        int piecesCanEat = 0;
+        int squares = this.colors[color.ordinal()];
+        if (lastMoveSquare != Board.NONE)
+            squares &= ~(1 << lastMoveSquare);
+        for (; squares != 0; squares &= squares - 1) {
+            int square = Integer.numberOfTrailingZeros(squares);
+            if (this.canEat(square))
+                piecesCanEat |= 1 << square;
         }
         return piecesCanEat;
     }
 
-    private boolean canEat(Piece piece, Coordinate coordinate) {
-        for (int nivel = 1; nivel < Coordinate.getDimension(); nivel++) {
-            List<Coordinate> diagonalCoordinates = coordinate.getDiagonalCoordinates(nivel);
-            for (Coordinate diagonalCoordinate : diagonalCoordinates) {
-                Coordinate[] coordinates = {coordinate, diagonalCoordinate};
-                if (canMoveEating(piece, coordinates))
+    private boolean canEat(int square) {
+        Color color = this.getColor(square);
+        boolean isDraught = (this.draughts & 1 << square) != 0;
+        int occupiedSquares = this.getOccupiedSquares();
+        int oppositeSquares = occupiedSquares & ~this.colors[color.ordinal()];
+        for (int direction = 0; direction < Board.NEIGHBOURS.length; direction++) {
+            if (!this.canAdvance(color, square, direction))
+                continue;
+            int cursor = Board.NEIGHBOURS[direction][square];
+            if (isDraught)
+                cursor = Board.getNearestSquare(direction, square, occupiedSquares);
+            if (cursor != Board.NONE && (oppositeSquares & 1 << cursor) != 0) {
+                int landing = Board.NEIGHBOURS[direction][cursor];
+                if (landing != Board.NONE && (occupiedSquares & 1 << landing) == 0)
                     return true;
             }
         }
         return false;
     }
 
-    private boolean canMoveEating(Piece piece, Coordinate... coordinates) {
-        List<Piece> beetweenDiagonalPieces = getBetweenDiagonalPieces(coordinates[0], coordinates[coordinates.length - 1]);
-        Error error = piece.isCorrectMovement(beetweenDiagonalPieces, 0, coordinates);
-        if (error == null && !beetweenDiagonalPieces.isEmpty() && isEmpty(coordinates[coordinates.length - 1]))
-            return true;
-        return false;
-    }
-
     @Override
     public int hashCode() {
-        final int prime = 31;
-        int result = 1;
-        result = prime * result + Arrays.deepHashCode(pieces);
-        return result;
+        return (int) (this.key ^ this.key >>> 32);
     }
 
     @Override
@@ -137,21 +351,96 @@ class Board {
         if (getClass() != obj.getClass())
             return false;
         Board other = (Board) obj;
-        if (!Arrays.deepEquals(pieces, other.pieces))
+        if (!Arrays.equals(colors, other.colors))
+            return false;
+        if (draughts != other.draughts)
             return false;
         return true;
     }
 
     List<Coordinate> getCoordinatesWithActualColor(Color color) {
         List<Coordinate> coordinates = new ArrayList<Coordinate>();
-        for (int i = 0; i < Coordinate.getDimension(); i++) {
-            for (int j = 0; j < Coordinate.getDimension(); j++) {
-                Coordinate coordinate = new Coordinate(i, j);
-                Piece piece = getPiece(coordinate);
-                if (piece != null && piece.getColor() == color)
-                    coordinates.add(coordinate);
+        for (int squares = this.colors[color.ordinal()]; squares != 0; squares &= squares - 1)
+            coordinates.add(Board.getCoordinate(Integer.numberOfTrailingZeros(squares)));
+        return coordinates;
+    }
+
+    boolean isBlocked(Color color) {
+        int emptySquares = ~this.getOccupiedSquares();
+        for (int squares = this.colors[color.ordinal()]; squares != 0; squares &= squares - 1) {
+            int square = Integer.numberOfTrailingZeros(squares);
+            for (int direction = 0; direction < Board.NEIGHBOURS.length; direction++) {
+                int neighbour = Board.NEIGHBOURS[direction][square];
+                if (this.canAdvance(color, square, direction) && neighbour != Board.NONE
+                        && (emptySquares & 1 << neighbour) != 0)
+                    return false;
+            }
+            if (this.canEat(square))
+                return false;
+        }
+        return true;
+    }
+
+    private boolean canAdvance(Color color, int square, int direction) {
+        return (this.draughts & 1 << square) != 0 || Board.ADVANCES[color.ordinal()][direction];
+    }
+
+    void generateMoves(Color color, MoveBuffer moves) {
+        assert color != null;
+        moves.clear();
+        int ownSquares = this.colors[color.ordinal()];
+        int oppositeSquares = this.getOccupiedSquares() & ~ownSquares;
+        for (int squares = ownSquares; squares != 0; squares &= squares - 1) {
+            int square = Integer.numberOfTrailingZeros(squares);
+            this.path[0] = square;
+            this.generateCaptures(color, (this.draughts & 1 << square) != 0, ownSquares & ~(1 << square),
+                oppositeSquares, 0, 1, moves);
+        }
+        for (int squares = ownSquares; squares != 0; squares &= squares - 1)
+            this.generateSimpleMoves(color, Integer.numberOfTrailingZeros(squares), moves);
+    }
+
+    private void generateCaptures(Color color, boolean isDraught, int ownSquares, int oppositeSquares,
+            int captures, int length, MoveBuffer moves) {
+        int square = this.path[length - 1];
+        for (int direction = 0; direction < Board.NEIGHBOURS.length; direction++) {
+            if (!isDraught && !Board.ADVANCES[color.ordinal()][direction])
+                continue;
+            int occupiedSquares = ownSquares | oppositeSquares;
+            int cursor = Board.NEIGHBOURS[direction][square];
+            if (isDraught)
+                cursor = Board.getNearestSquare(direction, square, occupiedSquares);
+            if (cursor == Board.NONE || (oppositeSquares & 1 << cursor) == 0)
+                continue;
+            int capture = 1 << cursor;
+            int landing = Board.NEIGHBOURS[direction][cursor];
+            while (landing != Board.NONE && (occupiedSquares & 1 << landing) == 0) {
+                this.path[length] = landing;
+                moves.add(this.path, length + 1, captures | capture);
+                this.generateCaptures(color, isDraught || (Board.LIMITS[color.ordinal()] & 1 << landing) != 0,
+                    ownSquares, oppositeSquares & ~capture, captures | capture, length + 1, moves);
+                if (!isDraught)
+                    break;
+                landing = Board.NEIGHBOURS[direction][landing];
+            }
+        }
+    }
+
+    private void generateSimpleMoves(Color color, int square, MoveBuffer moves) {
+        boolean isDraught = (this.draughts & 1 << square) != 0;
+        int occupiedSquares = this.getOccupiedSquares();
+        this.path[0] = square;
+        for (int direction = 0; direction < Board.NEIGHBOURS.length; direction++) {
+            if (!this.canAdvance(color, square, direction))
+                continue;
+            int cursor = Board.NEIGHBOURS[direction][square];
+            while (cursor != Board.NONE && (occupiedSquares & 1 << cursor) == 0) {
+                this.path[1] = cursor;
+                moves.add(this.path, 2, 0);
+                if (!isDraught)
+                    break;
+                cursor = Board.NEIGHBOURS[direction][cursor];
             }
         }
-        return coordinates;
     }
 }
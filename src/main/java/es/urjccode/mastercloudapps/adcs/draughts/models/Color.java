@@ -16,6 +16,10 @@ public enum Color {
         return false;
     }
 
+    public Color getOpposite() {
+        return Color.values()[(this.ordinal() + 1) % Color.values().length];
+    }
+
     static Color getInitialColor(final Coordinate coordinate) {
         if (coordinate.isBlack())
             for(Color color : Color.values())
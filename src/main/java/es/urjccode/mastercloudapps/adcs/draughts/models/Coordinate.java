@@ -1,54 +1,131 @@
 package es.urjccode.mastercloudapps.adcs.draughts.models;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 public class Coordinate {
 
-    private int row;
-    private int column;
+    private final int row;
+    private final int column;
     private static final int LOWER_LIMIT = 0;
     private static final int UPPER_LIMIT = 7;
     private static final int DIMENSION = UPPER_LIMIT + 1;
+    private static final Coordinate[] COORDINATES = Coordinate.getCoordinates();
+    private static final Coordinate[][][] RAYS = Coordinate.getRays();
+    private static final Direction[][] DIRECTIONS = Coordinate.getDirections();
+    private static final List<Coordinate>[][] BETWEENS = Coordinate.getBetweens();
 
     public Coordinate(int row, int column) {
         this.row = row;
         this.column = column;
     }
 
+    public static Coordinate of(int row, int column) {
+        if (!Coordinate.isWithIn(row, column))
+            return new Coordinate(row, column);
+        return Coordinate.COORDINATES[row * Coordinate.DIMENSION + column];
+    }
+
+    private static Coordinate[] getCoordinates() {
+        Coordinate[] coordinates = new Coordinate[Coordinate.DIMENSION * Coordinate.DIMENSION];
+        for (int i = 0; i < coordinates.length; i++)
+            coordinates[i] = new Coordinate(i / Coordinate.DIMENSION, i % Coordinate.DIMENSION);
+        return coordinates;
+    }
+
+    private static Coordinate[][][] getRays() {
+        Coordinate[][][] rays = new Coordinate[Direction.values().length][Coordinate.COORDINATES.length][];
+        for (Direction direction : Direction.values())
+            for (Coordinate coordinate : Coordinate.COORDINATES) {
+                List<Coordinate> ray = new ArrayList<Coordinate>();
+                Coordinate shift = direction.getDistanceCoordinate(1);
+                int row = coordinate.row + shift.row;
+                int column = coordinate.column + shift.column;
+                while (Coordinate.isWithIn(row, column)) {
+                    ray.add(Coordinate.of(row, column));
+                    row += shift.row;
+                    column += shift.column;
+                }
+                rays[direction.ordinal()][coordinate.getIndex()] = ray.toArray(new Coordinate[ray.size()]);
+            }
+        return rays;
+    }
+
+    private static Direction[][] getDirections() {
+        Direction[][] directions = new Direction[Coordinate.COORDINATES.length][Coordinate.COORDINATES.length];
+        for (Coordinate origin : Coordinate.COORDINATES)
+            for (Coordinate target : Coordinate.COORDINATES)
+                directions[origin.getIndex()][target.getIndex()] =
+                    Coordinate.getDirection(target.row - origin.row, target.column - origin.column);
+        return directions;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static List<Coordinate>[][] getBetweens() {
+        List<Coordinate>[][] betweens = new List[Coordinate.COORDINATES.length][Coordinate.COORDINATES.length];
+        for (Coordinate origin : Coordinate.COORDINATES) {
+            Arrays.fill(betweens[origin.getIndex()], Collections.<Coordinate>emptyList());
+            for (Direction direction : Direction.values()) {
+                Coordinate[] ray = origin.getRay(direction);
+                for (int i = 0; i < ray.length; i++)
+                    betweens[origin.getIndex()][ray[i].getIndex()] =
+                        Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(ray, i)));
+            }
+        }
+        return betweens;
+    }
+
     public static Coordinate getInstance(String format) {
         assert format != null;
         try {
             int value = Integer.parseInt(format);
             int row = value / 10 - 1;
             int column = value % 10 - 1;
-            Coordinate coordinate = new Coordinate(row, column);
-            if (!coordinate.isWithIn())
+            if (!Coordinate.isWithIn(row, column))
                 return null;
-            return coordinate;
+            return Coordinate.of(row, column);
         } catch (Exception ex) {
             return null;
         }
     }
 
-    private boolean isWithIn() {
+    boolean isWithIn() {
+        return Coordinate.isWithIn(this.row, this.column);
+    }
+
+    private static boolean isWithIn(int row, int column) {
         return Coordinate.LOWER_LIMIT <= row && row <= Coordinate.UPPER_LIMIT && Coordinate.LOWER_LIMIT <= column
                 && column <= Coordinate.UPPER_LIMIT;
     }
 
-    private Coordinate substract(Coordinate coordinate) {
-        return new Coordinate(this.row - coordinate.row, this.column - coordinate.column);
+    public int getIndex() {
+        assert this.isWithIn();
+        return this.row * Coordinate.DIMENSION + this.column;
     }
 
-    private Coordinate plus(Coordinate coordinate) {
-        return new Coordinate(this.row + coordinate.row, this.column + coordinate.column);
+    private Coordinate[] getRay(Direction direction) {
+        return Coordinate.RAYS[direction.ordinal()][this.getIndex()];
+    }
+
+    Coordinate getNeighbour(Direction direction) {
+        Coordinate[] ray = this.getRay(direction);
+        if (ray.length == 0)
+            return null;
+        return ray[0];
     }
 
     Direction getDirection(Coordinate coordinate) {
         assert coordinate != null;
-        Coordinate substract = coordinate.substract(this);
+        if (this.isWithIn() && coordinate.isWithIn())
+            return Coordinate.DIRECTIONS[this.getIndex()][coordinate.getIndex()];
+        return Coordinate.getDirection(coordinate.row - this.row, coordinate.column - this.column);
+    }
+
+    private static Direction getDirection(int row, int column) {
         for (Direction direction : Direction.values())
-            if (direction.isOnDirection(substract))
+            if (direction.isOnDirection(row, column))
                 return direction;
         return null;
     }
@@ -59,43 +136,36 @@ public class Coordinate {
 
     int getDiagonalDistance(Coordinate coordinate) {
         assert this.isOnDiagonal(coordinate);
-        return Math.abs(this.substract(coordinate).getRow());
+        return Math.abs(coordinate.row - this.row);
     }
 
     Coordinate getBetweenDiagonalCoordinate(Coordinate coordinate) {
         assert this.getDiagonalDistance(coordinate) == 2;
-        final Direction direction = this.getDirection(coordinate);
-        return this.plus(direction.getDistanceCoordinate(1));
+        return this.getNeighbour(this.getDirection(coordinate));
     }
 
     List<Coordinate> getBetweenDiagonalCoordinates(Coordinate coordinate){
         assert this.isOnDiagonal(coordinate);
-        List<Coordinate> coordinates = new ArrayList<Coordinate>();
-        final Direction direction = this.getDirection(coordinate);
-        Coordinate cursor = this.plus(direction.getDistanceCoordinate(1));
-        while (!cursor.equals(coordinate)){
-            coordinates.add(cursor);
-            cursor = cursor.plus(direction.getDistanceCoordinate(1));
-        }
-        return coordinates;
+        return Coordinate.BETWEENS[this.getIndex()][coordinate.getIndex()];
     }
 
     List<Coordinate> getDiagonalCoordinates(int level) {
+        assert level > 0;
         List<Coordinate> diagonalCoordinates = new ArrayList<Coordinate>();
         for (Direction direction : Direction.values()) {
-            Coordinate diagonalCoordinate = this.plus(direction.getDistanceCoordinate(level));
-            if (diagonalCoordinate != null && diagonalCoordinate.isWithIn())
-                diagonalCoordinates.add(diagonalCoordinate);
+            Coordinate[] ray = this.getRay(direction);
+            if (level <= ray.length)
+                diagonalCoordinates.add(ray[level - 1]);
         }
         return diagonalCoordinates;
     }
 
     Coordinate getNextCoordinateOnCoordinateDirection(Coordinate coordinate){
         assert this.getDirection(coordinate) != null;
-        Direction direction = this.getDirection(coordinate);
-        Coordinate nextCoordinate = this.plus(direction.getDistanceCoordinate(getDiagonalDistance(coordinate) + 1));
-        if (nextCoordinate.isWithIn())
-            return nextCoordinate;
+        Coordinate[] ray = this.getRay(this.getDirection(coordinate));
+        int distance = this.getDiagonalDistance(coordinate);
+        if (distance < ray.length)
+            return ray[distance];
         return null;
     }
 
@@ -15,13 +15,17 @@ enum Direction {
     }
 
     public boolean isOnDirection(Coordinate coordinate) {
-        if (Math.abs(coordinate.getRow()) != Math.abs(coordinate.getColumn())) 
+        return this.isOnDirection(coordinate.getRow(), coordinate.getColumn());
+    }
+
+    boolean isOnDirection(int row, int column) {
+        if (Math.abs(row) != Math.abs(column)) 
             return false;
-        if (coordinate.getRow()==0)
+        if (row==0)
             return false;
-        if (horizontalShift * coordinate.getRow() < 0) 
+        if (horizontalShift * row < 0) 
             return false;
-        if (verticalShift * coordinate.getColumn() < 0) 
+        if (verticalShift * column < 0) 
             return false;
         return true;
     }
@@ -2,6 +2,8 @@ package es.urjccode.mastercloudapps.adcs.draughts.models;
 
 public class Draught extends Piece {
 
+  private static String[] CODES = {"B", "N"};
+
   Draught(Color color) {
     super(color);
   }
@@ -13,8 +15,13 @@ public class Draught extends Piece {
     return null;
   }
 
+  @Override
+  boolean isDraught() {
+    return true;
+  }
+
   @Override
   public String getCode(){
-		return super.getCode().toUpperCase();
+		return Draught.CODES[this.color.ordinal()];
   }
 }
@@ -1,30 +1,56 @@
 package es.urjccode.mastercloudapps.adcs.draughts.models;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class Game {
 
+	private static final int STATE_SIZE = Board.STATE_SIZE + 1;
+	private static final int INITIAL_STATES = 8;
+	public static final int RANDOM_PENALTY = -1;
+
 	private Board board;
 	private Turn turn;
-    private Random random;
+	private long seed;
+	private SplittableRandom random;
+	private long draws;
+	private long[] states;
+	private int statesSize;
+	private int lastPenalty;
 
-	Game(Board board, Random random) {
+	Game(Board board, long seed) {
 		this.turn = new Turn();
 		this.board = board;
-		this.random = random;
+		this.setSeed(seed);
+		this.states = new long[Game.INITIAL_STATES * Game.STATE_SIZE];
+		this.statesSize = 0;
+		this.lastPenalty = Game.RANDOM_PENALTY;
 	}
 
 	public Game() {
-		this(new Board(), new Random(System.currentTimeMillis()));
+		this(ThreadLocalRandom.current().nextLong());
+	}
+
+	public Game(long seed) {
+		this(new Board(), seed);
 		this.reset();
 	}
 
+	public Game(Game game) {
+		this(new Board(game.board), game.seed);
+		for (long i = 0; i < game.draws; i++)
+			this.random.nextLong();
+		this.draws = game.draws;
+		if (this.turn.getColor() != game.turn.getColor())
+			this.turn.change();
+	}
+
 	public void reset() {
 		for (int i = 0; i < Coordinate.getDimension(); i++)
 			for (int j = 0; j < Coordinate.getDimension(); j++) {
-				Coordinate coordinate = new Coordinate(i, j);
+				Coordinate coordinate = Coordinate.of(i, j);
 				Color color = Color.getInitialColor(coordinate);
 				Piece piece = null;
 				if (color != null)
@@ -35,38 +61,125 @@ public class Game {
 			this.turn.change();
 	}
 
+	public void setSeed(long seed) {
+		this.seed = seed;
+		this.random = new SplittableRandom(seed);
+		this.draws = 0;
+	}
+
+	public long getSeed() {
+		return this.seed;
+	}
+
+	public void setPosition(int whiteSquares, int blackSquares, int draughtSquares, Color color) {
+		assert color != null;
+		this.board.setPosition(whiteSquares, blackSquares, draughtSquares);
+		if (this.turn.getColor() != color)
+			this.turn.change();
+		this.statesSize = 0;
+		this.lastPenalty = Game.RANDOM_PENALTY;
+	}
+
 	public Error move(Coordinate... coordinates) {
+		return this.move(Game.RANDOM_PENALTY, coordinates);
+	}
+
+	public Error move(int penalty, Coordinate... coordinates) {
 		Error error = null;
-		List<Coordinate> removedCoordinates = new ArrayList<Coordinate>();
+		int removedPieces = 0;
 		int pair = 0;
+		this.saveState();
 		do {
 			error = this.isCorrectPairMove(pair, coordinates);
 			if (error == null) {
-				this.pairMove(removedCoordinates, pair, coordinates);
+				removedPieces += this.pairMove(pair, coordinates);
 				pair++;
 			}
 		} while (pair < coordinates.length - 1 && error == null);
-		error = this.isCorrectGlobalMove(error, removedCoordinates, coordinates);
+		error = this.isCorrectGlobalMove(error, removedPieces, coordinates);
 		if (error == null) {
-            checkRemovePiece(removedCoordinates, coordinates[coordinates.length - 1]);
-		    this.turn.change();
-        }else
-			this.unMovesUntilPair(removedCoordinates, pair, coordinates);
+			this.discardState();
+			if (removedPieces == 0)
+				this.checkRemovePiece(Board.getSquare(coordinates[coordinates.length - 1]), penalty, this.random);
+			else
+				this.lastPenalty = Game.RANDOM_PENALTY;
+			this.turn.change();
+		} else
+			this.restoreState();
 		return error;
 	}
 
-    private void checkRemovePiece(List<Coordinate> removedCoordinates, Coordinate lastCoordinateMove) {
-        if (removedCoordinates.isEmpty()) {
-            List<Coordinate> coordinatesWithPieceCanEat = board.getCoordinatesWithPieceCanEat(turn.getColor(), lastCoordinateMove);
-            if (!coordinatesWithPieceCanEat.isEmpty())
-                removeRandomPiece(coordinatesWithPieceCanEat);
+	public void makeMove(MoveBuffer moves, int move) {
+		this.makeMove(moves, move, Game.RANDOM_PENALTY, this.random);
+	}
+
+	public int makeMove(MoveBuffer moves, int move, SplittableRandom random) {
+		assert random != null;
+		return this.makeMove(moves, move, Game.RANDOM_PENALTY, random);
+	}
+
+	public int makeMove(MoveBuffer moves, int move, int penalty) {
+		return this.makeMove(moves, move, penalty, this.random);
+	}
+
+	private int makeMove(MoveBuffer moves, int move, int penalty, SplittableRandom random) {
+		assert moves != null;
+		this.saveState();
+		this.board.move(moves, move);
+		int penalties = 0;
+		this.lastPenalty = Game.RANDOM_PENALTY;
+		if (!moves.isCapture(move))
+			penalties = this.checkRemovePiece(moves.getSquare(move, moves.getLength(move) - 1), penalty, random);
+		this.turn.change();
+		return penalties;
+	}
+
+	public void unmakeMove() {
+		this.restoreState();
+	}
+
+	private void saveState() {
+		if (this.statesSize == this.states.length)
+			this.states = Arrays.copyOf(this.states, this.states.length * 2);
+		this.board.save(this.states, this.statesSize);
+		this.states[this.statesSize + Board.STATE_SIZE] = this.turn.getColor().ordinal();
+		this.statesSize += Game.STATE_SIZE;
+	}
+
+	private void restoreState() {
+		assert this.statesSize > 0;
+		this.statesSize -= Game.STATE_SIZE;
+		this.board.restore(this.states, this.statesSize);
+		if (this.turn.getColor().ordinal() != this.states[this.statesSize + Board.STATE_SIZE])
+			this.turn.change();
+	}
+
+	private void discardState() {
+		assert this.statesSize > 0;
+		this.statesSize -= Game.STATE_SIZE;
+	}
+
+    private int checkRemovePiece(int lastMoveSquare, int penalty, SplittableRandom random) {
+        int squaresWithPieceCanEat = this.board.getSquaresWithPieceCanEat(this.turn.getColor(), lastMoveSquare);
+        int penalties = Integer.bitCount(squaresWithPieceCanEat);
+        this.lastPenalty = Game.RANDOM_PENALTY;
+        if (penalties == 0)
+            return 0;
+        if (penalty == Game.RANDOM_PENALTY) {
+            if (random == this.random)
+                this.draws++;
+            penalty = (int) ((random.nextLong() >>> 1) % penalties);
         }
+        assert 0 <= penalty && penalty < penalties;
+        this.lastPenalty = penalty;
+        this.removePiece(squaresWithPieceCanEat, penalty);
+        return penalties;
     }
 
-    private void removeRandomPiece(List<Coordinate> coordinatesWithPieceCanEat) {
-	    random.setSeed(System.currentTimeMillis());
-        int PieceRandomIndex = random.nextInt(coordinatesWithPieceCanEat.size());
-        board.remove(coordinatesWithPieceCanEat.get(PieceRandomIndex));
+    private void removePiece(int squaresWithPieceCanEat, int pieceIndex) {
+        for (int i = 0; i < pieceIndex; i++)
+            squaresWithPieceCanEat &= squaresWithPieceCanEat - 1;
+        this.board.remove(Integer.numberOfTrailingZeros(squaresWithPieceCanEat));
     }
 
     private Error isCorrectPairMove(int pair, Coordinate... coordinates) {
@@ -83,10 +196,11 @@ public class Game {
 		return this.board.getPiece(coordinates[pair]).isCorrectMovement(betweenDiagonalPieces, pair, coordinates);
 	}
 
-	private void pairMove(List<Coordinate> removedCoordinates, int pair, Coordinate... coordinates) {
+	private int pairMove(int pair, Coordinate... coordinates) {
+		int removedPieces = 0;
 		Coordinate forRemoving = this.getBetweenDiagonalPiece(pair, coordinates);
 		if (forRemoving != null) {
-			removedCoordinates.add(0, forRemoving);
+			removedPieces++;
 			this.board.remove(forRemoving);
 		}
 		this.board.move(coordinates[pair], coordinates[pair + 1]);
@@ -95,6 +209,7 @@ public class Game {
 			this.board.remove(coordinates[pair + 1]);
 			this.board.put(coordinates[pair + 1], new Draught(color));
 		}
+		return removedPieces;
 	}
 
 	private Coordinate getBetweenDiagonalPiece(int pair, Coordinate... coordinates) {
@@ -109,34 +224,21 @@ public class Game {
 		return null;
 	}
 
-	private Error isCorrectGlobalMove(Error error, List<Coordinate> removedCoordinates, Coordinate... coordinates){
+	private Error isCorrectGlobalMove(Error error, int removedPieces, Coordinate... coordinates){
 		if (error != null)
 			return error;
-		if (coordinates.length > 2 && coordinates.length > removedCoordinates.size() + 1)
+		if (coordinates.length > 2 && coordinates.length > removedPieces + 1)
 			return Error.TOO_MUCH_JUMPS;
 		return null;
 	}
 
-	private void unMovesUntilPair(List<Coordinate> removedCoordinates, int pair, Coordinate... coordinates) {
-		for (int j = pair; j > 0; j--)
-			this.board.move(coordinates[j], coordinates[j - 1]);
-		for (Coordinate removedPiece : removedCoordinates)
-			this.board.put(removedPiece, new Pawn(this.getOppositeTurnColor()));
-	}
-
 	public boolean isBlocked() {
-		for (Coordinate coordinate : this.board.getCoordinatesWithActualColor(this.turn.getColor()))
-			if (!this.isBlocked(coordinate))
-				return false;
-		return true;
+		return this.board.isBlocked(this.turn.getColor());
 	}
 
-    private boolean isBlocked(Coordinate coordinate) {
-		for (int i = 1; i <= 2; i++)
-			for (Coordinate target : coordinate.getDiagonalCoordinates(i))
-				if (this.isCorrectPairMove(0, coordinate, target) == null)
-					return false;
-		return true;
+	public void generateMoves(MoveBuffer moves) {
+		assert moves != null;
+		this.board.generateMoves(this.turn.getColor(), moves);
 	}
 
 	public void cancel() {
@@ -150,12 +252,12 @@ public class Game {
 		return this.board.getColor(coordinate);
 	}
 
-	public Color getTurnColor() {
-		return this.turn.getColor();
+	public int getLastPenalty() {
+		return this.lastPenalty;
 	}
 
-	private Color getOppositeTurnColor() {
-		return this.turn.getOppositeColor();
+	public Color getTurnColor() {
+		return this.turn.getColor();
 	}
 
 	public Piece getPiece(Coordinate coordinate) {
@@ -163,6 +265,20 @@ public class Game {
 		return this.board.getPiece(coordinate);
 	}
 
+	public int getPawnSquares(Color color) {
+		assert color != null;
+		return this.board.getPawnSquares(color);
+	}
+
+	public int getDraughtSquares(Color color) {
+		assert color != null;
+		return this.board.getDraughtSquares(color);
+	}
+
+	public long getKey() {
+		return this.board.getKey() ^ this.turn.getKey();
+	}
+
 	public int getDimension() {
 		return Coordinate.getDimension();
 	}
@@ -174,11 +290,8 @@ public class Game {
 
 	@Override
 	public int hashCode() {
-		final int prime = 31;
-		int result = 1;
-		result = prime * result + ((board == null) ? 0 : board.hashCode());
-		result = prime * result + ((turn == null) ? 0 : turn.hashCode());
-		return result;
+		long key = this.getKey();
+		return (int) (key ^ key >>> 32);
 	}
 
 	@Override
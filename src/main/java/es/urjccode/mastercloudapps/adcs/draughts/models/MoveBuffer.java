@@ -0,0 +1,107 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import java.util.Arrays;
+
+public class MoveBuffer {
+
+    private static final int INITIAL_MOVES = 64;
+    private static final int INITIAL_SQUARES = MoveBuffer.INITIAL_MOVES * 4;
+
+    private int[] squares;
+    private int[] offsets;
+    private int[] captures;
+    private int size;
+
+    public MoveBuffer() {
+        this.squares = new int[MoveBuffer.INITIAL_SQUARES];
+        this.offsets = new int[MoveBuffer.INITIAL_MOVES + 1];
+        this.captures = new int[MoveBuffer.INITIAL_MOVES];
+        this.clear();
+    }
+
+    void clear() {
+        this.size = 0;
+        this.offsets[0] = 0;
+    }
+
+    void add(int[] path, int length, int captures) {
+        assert length >= 2;
+        if (this.size == this.captures.length) {
+            this.offsets = Arrays.copyOf(this.offsets, this.offsets.length * 2 - 1);
+            this.captures = Arrays.copyOf(this.captures, this.captures.length * 2);
+        }
+        int offset = this.offsets[this.size];
+        if (offset + length > this.squares.length)
+            this.squares = Arrays.copyOf(this.squares, Math.max(this.squares.length * 2, offset + length));
+        System.arraycopy(path, 0, this.squares, offset, length);
+        this.captures[this.size] = captures;
+        this.size++;
+        this.offsets[this.size] = offset + length;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int getLength(int move) {
+        assert 0 <= move && move < this.size;
+        return this.offsets[move + 1] - this.offsets[move];
+    }
+
+    int getSquare(int move, int position) {
+        assert 0 <= position && position < this.getLength(move);
+        return this.squares[this.offsets[move] + position];
+    }
+
+    int getCaptures(int move) {
+        assert 0 <= move && move < this.size;
+        return this.captures[move];
+    }
+
+    public boolean isCapture(int move) {
+        return this.getCaptures(move) != 0;
+    }
+
+    public int getCaptureCount(int move) {
+        return Integer.bitCount(this.getCaptures(move));
+    }
+
+    public Coordinate getCoordinate(int move, int position) {
+        return Board.getCoordinate(this.getSquare(move, position));
+    }
+
+    public Coordinate[] getCoordinates(int move) {
+        Coordinate[] coordinates = new Coordinate[this.getLength(move)];
+        for (int i = 0; i < coordinates.length; i++)
+            coordinates[i] = this.getCoordinate(move, i);
+        return coordinates;
+    }
+
+    public int find(Coordinate origin, Coordinate target) {
+        assert origin != null && target != null;
+        int found = -1;
+        for (int move = 0; move < this.size; move++) {
+            int length = this.getLength(move);
+            if (origin.equals(this.getCoordinate(move, 0)) && target.equals(this.getCoordinate(move, length - 1))
+                    && (found == -1 || length < this.getLength(found)))
+                found = move;
+        }
+        return found;
+    }
+
+    public String toString(int move) {
+        StringBuilder string = new StringBuilder();
+        for (int i = 0; i < this.getLength(move); i++) {
+            Coordinate coordinate = this.getCoordinate(move, i);
+            if (i > 0)
+                string.append('.');
+            string.append(coordinate.getRow() + 1).append(coordinate.getColumn() + 1);
+        }
+        return string.toString();
+    }
+
+}
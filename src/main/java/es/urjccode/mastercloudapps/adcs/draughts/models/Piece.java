@@ -26,6 +26,10 @@ public abstract class Piece {
 
 	abstract Error isCorrectDiagonalMovement(int amountBetweenDiagonalPieces, int pair, Coordinate... coordinates);
 
+	boolean isDraught() {
+		return false;
+	}
+
 	boolean isLimit(Coordinate coordinate) {
 		return coordinate.isFirst() && this.getColor() == Color.WHITE
 				|| coordinate.isLast() && this.getColor() == Color.BLACK;
@@ -0,0 +1,156 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+public class PositionCodec {
+
+    public static final int SIZE = 3 * Integer.BYTES + 1;
+    private static final char[] TURNS = { 'W', 'B' };
+    private static final char SEPARATOR = ':';
+    private static final char LIST_SEPARATOR = ',';
+    private static final char DRAUGHT = 'K';
+
+    private PositionCodec() {
+    }
+
+    public static void encode(Game game, ByteBuffer buffer) {
+        assert game != null;
+        assert buffer != null && buffer.remaining() >= PositionCodec.SIZE;
+        buffer.putInt(game.getPawnSquares(Color.WHITE) | game.getDraughtSquares(Color.WHITE));
+        buffer.putInt(game.getPawnSquares(Color.BLACK) | game.getDraughtSquares(Color.BLACK));
+        buffer.putInt(game.getDraughtSquares(Color.WHITE) | game.getDraughtSquares(Color.BLACK));
+        buffer.put((byte) game.getTurnColor().ordinal());
+    }
+
+    public static byte[] encode(Game game) {
+        byte[] bytes = new byte[PositionCodec.SIZE];
+        PositionCodec.encode(game, ByteBuffer.wrap(bytes));
+        return bytes;
+    }
+
+    public static boolean decode(ByteBuffer buffer, Game game) {
+        assert buffer != null && buffer.remaining() >= PositionCodec.SIZE;
+        assert game != null;
+        int whiteSquares = buffer.getInt();
+        int blackSquares = buffer.getInt();
+        int draughtSquares = buffer.getInt();
+        int turn = buffer.get();
+        if (!PositionCodec.isValid(whiteSquares, blackSquares, draughtSquares, turn))
+            return false;
+        game.setPosition(whiteSquares, blackSquares, draughtSquares, Color.values()[turn]);
+        return true;
+    }
+
+    public static Game decode(byte[] bytes) {
+        assert bytes != null;
+        if (bytes.length != PositionCodec.SIZE)
+            return null;
+        Game game = new Game();
+        if (!PositionCodec.decode(ByteBuffer.wrap(bytes), game))
+            return null;
+        return game;
+    }
+
+    private static boolean isValid(int whiteSquares, int blackSquares, int draughtSquares, int turn) {
+        return (whiteSquares & blackSquares) == 0 && (draughtSquares & ~(whiteSquares | blackSquares)) == 0
+            && 0 <= turn && turn < Color.values().length;
+    }
+
+    public static Coordinate getCoordinate(int number) {
+        if (number < 1 || number > Board.SQUARES)
+            return null;
+        return Board.getCoordinate(number - 1);
+    }
+
+    public static int getNumber(Coordinate coordinate) {
+        assert coordinate != null && coordinate.isBlack();
+        return Board.getSquare(coordinate) + 1;
+    }
+
+    public static String toBase64(Game game) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(PositionCodec.encode(game));
+    }
+
+    public static Game fromBase64(String string) {
+        assert string != null;
+        try {
+            return PositionCodec.decode(Base64.getUrlDecoder().decode(string));
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    public static String toFen(Game game) {
+        assert game != null;
+        StringBuilder fen = new StringBuilder();
+        fen.append(PositionCodec.TURNS[game.getTurnColor().ordinal()]);
+        for (Color color : Color.values()) {
+            fen.append(PositionCodec.SEPARATOR).append(PositionCodec.TURNS[color.ordinal()]);
+            int pawns = game.getPawnSquares(color);
+            int draughts = game.getDraughtSquares(color);
+            boolean first = true;
+            for (int square = 0; square < Board.SQUARES; square++)
+                if (((pawns | draughts) & 1 << square) != 0) {
+                    if (!first)
+                        fen.append(PositionCodec.LIST_SEPARATOR);
+                    if ((draughts & 1 << square) != 0)
+                        fen.append(PositionCodec.DRAUGHT);
+                    fen.append(square + 1);
+                    first = false;
+                }
+        }
+        return fen.toString();
+    }
+
+    public static Game fromFen(String fen) {
+        assert fen != null;
+        String[] fields = fen.trim().split(String.valueOf(PositionCodec.SEPARATOR), -1);
+        if (fields.length != Color.values().length + 1 || fields[0].length() != 1)
+            return null;
+        int turn = PositionCodec.getTurn(fields[0].charAt(0));
+        int[] squares = new int[Color.values().length];
+        int draughtSquares = 0;
+        int colors = 0;
+        for (int i = 1; i < fields.length; i++) {
+            if (fields[i].isEmpty())
+                return null;
+            int color = PositionCodec.getTurn(fields[i].charAt(0));
+            if (color < 0 || (colors & 1 << color) != 0)
+                return null;
+            colors |= 1 << color;
+            String list = fields[i].substring(1);
+            if (list.isEmpty())
+                continue;
+            for (String item : list.split(String.valueOf(PositionCodec.LIST_SEPARATOR), -1)) {
+                boolean draught = !item.isEmpty() && item.charAt(0) == PositionCodec.DRAUGHT;
+                int square;
+                try {
+                    square = Integer.parseInt(draught ? item.substring(1) : item) - 1;
+                } catch (NumberFormatException ex) {
+                    return null;
+                }
+                if (square < 0 || square >= Board.SQUARES)
+                    return null;
+                squares[color] |= 1 << square;
+                if (draught)
+                    draughtSquares |= 1 << square;
+            }
+        }
+        int whiteSquares = squares[Color.WHITE.ordinal()];
+        int blackSquares = squares[Color.BLACK.ordinal()];
+        if (!PositionCodec.isValid(whiteSquares, blackSquares, draughtSquares, turn))
+            return null;
+        Game game = new Game();
+        game.setPosition(whiteSquares, blackSquares, draughtSquares, Color.values()[turn]);
+        return game;
+    }
+
+    private static int getTurn(char character) {
+        for (int i = 0; i < PositionCodec.TURNS.length; i++)
+            if (PositionCodec.TURNS[i] == Character.toUpperCase(character))
+                return i;
+        return -1;
+    }
+
+}
@@ -3,13 +3,20 @@ package es.urjccode.mastercloudapps.adcs.draughts.models;
 class Turn {
 
   private Color color;
+  private long key;
 
   Turn() {
     this.color = Color.WHITE;
+    this.key = 0;
   }
 
   void change() {
     this.color = this.getOppositeColor();
+    this.key ^= Zobrist.TURN;
+  }
+
+  long getKey() {
+    return this.key;
   }
 
   Color getColor() {
@@ -17,7 +24,7 @@ class Turn {
   }
 
   Color getOppositeColor() {
-    return Color.values()[(this.color.ordinal() + 1) % 2];
+    return this.color.getOpposite();
   }
 
   @Override
@@ -0,0 +1,33 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+class Zobrist {
+
+    private static final long SEED = 0x44524155474854L;
+    private static final long[][] PIECES = new long[Color.values().length * 2][Board.SQUARES];
+    static final long TURN;
+
+    static {
+        long state = Zobrist.SEED;
+        for (int i = 0; i < Zobrist.PIECES.length; i++)
+            for (int square = 0; square < Board.SQUARES; square++) {
+                state += 0x9E3779B97F4A7C15L;
+                Zobrist.PIECES[i][square] = Zobrist.mix(state);
+            }
+        state += 0x9E3779B97F4A7C15L;
+        TURN = Zobrist.mix(state);
+    }
+
+    private Zobrist() {
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    static long getPiece(Color color, boolean isDraught, int square) {
+        return Zobrist.PIECES[color.ordinal() * 2 + (isDraught ? 1 : 0)][square];
+    }
+
+}
@@ -0,0 +1,156 @@
+package es.urjccode.mastercloudapps.adcs.draughts.pdn;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import es.urjccode.mastercloudapps.adcs.draughts.utils.Console;
+
+public class PdnArchive {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final byte TAG_START = '[';
+    private static final byte NEWLINE = '\n';
+
+    private Path path;
+
+    public PdnArchive(Path path) {
+        assert path != null;
+        this.path = path;
+    }
+
+    public PdnReader getReader() throws IOException {
+        return this.getReader(0);
+    }
+
+    private PdnReader getReader(long position) throws IOException {
+        FileChannel channel = FileChannel.open(this.path, StandardOpenOption.READ);
+        channel.position(position);
+        return new PdnReader(new BufferedReader(
+            new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.ISO_8859_1), PdnArchive.BUFFER_SIZE));
+    }
+
+    public PdnAudit validate() throws IOException {
+        return this.validate(0, Long.MAX_VALUE);
+    }
+
+    public PdnAudit validate(int threads) throws IOException {
+        assert threads > 0;
+        long[] boundaries = this.getBoundaries(threads);
+        if (boundaries.length == 2)
+            return this.validate(boundaries[0], boundaries[1]);
+        ExecutorService executorService = Executors.newFixedThreadPool(boundaries.length - 1, runnable -> {
+            Thread thread = new Thread(runnable, "pdn-validator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<PdnAudit>> audits = new ArrayList<Future<PdnAudit>>();
+            for (int i = 0; i < boundaries.length - 1; i++) {
+                long start = boundaries[i];
+                long end = boundaries[i + 1];
+                audits.add(executorService.submit(() -> this.validate(start, end)));
+            }
+            PdnAudit audit = new PdnAudit();
+            for (Future<PdnAudit> future : audits)
+                audit.add(future.get());
+            return audit;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof IOException)
+                throw (IOException) ex.getCause();
+            throw new IllegalStateException(ex.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private PdnAudit validate(long start, long end) throws IOException {
+        PdnAudit audit = new PdnAudit();
+        PdnValidator validator = new PdnValidator();
+        try (PdnReader reader = this.getReader(start)) {
+            PdnGame game;
+            while ((game = reader.next()) != null && start + reader.getGameOffset() < end) {
+                validator.validate(game);
+                audit.add(start + reader.getGameOffset(), game, validator);
+            }
+        }
+        return audit;
+    }
+
+    long[] getBoundaries(int parts) throws IOException {
+        try (FileChannel channel = FileChannel.open(this.path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            List<Long> boundaries = new ArrayList<Long>();
+            boundaries.add(0L);
+            ByteBuffer buffer = ByteBuffer.allocate(PdnArchive.BUFFER_SIZE);
+            for (int i = 1; i < parts; i++) {
+                long boundary = this.getBoundary(channel, Math.max(boundaries.get(boundaries.size() - 1) + 1, size * i / parts), buffer);
+                if (boundary < size)
+                    boundaries.add(boundary);
+            }
+            boundaries.add(size);
+            long[] result = new long[boundaries.size()];
+            for (int i = 0; i < result.length; i++)
+                result[i] = boundaries.get(i);
+            return result;
+        }
+    }
+
+    private long getBoundary(FileChannel channel, long position, ByteBuffer buffer) throws IOException {
+        int newlines = 0;
+        long offset = position - 1;
+        buffer.clear().flip();
+        while (true) {
+            if (!buffer.hasRemaining()) {
+                buffer.clear();
+                if (channel.read(buffer, offset + 1) <= 0)
+                    return channel.size();
+                buffer.flip();
+            }
+            byte character = buffer.get();
+            offset++;
+            if (character == PdnArchive.TAG_START && newlines >= 2)
+                return offset;
+            if (character == PdnArchive.NEWLINE)
+                newlines++;
+            else if (!Character.isWhitespace(character))
+                newlines = 0;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            new Console().writeln("usage: PdnArchive <file.pdn> [threads]");
+            return;
+        }
+        int threads = Runtime.getRuntime().availableProcessors();
+        if (args.length > 1)
+            threads = Integer.parseInt(args[1]);
+        Console console = new Console();
+        long start = System.currentTimeMillis();
+        PdnAudit audit = new PdnArchive(Paths.get(args[0])).validate(threads);
+        long millis = System.currentTimeMillis() - start;
+        for (String error : audit.getErrors())
+            console.writeln(error);
+        console.writeln("games\tmoves\tinvalid\tmillis\tthreads");
+        console.writeln(audit.getGames() + "\t" + audit.getMoves() + "\t" + audit.getInvalidGames() + "\t" + millis + "\t" + threads);
+    }
+
+}
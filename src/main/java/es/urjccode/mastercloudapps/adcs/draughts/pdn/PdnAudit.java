@@ -0,0 +1,60 @@
+package es.urjccode.mastercloudapps.adcs.draughts.pdn;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class PdnAudit {
+
+    static final int MAXIMUM_ERRORS = 100;
+
+    private long games;
+    private long moves;
+    private long invalidGames;
+    private List<String> errors;
+
+    PdnAudit() {
+        this.errors = new ArrayList<String>();
+    }
+
+    void add(long offset, PdnGame game, PdnValidator validator) {
+        this.games++;
+        this.moves += game.getMoves().size();
+        if (validator.getError() == null)
+            return;
+        this.invalidGames++;
+        if (this.errors.size() < PdnAudit.MAXIMUM_ERRORS) {
+            String error = offset + ": " + validator.getError();
+            if (validator.getErrorMove() >= 0)
+                error += " at " + game.getMoves().get(validator.getErrorMove());
+            else if (validator.getError() == PdnValidator.PdnError.BAD_TOKEN)
+                error += " " + game.getBadToken();
+            this.errors.add(error);
+        }
+    }
+
+    void add(PdnAudit audit) {
+        this.games += audit.games;
+        this.moves += audit.moves;
+        this.invalidGames += audit.invalidGames;
+        for (int i = 0; i < audit.errors.size() && this.errors.size() < PdnAudit.MAXIMUM_ERRORS; i++)
+            this.errors.add(audit.errors.get(i));
+    }
+
+    public long getGames() {
+        return this.games;
+    }
+
+    public long getMoves() {
+        return this.moves;
+    }
+
+    public long getInvalidGames() {
+        return this.invalidGames;
+    }
+
+    public List<String> getErrors() {
+        return Collections.unmodifiableList(this.errors);
+    }
+
+}
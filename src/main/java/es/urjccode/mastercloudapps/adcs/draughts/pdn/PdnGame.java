@@ -0,0 +1,109 @@
+package es.urjccode.mastercloudapps.adcs.draughts.pdn;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.PositionCodec;
+
+public class PdnGame {
+
+    public static final String FEN = "FEN";
+    public static final String RESULT = "Result";
+    public static final String SEED = "Seed";
+    public static final String UNKNOWN_RESULT = "*";
+    public static final String WHITE_WIN = "1-0";
+    public static final String BLACK_WIN = "0-1";
+    public static final String DRAW = "1/2-1/2";
+    private static final List<String> WHITE_WINS = Arrays.asList(PdnGame.WHITE_WIN, "2-0");
+    private static final List<String> BLACK_WINS = Arrays.asList(PdnGame.BLACK_WIN, "0-2");
+    private static final List<String> DRAWS = Arrays.asList(PdnGame.DRAW, "1-1");
+
+    private Map<String, String> tags;
+    private List<PdnMove> moves;
+    private String result;
+    private String badToken;
+
+    public PdnGame() {
+        this.tags = new LinkedHashMap<String, String>();
+        this.moves = new ArrayList<PdnMove>();
+        this.result = PdnGame.UNKNOWN_RESULT;
+    }
+
+    public void setTag(String name, String value) {
+        assert name != null && value != null;
+        this.tags.put(name, value);
+    }
+
+    public String getTag(String name) {
+        return this.tags.get(name);
+    }
+
+    public Map<String, String> getTags() {
+        return Collections.unmodifiableMap(this.tags);
+    }
+
+    public void add(PdnMove move) {
+        assert move != null;
+        this.moves.add(move);
+    }
+
+    public List<PdnMove> getMoves() {
+        return Collections.unmodifiableList(this.moves);
+    }
+
+    PdnMove getLastMove() {
+        if (this.moves.isEmpty())
+            return null;
+        return this.moves.get(this.moves.size() - 1);
+    }
+
+    public String getResult() {
+        return this.result;
+    }
+
+    public void setResult(String result) {
+        assert result != null;
+        this.result = result;
+    }
+
+    public Color getWinner() {
+        if (PdnGame.WHITE_WINS.contains(this.result))
+            return Color.WHITE;
+        if (PdnGame.BLACK_WINS.contains(this.result))
+            return Color.BLACK;
+        return null;
+    }
+
+    public boolean isDraw() {
+        return PdnGame.DRAWS.contains(this.result);
+    }
+
+    public String getBadToken() {
+        return this.badToken;
+    }
+
+    void setBadToken(String badToken) {
+        if (this.badToken == null)
+            this.badToken = badToken;
+    }
+
+    public Game getInitialGame() {
+        String fen = this.tags.get(PdnGame.FEN);
+        Game game = fen == null ? new Game() : PositionCodec.fromFen(fen);
+        String seed = this.tags.get(PdnGame.SEED);
+        if (game != null && seed != null)
+            try {
+                game.setSeed(Long.parseLong(seed));
+            } catch (NumberFormatException ex) {
+                return null;
+            }
+        return game;
+    }
+
+}
@@ -0,0 +1,84 @@
+package es.urjccode.mastercloudapps.adcs.draughts.pdn;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.PositionCodec;
+
+public class PdnMove {
+
+    private static final char MOVE = '-';
+    private static final char CAPTURE = 'x';
+    private static final String STRENGTHS = "!?";
+
+    private Coordinate[] coordinates;
+    private boolean capture;
+    private int penalty;
+
+    public PdnMove(Coordinate[] coordinates, boolean capture, int penalty) {
+        assert coordinates != null && coordinates.length >= 2;
+        this.coordinates = coordinates;
+        this.capture = capture;
+        this.penalty = penalty;
+    }
+
+    public static PdnMove parse(String token) {
+        assert token != null;
+        int end = token.length();
+        while (end > 0 && PdnMove.STRENGTHS.indexOf(token.charAt(end - 1)) >= 0)
+            end--;
+        int separators = 0;
+        boolean capture = false;
+        for (int i = 0; i < end; i++) {
+            char character = Character.toLowerCase(token.charAt(i));
+            if (character == PdnMove.MOVE || character == PdnMove.CAPTURE) {
+                separators++;
+                capture |= character == PdnMove.CAPTURE;
+            } else if (!Character.isDigit(character))
+                return null;
+        }
+        if (separators == 0)
+            return null;
+        Coordinate[] coordinates = new Coordinate[separators + 1];
+        int start = 0;
+        for (int i = 0; i < coordinates.length; i++) {
+            int next = start;
+            while (next < end && Character.isDigit(token.charAt(next)))
+                next++;
+            if (next == start)
+                return null;
+            coordinates[i] = PositionCodec.getCoordinate(Integer.parseInt(token.substring(start, next)));
+            if (coordinates[i] == null)
+                return null;
+            start = next + 1;
+        }
+        return new PdnMove(coordinates, capture, Game.RANDOM_PENALTY);
+    }
+
+    public Coordinate[] getCoordinates() {
+        return this.coordinates;
+    }
+
+    public boolean isCapture() {
+        return this.capture;
+    }
+
+    public int getPenalty() {
+        return this.penalty;
+    }
+
+    void setPenalty(int penalty) {
+        this.penalty = penalty;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+        for (int i = 0; i < this.coordinates.length; i++) {
+            if (i > 0)
+                string.append(this.capture ? PdnMove.CAPTURE : PdnMove.MOVE);
+            string.append(PositionCodec.getNumber(this.coordinates[i]));
+        }
+        return string.toString();
+    }
+
+}
@@ -0,0 +1,206 @@
+package es.urjccode.mastercloudapps.adcs.draughts.pdn;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.List;
+
+public class PdnReader implements Closeable {
+
+    private static final int END = -1;
+    private static final char TAG_START = '[';
+    private static final char TAG_END = ']';
+    private static final char QUOTE = '"';
+    private static final char ESCAPE = '\\';
+    private static final char COMMENT_START = '{';
+    private static final char COMMENT_END = '}';
+    private static final char LINE_COMMENT = ';';
+    private static final char VARIATION_START = '(';
+    private static final char VARIATION_END = ')';
+    private static final char NEWLINE = '\n';
+    private static final char NUMBER_END = '.';
+    private static final String DELIMITERS = "[]{}();\"";
+    private static final String PENALTY = "penalty";
+    private static final List<String> RESULTS = Arrays.asList("1-0", "0-1", "1/2-1/2", "2-0", "0-2", "1-1", "*");
+
+    private Reader reader;
+    private int next;
+    private long offset;
+    private long gameOffset;
+    private StringBuilder token;
+
+    public PdnReader(Reader reader) {
+        assert reader != null;
+        this.reader = reader;
+        this.next = PdnReader.END - 1;
+        this.token = new StringBuilder();
+    }
+
+    public PdnGame next() throws IOException {
+        PdnGame game = null;
+        boolean movetext = false;
+        while (true) {
+            this.skipWhitespace();
+            int character = this.peek();
+            if (character == PdnReader.END)
+                return game;
+            if (game == null && character != PdnReader.COMMENT_START
+                    && character != PdnReader.VARIATION_START && character != PdnReader.LINE_COMMENT) {
+                game = new PdnGame();
+                this.gameOffset = this.offset;
+            }
+            switch (character) {
+            case PdnReader.TAG_START:
+                if (movetext)
+                    return game;
+                this.readTag(game);
+                break;
+            case PdnReader.COMMENT_START:
+                this.read();
+                this.readComment(game);
+                break;
+            case PdnReader.VARIATION_START:
+                this.skipVariation();
+                break;
+            case PdnReader.LINE_COMMENT:
+                this.skipLine();
+                break;
+            default:
+                movetext = true;
+                String token = this.readToken();
+                if (PdnReader.RESULTS.contains(token)) {
+                    game.setResult(token);
+                    return game;
+                }
+                if (!this.isMoveNumber(token)) {
+                    PdnMove move = PdnMove.parse(token);
+                    if (move == null)
+                        game.setBadToken(token);
+                    else
+                        game.add(move);
+                }
+                break;
+            }
+        }
+    }
+
+    private int peek() throws IOException {
+        if (this.next < PdnReader.END)
+            this.next = this.reader.read();
+        return this.next;
+    }
+
+    private int read() throws IOException {
+        int character = this.peek();
+        if (character != PdnReader.END) {
+            this.next = PdnReader.END - 1;
+            this.offset++;
+        }
+        return character;
+    }
+
+    private void skipWhitespace() throws IOException {
+        while (this.peek() != PdnReader.END && Character.isWhitespace(this.peek()))
+            this.read();
+    }
+
+    private void skipLine() throws IOException {
+        int character;
+        do {
+            character = this.read();
+        } while (character != PdnReader.END && character != PdnReader.NEWLINE);
+    }
+
+    private void skipVariation() throws IOException {
+        int depth = 0;
+        int character;
+        do {
+            character = this.read();
+            if (character == PdnReader.VARIATION_START)
+                depth++;
+            else if (character == PdnReader.VARIATION_END)
+                depth--;
+            else if (character == PdnReader.COMMENT_START)
+                this.readComment(null);
+        } while (character != PdnReader.END && depth > 0);
+    }
+
+    private void readTag(PdnGame game) throws IOException {
+        this.read();
+        this.skipWhitespace();
+        this.token.setLength(0);
+        while (this.peek() != PdnReader.END && !Character.isWhitespace(this.peek())
+                && this.peek() != PdnReader.QUOTE && this.peek() != PdnReader.TAG_END)
+            this.token.append((char) this.read());
+        String name = this.token.toString();
+        this.skipWhitespace();
+        this.token.setLength(0);
+        if (this.peek() == PdnReader.QUOTE) {
+            this.read();
+            int character;
+            while ((character = this.read()) != PdnReader.END && character != PdnReader.QUOTE) {
+                if (character == PdnReader.ESCAPE && this.peek() != PdnReader.END)
+                    character = this.read();
+                this.token.append((char) character);
+            }
+        }
+        int character;
+        do {
+            character = this.read();
+        } while (character != PdnReader.END && character != PdnReader.TAG_END);
+        if (!name.isEmpty())
+            game.setTag(name, this.token.toString());
+    }
+
+    private void readComment(PdnGame game) throws IOException {
+        this.token.setLength(0);
+        int character;
+        while ((character = this.read()) != PdnReader.END && character != PdnReader.COMMENT_END)
+            this.token.append((char) character);
+        if (game == null || game.getLastMove() == null)
+            return;
+        String comment = this.token.toString().trim();
+        if (!comment.startsWith(PdnReader.PENALTY))
+            return;
+        try {
+            game.getLastMove().setPenalty(Integer.parseInt(comment.substring(PdnReader.PENALTY.length()).trim()));
+        } catch (NumberFormatException ex) {
+            game.setBadToken(comment);
+        }
+    }
+
+    private String readToken() throws IOException {
+        this.token.setLength(0);
+        while (this.peek() != PdnReader.END && !Character.isWhitespace(this.peek())
+                && PdnReader.DELIMITERS.indexOf(this.peek()) < 0) {
+            this.token.append((char) this.read());
+            if (this.isMoveNumber(this.token) && this.peek() != PdnReader.NUMBER_END)
+                break;
+        }
+        if (this.token.length() == 0)
+            this.token.append((char) this.read());
+        return this.token.toString();
+    }
+
+    private boolean isMoveNumber(CharSequence token) {
+        int i = 0;
+        while (i < token.length() && Character.isDigit(token.charAt(i)))
+            i++;
+        if (i == 0 || i == token.length())
+            return false;
+        while (i < token.length() && token.charAt(i) == PdnReader.NUMBER_END)
+            i++;
+        return i == token.length();
+    }
+
+    public long getGameOffset() {
+        return this.gameOffset;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+}
@@ -0,0 +1,114 @@
+package es.urjccode.mastercloudapps.adcs.draughts.pdn;
+
+import java.util.Arrays;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Error;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+
+public class PdnValidator {
+
+    public enum PdnError {
+        BAD_TOKEN,
+        BAD_FEN,
+        BAD_PENALTY,
+        AMBIGUOUS_CAPTURE;
+    }
+
+    public interface Visitor {
+        void visit(long key, Coordinate[] coordinates);
+    }
+
+    private MoveBuffer moves;
+    private Game game;
+    private Enum<?> error;
+    private int errorMove;
+    private boolean seeded;
+
+    public PdnValidator() {
+        this.moves = new MoveBuffer();
+    }
+
+    public boolean validate(PdnGame pdnGame) {
+        return this.validate(pdnGame, null);
+    }
+
+    public boolean validate(PdnGame pdnGame, Visitor visitor) {
+        assert pdnGame != null;
+        this.game = pdnGame.getInitialGame();
+        this.seeded = pdnGame.getTag(PdnGame.SEED) != null;
+        this.error = null;
+        this.errorMove = -1;
+        if (pdnGame.getBadToken() != null)
+            this.error = PdnError.BAD_TOKEN;
+        else if (this.game == null)
+            this.error = PdnError.BAD_FEN;
+        for (int i = 0; i < pdnGame.getMoves().size() && this.error == null; i++) {
+            this.error = this.play(pdnGame.getMoves().get(i), visitor);
+            if (this.error != null)
+                this.errorMove = i;
+        }
+        return this.error == null;
+    }
+
+    private Enum<?> play(PdnMove move, Visitor visitor) {
+        long key = this.game.getKey();
+        Coordinate[] coordinates = move.getCoordinates();
+        if (move.getPenalty() > 0 && move.getPenalty() >= this.getPenalties(coordinates))
+            return PdnError.BAD_PENALTY;
+        int penalty = move.getPenalty();
+        if (penalty == Game.RANDOM_PENALTY && !this.seeded)
+            penalty = 0;
+        Error error = this.game.move(penalty, coordinates);
+        if (error != null && move.isCapture() && coordinates.length == 2) {
+            coordinates = this.getCapture(coordinates[0], coordinates[1]);
+            if (coordinates == null)
+                return PdnError.AMBIGUOUS_CAPTURE;
+            error = this.game.move(0, coordinates);
+        }
+        if (error == null && visitor != null)
+            visitor.visit(key, coordinates);
+        return error;
+    }
+
+    private int getPenalties(Coordinate[] coordinates) {
+        this.game.generateMoves(this.moves);
+        for (int move = 0; move < this.moves.size(); move++)
+            if (Arrays.equals(this.moves.getCoordinates(move), coordinates)) {
+                int penalties = this.game.makeMove(this.moves, move, 0);
+                this.game.unmakeMove();
+                return penalties;
+            }
+        return 0;
+    }
+
+    private Coordinate[] getCapture(Coordinate origin, Coordinate target) {
+        this.game.generateMoves(this.moves);
+        Coordinate[] capture = null;
+        for (int move = 0; move < this.moves.size(); move++) {
+            int length = this.moves.getLength(move);
+            if (this.moves.isCapture(move) && length > 2
+                    && origin.equals(this.moves.getCoordinate(move, 0))
+                    && target.equals(this.moves.getCoordinate(move, length - 1))) {
+                if (capture != null)
+                    return null;
+                capture = this.moves.getCoordinates(move);
+            }
+        }
+        return capture;
+    }
+
+    public Game getGame() {
+        return this.game;
+    }
+
+    public Enum<?> getError() {
+        return this.error;
+    }
+
+    public int getErrorMove() {
+        return this.errorMove;
+    }
+
+}
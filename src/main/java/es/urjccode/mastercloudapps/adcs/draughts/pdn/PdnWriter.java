@@ -0,0 +1,72 @@
+package es.urjccode.mastercloudapps.adcs.draughts.pdn;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+
+public class PdnWriter implements Closeable, Flushable {
+
+    private static final int LINE_WIDTH = 80;
+    private static final String NEWLINE = "\n";
+
+    private Writer writer;
+    private StringBuilder line;
+
+    public PdnWriter(Writer writer) {
+        assert writer != null;
+        this.writer = writer;
+        this.line = new StringBuilder();
+    }
+
+    public void write(PdnGame game) throws IOException {
+        assert game != null;
+        for (Map.Entry<String, String> tag : game.getTags().entrySet())
+            this.writer.write("[" + tag.getKey() + " \"" + PdnWriter.escape(tag.getValue()) + "\"]" + PdnWriter.NEWLINE);
+        this.writer.write(PdnWriter.NEWLINE);
+        Game initialGame = game.getInitialGame();
+        int ply = initialGame != null && initialGame.getTurnColor() == Color.BLACK ? 1 : 0;
+        if (ply == 1 && !game.getMoves().isEmpty())
+            this.append("1...");
+        for (PdnMove move : game.getMoves()) {
+            if (ply % 2 == 0)
+                this.append((ply / 2 + 1) + ".");
+            this.append(move.toString());
+            if (move.getPenalty() != Game.RANDOM_PENALTY)
+                this.append("{penalty " + move.getPenalty() + "}");
+            ply++;
+        }
+        this.append(game.getResult());
+        this.writer.write(this.line.toString() + PdnWriter.NEWLINE + PdnWriter.NEWLINE);
+        this.line.setLength(0);
+    }
+
+    private void append(String token) throws IOException {
+        if (this.line.length() > 0 && this.line.length() + 1 + token.length() > PdnWriter.LINE_WIDTH) {
+            this.writer.write(this.line.toString() + PdnWriter.NEWLINE);
+            this.line.setLength(0);
+        }
+        if (this.line.length() > 0)
+            this.line.append(' ');
+        this.line.append(token);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.writer.close();
+    }
+
+}
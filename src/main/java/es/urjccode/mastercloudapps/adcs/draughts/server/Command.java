@@ -0,0 +1,10 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+enum Command {
+    NEW,
+    MOVE,
+    CANCEL,
+    BOARD,
+    RESET,
+    CLOSE;
+}
@@ -0,0 +1,95 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import es.urjccode.mastercloudapps.adcs.draughts.utils.Console;
+
+public class ConsoleLoadReport {
+
+    private static final int DEFAULT_SESSIONS = 5000;
+    private static final String[] MODES = { "virtual", "platform" };
+    private static final long SETTLE_MILLIS = 2000;
+    private static final long TIMEOUT_MILLIS = 60000;
+    private static final String RESIDENT = "VmRSS:";
+    private static final long BYTES_PER_KILOBYTE = 1024;
+    private static final long BYTES_PER_GIGABYTE = 1L << 30;
+
+    private int sessions;
+
+    public ConsoleLoadReport(int sessions) {
+        assert sessions > 0;
+        this.sessions = sessions;
+    }
+
+    public void report() throws IOException, InterruptedException {
+        Console console = new Console();
+        console.writeln("mode\tsessions\tmegabytes\tsessions/GB");
+        for (String mode : ConsoleLoadReport.MODES) {
+            Process process = new ProcessBuilder(
+                System.getProperty("java.home") + File.separator + "bin" + File.separator + "java",
+                "-cp", System.getProperty("java.class.path"),
+                ConsoleLoadReport.class.getName(), "" + this.sessions, mode).start();
+            BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
+            String line;
+            while ((line = reader.readLine()) != null)
+                console.writeln(line);
+            process.waitFor();
+        }
+    }
+
+    String measure(boolean virtual) throws IOException, InterruptedException {
+        ConsoleServer consoleServer = new ConsoleServer(0, virtual);
+        consoleServer.start();
+        ConsoleLoadReport.settle();
+        long before = ConsoleLoadReport.getResidentBytes();
+        List<Socket> clients = new ArrayList<Socket>();
+        for (int i = 0; i < this.sessions; i++)
+            clients.add(new Socket("localhost", consoleServer.getPort()));
+        long deadline = System.currentTimeMillis() + ConsoleLoadReport.TIMEOUT_MILLIS;
+        while (consoleServer.getSessions() < this.sessions && System.currentTimeMillis() < deadline)
+            Thread.sleep(10);
+        ConsoleLoadReport.settle();
+        long bytes = ConsoleLoadReport.getResidentBytes() - before;
+        int sessions = consoleServer.getSessions();
+        for (Socket client : clients)
+            client.close();
+        consoleServer.stop();
+        return (consoleServer.isVirtual() ? "virtual" : "platform") + "\t" + sessions + "\t"
+            + bytes / (BYTES_PER_KILOBYTE * BYTES_PER_KILOBYTE) + "\t"
+            + sessions * ConsoleLoadReport.BYTES_PER_GIGABYTE / Math.max(1, bytes);
+    }
+
+    private static void settle() throws InterruptedException {
+        System.gc();
+        Thread.sleep(ConsoleLoadReport.SETTLE_MILLIS);
+    }
+
+    private static long getResidentBytes() throws IOException {
+        if (Files.exists(Paths.get("/proc/self/status")))
+            for (String line : Files.readAllLines(Paths.get("/proc/self/status")))
+                if (line.startsWith(ConsoleLoadReport.RESIDENT))
+                    return Long.parseLong(line.replaceAll("[^0-9]", "")) * ConsoleLoadReport.BYTES_PER_KILOBYTE;
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int sessions = ConsoleLoadReport.DEFAULT_SESSIONS;
+        if (args.length > 0)
+            sessions = Integer.parseInt(args[0]);
+        ConsoleLoadReport consoleLoadReport = new ConsoleLoadReport(sessions);
+        if (args.length > 1)
+            new Console().writeln(consoleLoadReport.measure(ConsoleLoadReport.MODES[0].equals(args[1])));
+        else
+            consoleLoadReport.report();
+    }
+
+}
@@ -0,0 +1,86 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import es.urjccode.mastercloudapps.adcs.draughts.controllers.InteractorController;
+import es.urjccode.mastercloudapps.adcs.draughts.controllers.Logic;
+import es.urjccode.mastercloudapps.adcs.draughts.utils.Console;
+import es.urjccode.mastercloudapps.adcs.draughts.views.View;
+
+public class ConsoleServer {
+
+    private static final String ACCEPTOR = "console-acceptor";
+
+    private ServerSocket serverSocket;
+    private ThreadFactory threadFactory;
+    private boolean virtual;
+    private Set<Thread> sessionThreads;
+
+    public ConsoleServer(int port, boolean virtual) throws IOException {
+        this.serverSocket = new ServerSocket(port);
+        this.threadFactory = virtual ? Thread.ofVirtual().factory() : Executors.defaultThreadFactory();
+        this.virtual = virtual;
+        this.sessionThreads = ConcurrentHashMap.newKeySet();
+    }
+
+    public void start() {
+        new Thread(this::accept, ConsoleServer.ACCEPTOR).start();
+    }
+
+    private void accept() {
+        try {
+            while (true) {
+                Socket socket = this.serverSocket.accept();
+                this.threadFactory.newThread(() -> this.play(socket)).start();
+            }
+        } catch (IOException ex) {
+            return;
+        }
+    }
+
+    private void play(Socket socket) {
+        this.sessionThreads.add(Thread.currentThread());
+        try (Socket connection = socket) {
+            View view = new View(new Console(connection.getInputStream(), connection.getOutputStream()));
+            Logic logic = new Logic();
+            InteractorController controller;
+            do {
+                controller = logic.getController();
+                if (controller != null)
+                    view.interact(controller);
+            } while (controller != null);
+        } catch (IOException | UncheckedIOException ex) {
+            return;
+        } finally {
+            this.sessionThreads.remove(Thread.currentThread());
+        }
+    }
+
+    public void stop() throws IOException {
+        this.serverSocket.close();
+    }
+
+    public int getPort() {
+        return this.serverSocket.getLocalPort();
+    }
+
+    public int getSessions() {
+        return this.sessionThreads.size();
+    }
+
+    Set<Thread> getSessionThreads() {
+        return this.sessionThreads;
+    }
+
+    public boolean isVirtual() {
+        return this.virtual;
+    }
+
+}
@@ -0,0 +1,80 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.OutputStreamWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class GameServer {
+
+    private static final String ACCEPTOR = "acceptor";
+
+    private ServerSocket serverSocket;
+    private SessionRegistry sessionRegistry;
+    private Protocol protocol;
+    private ExecutorService connections;
+    private ScheduledExecutorService evictor;
+
+    public GameServer(int port, int maximumConnections, SessionRegistry sessionRegistry) throws IOException {
+        assert maximumConnections > 0;
+        assert sessionRegistry != null;
+        this.serverSocket = new ServerSocket(port);
+        this.sessionRegistry = sessionRegistry;
+        this.protocol = new Protocol(sessionRegistry);
+        this.connections = Executors.newFixedThreadPool(maximumConnections);
+        this.evictor = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    public void start() {
+        long period = this.sessionRegistry.getMaximumIdleMillis();
+        this.evictor.scheduleAtFixedRate(this.sessionRegistry::evictIdle, period, period, TimeUnit.MILLISECONDS);
+        Thread acceptor = new Thread(this::accept, GameServer.ACCEPTOR);
+        acceptor.start();
+    }
+
+    private void accept() {
+        try {
+            while (true) {
+                Socket socket = this.serverSocket.accept();
+                this.connections.execute(() -> this.serve(socket));
+            }
+        } catch (IOException ex) {
+            return;
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (Socket connection = socket;
+                BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+                PrintWriter writer = new PrintWriter(
+                    new OutputStreamWriter(connection.getOutputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                writer.println(this.protocol.execute(line));
+                writer.flush();
+            }
+        } catch (IOException ex) {
+            return;
+        }
+    }
+
+    public void stop() throws IOException {
+        this.serverSocket.close();
+        this.evictor.shutdownNow();
+        this.connections.shutdownNow();
+    }
+
+    public int getPort() {
+        return this.serverSocket.getLocalPort();
+    }
+
+}
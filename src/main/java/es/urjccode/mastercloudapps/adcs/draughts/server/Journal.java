@@ -0,0 +1,378 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.LongConsumer;
+import java.util.zip.CRC32;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+
+public class Journal implements Closeable {
+
+    static final int HEADER_SIZE = Long.BYTES + Integer.BYTES + 3;
+    static final int CHECKSUM_SIZE = Integer.BYTES;
+    static final int MAXIMUM_COORDINATES = 13;
+    static final int MAXIMUM_RECORD_SIZE = Journal.HEADER_SIZE + Journal.MAXIMUM_COORDINATES + Journal.CHECKSUM_SIZE;
+    private static final int DEFAULT_SEGMENT_CAPACITY = 64 * 1024 * 1024;
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final String FLUSHER = "journal-flusher";
+
+    private Path directory;
+    private int segmentCapacity;
+    private long snapshotIndex;
+    private long firstIndex;
+    private long lastIndex;
+    private int recoveredEnd;
+    private Segment segment;
+    private List<Segment> rolled;
+    private CRC32 checksum;
+    private long appended;
+    private long durable;
+    private long commits;
+    private boolean closed;
+    private IOException failure;
+    private LongConsumer rollListener;
+    private PriorityQueue<Waiter> waiters;
+    private Thread flusher;
+
+    private static class Waiter {
+
+        private long sequence;
+        private Runnable callback;
+
+        Waiter(long sequence, Runnable callback) {
+            this.sequence = sequence;
+            this.callback = callback;
+        }
+
+    }
+
+    public Journal(Path directory) throws IOException {
+        this(directory, Journal.DEFAULT_SEGMENT_CAPACITY);
+    }
+
+    public Journal(Path directory, int segmentCapacity) throws IOException {
+        assert directory != null;
+        assert segmentCapacity >= Journal.MAXIMUM_RECORD_SIZE;
+        this.directory = Files.createDirectories(directory);
+        this.segmentCapacity = segmentCapacity;
+        this.snapshotIndex = Segment.NONE;
+        this.firstIndex = Segment.NONE;
+        this.lastIndex = Segment.NONE;
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory)) {
+            for (Path path : paths) {
+                long index = Segment.getIndex(path);
+                if (index != Segment.NONE) {
+                    if (this.firstIndex == Segment.NONE || index < this.firstIndex)
+                        this.firstIndex = index;
+                    this.lastIndex = Math.max(this.lastIndex, index);
+                }
+                this.snapshotIndex = Math.max(this.snapshotIndex, Segment.getSnapshotIndex(path));
+            }
+        }
+        if (this.lastIndex == Segment.NONE) {
+            this.firstIndex = 0;
+            this.lastIndex = 0;
+        }
+        if (this.snapshotIndex != Segment.NONE)
+            this.firstIndex = this.snapshotIndex;
+        this.segment = new Segment(directory, this.lastIndex, segmentCapacity);
+        MappedByteBuffer buffer = this.segment.getBuffer();
+        this.checksum = new CRC32();
+        this.recoveredEnd = Journal.scan(buffer, buffer.capacity(), this.checksum, null, null);
+        for (int i = this.recoveredEnd; i < Math.min(buffer.capacity(), this.recoveredEnd + Journal.MAXIMUM_RECORD_SIZE); i++)
+            buffer.put(i, (byte) 0);
+        buffer.position(this.recoveredEnd);
+        this.rolled = new ArrayList<Segment>();
+        this.waiters = new PriorityQueue<Waiter>(Comparator.comparingLong((Waiter waiter) -> waiter.sequence));
+        this.flusher = new Thread(this::flush, Journal.FLUSHER);
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    synchronized long append(long id, int version, Command command, int penalty, Coordinate[] coordinates) {
+        assert command != null;
+        assert command != Command.MOVE || coordinates != null;
+        if (this.closed)
+            throw new IllegalStateException();
+        if (this.failure != null)
+            throw new UncheckedIOException(this.failure);
+        MappedByteBuffer buffer = this.segment.getBuffer();
+        if (buffer.remaining() < Journal.MAXIMUM_RECORD_SIZE)
+            try {
+                long index = this.roll();
+                if (this.rollListener != null)
+                    this.rollListener.accept(index);
+                buffer = this.segment.getBuffer();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        int start = buffer.position();
+        Journal.write(buffer, id, version, command, penalty, coordinates);
+        int end = buffer.position();
+        this.checksum.reset();
+        buffer.limit(end).position(start);
+        this.checksum.update(buffer);
+        buffer.limit(buffer.capacity());
+        buffer.putInt((int) this.checksum.getValue());
+        this.appended += buffer.position() - start;
+        this.notifyAll();
+        return this.appended;
+    }
+
+    private static void write(ByteBuffer buffer, long id, int version, Command command, int penalty,
+            Coordinate[] coordinates) {
+        buffer.putLong(id);
+        buffer.putInt(version);
+        buffer.put((byte) command.ordinal());
+        buffer.put((byte) penalty);
+        if (coordinates == null) {
+            buffer.put((byte) 0);
+            return;
+        }
+        assert coordinates.length <= Journal.MAXIMUM_COORDINATES;
+        buffer.put((byte) coordinates.length);
+        for (Coordinate coordinate : coordinates)
+            buffer.put((byte) coordinate.getIndex());
+    }
+
+    synchronized long roll() throws IOException {
+        Segment segment = new Segment(this.directory, this.segment.getIndex() + 1, this.segmentCapacity);
+        this.rolled.add(this.segment);
+        this.segment = segment;
+        return segment.getIndex();
+    }
+
+    public synchronized void await(long sequence) {
+        while (this.durable < sequence && this.failure == null && !this.closed)
+            try {
+                this.wait();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        if (this.failure != null)
+            throw new UncheckedIOException(this.failure);
+    }
+
+    public void onDurable(long sequence, Runnable callback) {
+        assert callback != null;
+        synchronized (this) {
+            if (this.durable < sequence && this.failure == null && !this.closed) {
+                this.waiters.add(new Waiter(sequence, callback));
+                return;
+            }
+        }
+        callback.run();
+    }
+
+    public synchronized boolean isDurable(long sequence) {
+        return this.durable >= sequence;
+    }
+
+    private void notifyWaiters() {
+        List<Runnable> callbacks = new ArrayList<Runnable>();
+        synchronized (this) {
+            while (!this.waiters.isEmpty() && (this.waiters.peek().sequence <= this.durable
+                    || this.failure != null || this.closed))
+                callbacks.add(this.waiters.poll().callback);
+        }
+        for (Runnable callback : callbacks)
+            callback.run();
+    }
+
+    private void flush() {
+        while (true) {
+            long sequence;
+            Segment segment;
+            List<Segment> rolled;
+            synchronized (this) {
+                while (this.durable == this.appended && !this.closed)
+                    try {
+                        this.wait();
+                    } catch (InterruptedException ex) {
+                        return;
+                    }
+                if (this.durable == this.appended)
+                    return;
+                sequence = this.appended;
+                segment = this.segment;
+                rolled = new ArrayList<Segment>(this.rolled);
+                this.rolled.clear();
+            }
+            try {
+                for (Segment old : rolled) {
+                    old.force();
+                    old.close();
+                }
+                segment.force();
+            } catch (IOException ex) {
+                synchronized (this) {
+                    this.failure = ex;
+                    this.notifyAll();
+                }
+                this.notifyWaiters();
+                return;
+            }
+            synchronized (this) {
+                this.durable = sequence;
+                this.commits++;
+                this.notifyAll();
+            }
+            this.notifyWaiters();
+        }
+    }
+
+    private static int scan(ByteBuffer buffer, int limit, CRC32 checksum, Coordinate[][] coordinates,
+            Replayer replayer) {
+        int position = 0;
+        while (position + Journal.HEADER_SIZE + Journal.CHECKSUM_SIZE <= limit) {
+            int length = buffer.get(position + Journal.HEADER_SIZE - 1);
+            if (length < 0 || length > Journal.MAXIMUM_COORDINATES)
+                return position;
+            int size = Journal.HEADER_SIZE + length + Journal.CHECKSUM_SIZE;
+            if (position + size > limit)
+                return position;
+            checksum.reset();
+            buffer.limit(position + size - Journal.CHECKSUM_SIZE).position(position);
+            checksum.update(buffer);
+            buffer.limit(buffer.capacity());
+            if (buffer.getInt(position + size - Journal.CHECKSUM_SIZE) != (int) checksum.getValue())
+                return position;
+            if (replayer != null) {
+                Coordinate[] moveCoordinates = null;
+                if (length > 0) {
+                    moveCoordinates = coordinates[length];
+                    for (int i = 0; i < length; i++) {
+                        int index = buffer.get(position + Journal.HEADER_SIZE + i);
+                        moveCoordinates[i] = Coordinate.of(index / Coordinate.getDimension(),
+                            index % Coordinate.getDimension());
+                    }
+                }
+                replayer.replay(buffer.getLong(position), buffer.getInt(position + Long.BYTES),
+                    Command.values()[buffer.get(position + Long.BYTES + Integer.BYTES)],
+                    buffer.get(position + Long.BYTES + Integer.BYTES + 1), moveCoordinates);
+            }
+            position += size;
+        }
+        return position;
+    }
+
+    void replay(Replayer replayer) throws IOException {
+        assert replayer != null;
+        CRC32 checksum = new CRC32();
+        Coordinate[][] coordinates = new Coordinate[Journal.MAXIMUM_COORDINATES + 1][];
+        for (int i = 0; i < coordinates.length; i++)
+            coordinates[i] = new Coordinate[i];
+        for (long index = this.firstIndex; index <= this.lastIndex; index++)
+            if (Files.exists(Segment.getPath(this.directory, index))) {
+                MappedByteBuffer buffer = Segment.map(this.directory, index);
+                Journal.scan(buffer, index == this.lastIndex ? this.recoveredEnd : buffer.capacity(), checksum,
+                    coordinates, replayer);
+            }
+    }
+
+    ByteBuffer readSnapshot() throws IOException {
+        if (this.snapshotIndex == Segment.NONE)
+            return null;
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(Segment.getSnapshotPath(this.directory, this.snapshotIndex)));
+        int size = buffer.capacity() - Journal.CHECKSUM_SIZE;
+        CRC32 checksum = new CRC32();
+        if (size >= 0)
+            checksum.update(buffer.array(), 0, size);
+        if (size < 0 || buffer.getInt(size) != (int) checksum.getValue())
+            throw new IOException("Corrupt snapshot " + this.snapshotIndex);
+        buffer.limit(size);
+        return buffer;
+    }
+
+    void writeSnapshot(long index, ByteBuffer snapshot) throws IOException {
+        assert snapshot != null;
+        Path path = Segment.getSnapshotPath(this.directory, index);
+        Path temporary = path.resolveSibling(path.getFileName() + Journal.TEMPORARY_SUFFIX);
+        CRC32 checksum = new CRC32();
+        checksum.update(snapshot.array(), snapshot.position(), snapshot.remaining());
+        ByteBuffer trailer = ByteBuffer.allocate(Journal.CHECKSUM_SIZE).putInt((int) checksum.getValue());
+        trailer.flip();
+        try (FileChannel fileChannel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (snapshot.hasRemaining())
+                fileChannel.write(snapshot);
+            while (trailer.hasRemaining())
+                fileChannel.write(trailer);
+            fileChannel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    void compact(long index) throws IOException {
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(this.directory)) {
+            for (Path path : paths) {
+                long segment = Segment.getIndex(path);
+                long snapshot = Segment.getSnapshotIndex(path);
+                if ((segment != Segment.NONE && segment < index) || (snapshot != Segment.NONE && snapshot < index))
+                    Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    synchronized void setRollListener(LongConsumer rollListener) {
+        this.rollListener = rollListener;
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            this.closed = true;
+            this.notifyAll();
+        }
+        try {
+            this.flusher.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        for (Segment segment : this.rolled) {
+            segment.force();
+            segment.close();
+        }
+        this.segment.force();
+        this.segment.close();
+        this.notifyWaiters();
+    }
+
+    public Path getDirectory() {
+        return this.directory;
+    }
+
+    public synchronized long getSegmentIndex() {
+        return this.segment.getIndex();
+    }
+
+    public long getSnapshotIndex() {
+        return this.snapshotIndex;
+    }
+
+    public synchronized long getCommits() {
+        return this.commits;
+    }
+
+    interface Replayer {
+
+        void replay(long id, int version, Command command, int penalty, Coordinate[] coordinates);
+
+    }
+
+}
@@ -0,0 +1,158 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+
+class LineParser {
+
+    private static final int MAXIMUM_TOKENS = 3;
+    private static final int MAXIMUM_ID_DIGITS = 18;
+    private static final int MINIMUM_COORDINATES = 2;
+    private static final int MAXIMUM_COORDINATES = 3;
+    private static final byte SPACE = ' ';
+    private static final byte SEPARATOR = '.';
+    private static final byte[][] COMMANDS = LineParser.getCommands();
+
+    private int[] starts;
+    private int[] ends;
+    private int tokens;
+    private Command command;
+    private long id;
+    private Coordinate[][] coordinates;
+    private int length;
+    private ProtocolError error;
+
+    LineParser() {
+        this.starts = new int[LineParser.MAXIMUM_TOKENS];
+        this.ends = new int[LineParser.MAXIMUM_TOKENS];
+        this.coordinates = new Coordinate[LineParser.MAXIMUM_COORDINATES + 1][];
+        for (int i = LineParser.MINIMUM_COORDINATES; i <= LineParser.MAXIMUM_COORDINATES; i++)
+            this.coordinates[i] = new Coordinate[i];
+    }
+
+    private static byte[][] getCommands() {
+        byte[][] commands = new byte[Command.values().length][];
+        for (Command command : Command.values())
+            commands[command.ordinal()] = command.name().getBytes(StandardCharsets.US_ASCII);
+        return commands;
+    }
+
+    boolean parse(ByteBuffer buffer, int start, int end) {
+        assert buffer != null;
+        assert 0 <= start && start <= end && end <= buffer.limit();
+        this.command = null;
+        this.length = 0;
+        this.error = null;
+        this.tokenize(buffer, start, end);
+        if (this.tokens == 1 && this.getCommand(buffer, 0) == Command.NEW) {
+            this.command = Command.NEW;
+            return true;
+        }
+        this.error = ProtocolError.UNKNOWN_COMMAND;
+        if (this.tokens < 2 || this.tokens > LineParser.MAXIMUM_TOKENS)
+            return false;
+        Command command = this.getCommand(buffer, 1);
+        if (command == null || command == Command.NEW)
+            return false;
+        this.error = ProtocolError.UNKNOWN_SESSION;
+        if (!this.parseId(buffer))
+            return false;
+        this.error = null;
+        this.command = command;
+        if (command == Command.MOVE && this.tokens == LineParser.MAXIMUM_TOKENS)
+            this.parseCoordinates(buffer);
+        return true;
+    }
+
+    private void tokenize(ByteBuffer buffer, int start, int end) {
+        this.tokens = 0;
+        int i = start;
+        while (i < end) {
+            while (i < end && buffer.get(i) <= LineParser.SPACE)
+                i++;
+            if (i == end)
+                return;
+            int tokenStart = i;
+            while (i < end && buffer.get(i) > LineParser.SPACE)
+                i++;
+            if (this.tokens < LineParser.MAXIMUM_TOKENS) {
+                this.starts[this.tokens] = tokenStart;
+                this.ends[this.tokens] = i;
+            }
+            this.tokens++;
+        }
+    }
+
+    private Command getCommand(ByteBuffer buffer, int token) {
+        int length = this.ends[token] - this.starts[token];
+        for (Command command : Command.values()) {
+            byte[] name = LineParser.COMMANDS[command.ordinal()];
+            if (name.length != length)
+                continue;
+            int i = 0;
+            while (i < length && Character.toUpperCase(buffer.get(this.starts[token] + i)) == name[i])
+                i++;
+            if (i == length)
+                return command;
+        }
+        return null;
+    }
+
+    private boolean parseId(ByteBuffer buffer) {
+        int start = this.starts[0];
+        int end = this.ends[0];
+        if (end - start > LineParser.MAXIMUM_ID_DIGITS)
+            return false;
+        long id = 0;
+        for (int i = start; i < end; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9)
+                return false;
+            id = id * 10 + digit;
+        }
+        this.id = id;
+        return true;
+    }
+
+    private void parseCoordinates(ByteBuffer buffer) {
+        int start = this.starts[2];
+        int end = this.ends[2];
+        int length = (end - start + 1) / 3;
+        if (length < LineParser.MINIMUM_COORDINATES || length > LineParser.MAXIMUM_COORDINATES
+                || end - start != length * 3 - 1)
+            return;
+        Coordinate[] coordinates = this.coordinates[length];
+        for (int i = 0; i < length; i++) {
+            int position = start + i * 3;
+            if (i > 0 && buffer.get(position - 1) != LineParser.SEPARATOR)
+                return;
+            int row = buffer.get(position) - '1';
+            int column = buffer.get(position + 1) - '1';
+            if (row < 0 || row >= Coordinate.getDimension() || column < 0 || column >= Coordinate.getDimension())
+                return;
+            coordinates[i] = Coordinate.of(row, column);
+        }
+        this.length = length;
+    }
+
+    Command getCommand() {
+        return this.command;
+    }
+
+    long getId() {
+        return this.id;
+    }
+
+    Coordinate[] getCoordinates() {
+        if (this.length == 0)
+            return null;
+        return this.coordinates[this.length];
+    }
+
+    ProtocolError getError() {
+        return this.error;
+    }
+
+}
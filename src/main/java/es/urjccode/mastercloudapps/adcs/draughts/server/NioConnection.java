@@ -0,0 +1,242 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Error;
+import es.urjccode.mastercloudapps.adcs.draughts.models.StateValue;
+
+class NioConnection {
+
+    private static final int INPUT_CAPACITY = 4096;
+    private static final int HEADER_CAPACITY = 128;
+    private static final int BODY_CAPACITY = 4 * Session.SQUARES + 2;
+    private static final byte NEWLINE = '\n';
+    private static final byte SPACE = ' ';
+    private static final byte[] OK = NioConnection.getBytes("OK");
+    private static final byte[] ERROR = NioConnection.getBytes("ERROR");
+    private static final Map<Enum<?>, byte[]> NAMES = NioConnection.getNames();
+
+    private SelectionKey key;
+    private SocketChannel channel;
+    private Reactor reactor;
+    private SessionRegistry sessionRegistry;
+    private LineParser lineParser;
+    private ByteBuffer input;
+    private ByteBuffer header;
+    private ByteBuffer body;
+    private ByteBuffer[] outputs;
+    private byte[] before;
+    private byte[] after;
+    private long sequence;
+    private boolean waiting;
+
+    NioConnection(SelectionKey key, Reactor reactor, SessionRegistry sessionRegistry) {
+        assert key != null;
+        assert reactor != null;
+        assert sessionRegistry != null;
+        this.key = key;
+        this.channel = (SocketChannel) key.channel();
+        this.reactor = reactor;
+        this.sessionRegistry = sessionRegistry;
+        this.lineParser = new LineParser();
+        this.input = ByteBuffer.allocate(NioConnection.INPUT_CAPACITY);
+        this.header = ByteBuffer.allocate(NioConnection.HEADER_CAPACITY);
+        this.body = ByteBuffer.allocate(NioConnection.BODY_CAPACITY);
+        this.header.limit(0);
+        this.body.limit(0);
+        this.outputs = new ByteBuffer[] { this.header, this.body };
+        this.before = new byte[Session.SQUARES];
+        this.after = new byte[Session.SQUARES];
+    }
+
+    private static byte[] getBytes(String string) {
+        return string.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static Map<Enum<?>, byte[]> getNames() {
+        Map<Enum<?>, byte[]> names = new HashMap<Enum<?>, byte[]>();
+        for (Enum<?>[] values : new Enum<?>[][] { StateValue.values(), Color.values(), Error.values(),
+                ProtocolError.values(), Command.values() })
+            for (Enum<?> value : values)
+                names.put(value, NioConnection.getBytes(value.name()));
+        return names;
+    }
+
+    boolean read() throws IOException {
+        if (this.channel.read(this.input) < 0)
+            return false;
+        if (!this.waiting)
+            this.process();
+        return true;
+    }
+
+    void write() throws IOException {
+        if (!this.waiting && this.flush())
+            this.process();
+    }
+
+    void resume() throws IOException {
+        assert this.waiting;
+        this.waiting = false;
+        if (!this.sessionRegistry.isDurable(this.sequence))
+            throw new IOException("Journal not durable");
+        this.write();
+    }
+
+    private void process() throws IOException {
+        this.input.flip();
+        int start = this.input.position();
+        boolean flushed = true;
+        for (int i = start; flushed && i < this.input.limit(); i++)
+            if (this.input.get(i) == NioConnection.NEWLINE) {
+                this.execute(start, i);
+                start = i + 1;
+                flushed = this.complete();
+            }
+        if (flushed && start == 0 && this.input.limit() == this.input.capacity()) {
+            this.putError(ProtocolError.UNKNOWN_COMMAND);
+            start = this.input.limit();
+            this.flush();
+        }
+        this.input.position(start);
+        this.input.compact();
+    }
+
+    private boolean complete() throws IOException {
+        if (this.sessionRegistry.isDurable(this.sequence))
+            return this.flush();
+        this.waiting = true;
+        this.key.interestOps(0);
+        this.sessionRegistry.onDurable(this.sequence, () -> this.reactor.resume(this.key));
+        return false;
+    }
+
+    private boolean flush() throws IOException {
+        this.channel.write(this.outputs);
+        boolean flushed = !this.body.hasRemaining();
+        int interestOps = flushed ? SelectionKey.OP_READ : SelectionKey.OP_WRITE;
+        if (this.key.interestOps() != interestOps)
+            this.key.interestOps(interestOps);
+        return flushed;
+    }
+
+    private void execute(int start, int end) {
+        this.header.clear();
+        this.body.clear();
+        this.sequence = 0;
+        Enum<?> error = this.reply(start, end);
+        if (error != null)
+            this.putError(error);
+        else
+            this.end();
+    }
+
+    private Enum<?> reply(int start, int end) {
+        if (!this.lineParser.parse(this.input, start, end))
+            return this.lineParser.getError();
+        Command command = this.lineParser.getCommand();
+        if (command == Command.NEW) {
+            Session session = this.sessionRegistry.create();
+            if (session == null)
+                return ProtocolError.TOO_MANY_SESSIONS;
+            return this.reply(session, Command.BOARD, null);
+        }
+        long id = this.lineParser.getId();
+        if (command == Command.CLOSE) {
+            if (!this.sessionRegistry.remove(id))
+                return ProtocolError.UNKNOWN_SESSION;
+            this.putHeader(id);
+            this.header.put(NioConnection.SPACE).put(NioConnection.NAMES.get(command));
+            return null;
+        }
+        Session session = this.sessionRegistry.get(id);
+        if (session == null)
+            return ProtocolError.UNKNOWN_SESSION;
+        Coordinate[] coordinates = null;
+        if (command == Command.MOVE) {
+            coordinates = this.lineParser.getCoordinates();
+            if (coordinates == null)
+                return Error.BAD_FORMAT;
+        }
+        return this.reply(session, command, coordinates);
+    }
+
+    private Enum<?> reply(Session session, Command command, Coordinate[] coordinates) {
+        synchronized (session) {
+            if (command == Command.MOVE)
+                session.writeBoard(this.before);
+            this.sequence = session.execute(command, coordinates);
+            Enum<?> error = session.getError();
+            if (error != null)
+                return error;
+            session.writeBoard(this.after);
+            this.putHeader(session.getId());
+            this.header.put(NioConnection.SPACE).put(NioConnection.NAMES.get(session.getStateValue()));
+            this.header.put(NioConnection.SPACE).put(NioConnection.NAMES.get(session.getTurnColor()));
+        }
+        if (command == Command.MOVE)
+            this.putDifferences();
+        else
+            this.body.put(NioConnection.SPACE).put(this.after);
+        return null;
+    }
+
+    private void putHeader(long id) {
+        this.header.put(NioConnection.OK).put(NioConnection.SPACE);
+        this.putNumber(id);
+    }
+
+    private void putNumber(long number) {
+        assert number >= 0;
+        int digits = 1;
+        for (long value = number / 10; value > 0; value /= 10)
+            digits++;
+        int position = this.header.position();
+        for (int i = digits - 1; i >= 0; i--) {
+            this.header.put(position + i, (byte) ('0' + number % 10));
+            number /= 10;
+        }
+        this.header.position(position + digits);
+    }
+
+    private void putDifferences() {
+        for (int i = 0; i < Session.SQUARES; i++)
+            if (this.before[i] != this.after[i]) {
+                this.body.put(NioConnection.SPACE);
+                this.body.put((byte) ('1' + i / Coordinate.getDimension()));
+                this.body.put((byte) ('1' + i % Coordinate.getDimension()));
+                this.body.put(this.after[i]);
+            }
+    }
+
+    private void putError(Enum<?> error) {
+        this.header.clear();
+        this.body.clear();
+        this.header.put(NioConnection.ERROR).put(NioConnection.SPACE).put(NioConnection.NAMES.get(error));
+        this.end();
+    }
+
+    private void end() {
+        this.body.put(NioConnection.NEWLINE);
+        this.header.flip();
+        this.body.flip();
+    }
+
+    void close() {
+        this.key.cancel();
+        try {
+            this.channel.close();
+        } catch (IOException ex) {
+            return;
+        }
+    }
+
+}
@@ -0,0 +1,72 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class NioServer {
+
+    private static final String ACCEPTOR = "nio-acceptor";
+    private static final String REACTOR = "nio-reactor-";
+
+    private ServerSocketChannel serverSocketChannel;
+    private SessionRegistry sessionRegistry;
+    private Reactor[] reactors;
+    private ScheduledExecutorService evictor;
+
+    public NioServer(int port, int reactors, SessionRegistry sessionRegistry) throws IOException {
+        assert reactors > 0;
+        assert sessionRegistry != null;
+        this.serverSocketChannel = ServerSocketChannel.open();
+        this.serverSocketChannel.bind(new InetSocketAddress(port));
+        this.sessionRegistry = sessionRegistry;
+        this.reactors = new Reactor[reactors];
+        for (int i = 0; i < reactors; i++)
+            this.reactors[i] = new Reactor(sessionRegistry);
+        this.evictor = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    public void start() {
+        long period = this.sessionRegistry.getMaximumIdleMillis();
+        this.evictor.scheduleAtFixedRate(this.sessionRegistry::evictIdle, period, period, TimeUnit.MILLISECONDS);
+        for (int i = 0; i < this.reactors.length; i++)
+            new Thread(this.reactors[i], NioServer.REACTOR + i).start();
+        new Thread(this::accept, NioServer.ACCEPTOR).start();
+    }
+
+    private void accept() {
+        int next = 0;
+        try {
+            while (true) {
+                SocketChannel channel = this.serverSocketChannel.accept();
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                this.reactors[next].register(channel);
+                next = (next + 1) % this.reactors.length;
+            }
+        } catch (IOException ex) {
+            return;
+        }
+    }
+
+    public void stop() throws IOException {
+        this.serverSocketChannel.close();
+        this.evictor.shutdownNow();
+        for (Reactor reactor : this.reactors)
+            reactor.stop();
+    }
+
+    public int getPort() {
+        return this.serverSocketChannel.socket().getLocalPort();
+    }
+
+    public int getReactors() {
+        return this.reactors.length;
+    }
+
+}
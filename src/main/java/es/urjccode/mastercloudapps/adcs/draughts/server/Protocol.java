@@ -0,0 +1,66 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+public class Protocol {
+
+    private static final String OK = "OK";
+    private static final String ERROR = "ERROR";
+    private static final String SEPARATOR = " ";
+    private static final String SEPARATORS = " +";
+
+    private SessionRegistry sessionRegistry;
+
+    public Protocol(SessionRegistry sessionRegistry) {
+        assert sessionRegistry != null;
+        this.sessionRegistry = sessionRegistry;
+    }
+
+    public String execute(String line) {
+        assert line != null;
+        String[] tokens = line.trim().split(Protocol.SEPARATORS);
+        if (tokens.length == 1 && Protocol.getCommand(tokens[0]) == Command.NEW) {
+            Session session = this.sessionRegistry.create();
+            if (session == null)
+                return Protocol.getError(ProtocolError.TOO_MANY_SESSIONS);
+            return session.reply(Command.BOARD, null);
+        }
+        if (tokens.length < 2 || tokens.length > 3)
+            return Protocol.getError(ProtocolError.UNKNOWN_COMMAND);
+        Command command = Protocol.getCommand(tokens[1]);
+        if (command == null || command == Command.NEW)
+            return Protocol.getError(ProtocolError.UNKNOWN_COMMAND);
+        long id;
+        try {
+            id = Long.parseLong(tokens[0]);
+        } catch (NumberFormatException ex) {
+            return Protocol.getError(ProtocolError.UNKNOWN_SESSION);
+        }
+        if (command == Command.CLOSE) {
+            if (!this.sessionRegistry.remove(id))
+                return Protocol.getError(ProtocolError.UNKNOWN_SESSION);
+            return Protocol.getReply(id, command.name());
+        }
+        Session session = this.sessionRegistry.get(id);
+        if (session == null)
+            return Protocol.getError(ProtocolError.UNKNOWN_SESSION);
+        return session.reply(command, tokens.length == 3 ? tokens[2] : null);
+    }
+
+    private static Command getCommand(String string) {
+        for (Command command : Command.values())
+            if (command.name().equalsIgnoreCase(string))
+                return command;
+        return null;
+    }
+
+    static String getReply(long id, String... values) {
+        String reply = Protocol.OK + Protocol.SEPARATOR + id;
+        for (String value : values)
+            reply += Protocol.SEPARATOR + value;
+        return reply;
+    }
+
+    static String getError(Enum<?> error) {
+        return Protocol.ERROR + Protocol.SEPARATOR + error.name();
+    }
+
+}
@@ -0,0 +1,8 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+enum ProtocolError {
+    UNKNOWN_COMMAND,
+    UNKNOWN_SESSION,
+    TOO_MANY_SESSIONS,
+    WRONG_STATE;
+}
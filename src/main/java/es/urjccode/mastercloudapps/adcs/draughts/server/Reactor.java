@@ -0,0 +1,127 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import java.io.IOException;
+import java.nio.channels.Channel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+class Reactor implements Runnable {
+
+    private Selector selector;
+    private SessionRegistry sessionRegistry;
+    private Queue<SocketChannel> channels;
+    private Queue<SelectionKey> resumed;
+    private volatile boolean running;
+
+    Reactor(SessionRegistry sessionRegistry) throws IOException {
+        assert sessionRegistry != null;
+        this.selector = Selector.open();
+        this.sessionRegistry = sessionRegistry;
+        this.channels = new ConcurrentLinkedQueue<SocketChannel>();
+        this.resumed = new ConcurrentLinkedQueue<SelectionKey>();
+        this.running = true;
+    }
+
+    void resume(SelectionKey key) {
+        assert key != null;
+        this.resumed.add(key);
+        this.selector.wakeup();
+    }
+
+    void register(SocketChannel channel) {
+        assert channel != null;
+        this.channels.add(channel);
+        this.selector.wakeup();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (this.running) {
+                this.selector.select();
+                this.registerChannels();
+                this.resumeConnections();
+                Iterator<SelectionKey> iterator = this.selector.selectedKeys().iterator();
+                while (iterator.hasNext()) {
+                    SelectionKey key = iterator.next();
+                    iterator.remove();
+                    this.handle(key);
+                }
+            }
+        } catch (IOException ex) {
+            return;
+        } finally {
+            this.close();
+        }
+    }
+
+    private void registerChannels() {
+        SocketChannel channel;
+        while ((channel = this.channels.poll()) != null)
+            try {
+                SelectionKey key = channel.register(this.selector, SelectionKey.OP_READ);
+                key.attach(new NioConnection(key, this, this.sessionRegistry));
+            } catch (IOException ex) {
+                Reactor.close(channel);
+            }
+    }
+
+    private void resumeConnections() {
+        SelectionKey key;
+        while ((key = this.resumed.poll()) != null)
+            if (key.isValid()) {
+                NioConnection connection = (NioConnection) key.attachment();
+                try {
+                    connection.resume();
+                } catch (IOException ex) {
+                    connection.close();
+                }
+            }
+    }
+
+    private void handle(SelectionKey key) {
+        if (!key.isValid())
+            return;
+        NioConnection connection = (NioConnection) key.attachment();
+        try {
+            if (key.isReadable()) {
+                if (!connection.read())
+                    connection.close();
+            } else if (key.isWritable())
+                connection.write();
+        } catch (IOException ex) {
+            connection.close();
+        }
+    }
+
+    void stop() {
+        this.running = false;
+        this.selector.wakeup();
+    }
+
+    private void close() {
+        for (SelectionKey key : this.selector.keys())
+            Reactor.close(key.channel());
+        SocketChannel channel;
+        while ((channel = this.channels.poll()) != null)
+            Reactor.close(channel);
+        try {
+            this.selector.close();
+        } catch (IOException ex) {
+            return;
+        }
+    }
+
+    private static void close(Channel channel) {
+        try {
+            channel.close();
+        } catch (IOException ex) {
+            return;
+        }
+    }
+
+}
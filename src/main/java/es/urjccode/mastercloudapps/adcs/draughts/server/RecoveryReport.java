@@ -0,0 +1,100 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+import es.urjccode.mastercloudapps.adcs.draughts.utils.Console;
+
+public class RecoveryReport {
+
+    private static final int DEFAULT_GAMES = 100000;
+    private static final int DEFAULT_MOVES = 40;
+    private static final long SEED = 2020;
+    private static final long IDLE_MILLIS = 60000;
+
+    private int games;
+    private int moves;
+
+    public RecoveryReport(int games, int moves) {
+        assert games > 0;
+        assert moves >= 0;
+        this.games = games;
+        this.moves = moves;
+    }
+
+    public void report(int threads) throws IOException {
+        Console console = new Console();
+        Path directory = Files.createTempDirectory("draughts");
+        try {
+            long start = System.currentTimeMillis();
+            long records = this.write(directory);
+            console.writeln("records\twrite millis");
+            console.writeln(records + "\t" + (System.currentTimeMillis() - start));
+            console.writeln("source\tthreads\tgames\trecovery millis");
+            this.recover(console, directory, threads, "journal");
+            try (Journal journal = new Journal(directory)) {
+                SessionRegistry sessionRegistry = new SessionRegistry(this.games, RecoveryReport.IDLE_MILLIS, journal);
+                sessionRegistry.recover(threads);
+                sessionRegistry.snapshot();
+            }
+            this.recover(console, directory, threads, "snapshot");
+        } finally {
+            try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory)) {
+                for (Path path : paths)
+                    Files.delete(path);
+            }
+            Files.delete(directory);
+        }
+    }
+
+    private void recover(Console console, Path directory, int threads, String source) throws IOException {
+        for (int i = 1; i <= threads; i *= 2) {
+            long start = System.currentTimeMillis();
+            int recovered;
+            try (Journal journal = new Journal(directory)) {
+                recovered = new SessionRegistry(this.games, RecoveryReport.IDLE_MILLIS, journal).recover(i);
+            }
+            console.writeln(source + "\t" + i + "\t" + recovered + "\t" + (System.currentTimeMillis() - start));
+        }
+    }
+
+    long write(Path directory) throws IOException {
+        Random random = new Random(RecoveryReport.SEED);
+        MoveBuffer moves = new MoveBuffer();
+        long records = 0;
+        try (Journal journal = new Journal(directory)) {
+            for (long id = 1; id <= this.games; id++) {
+                journal.append(id, 1, Command.NEW, Game.RANDOM_PENALTY, null);
+                records++;
+                Game game = new Game();
+                for (int i = 0; i < this.moves && !game.isBlocked(); i++) {
+                    game.generateMoves(moves);
+                    int move = random.nextInt(moves.size());
+                    game.makeMove(moves, move, 0);
+                    journal.append(id, i + 2, Command.MOVE, game.getLastPenalty(), moves.getCoordinates(move));
+                    records++;
+                }
+            }
+        }
+        return records;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int games = RecoveryReport.DEFAULT_GAMES;
+        int moves = RecoveryReport.DEFAULT_MOVES;
+        int threads = Runtime.getRuntime().availableProcessors();
+        if (args.length > 0)
+            games = Integer.parseInt(args[0]);
+        if (args.length > 1)
+            moves = Integer.parseInt(args[1]);
+        if (args.length > 2)
+            threads = Integer.parseInt(args[2]);
+        new RecoveryReport(games, moves).report(threads);
+    }
+
+}
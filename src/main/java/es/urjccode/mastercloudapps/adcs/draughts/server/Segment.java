@@ -0,0 +1,84 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+class Segment implements Closeable {
+
+    private static final String PREFIX = "segment-";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SUFFIX = ".log";
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+    private static final String FORMAT = "%s%016d%s";
+    static final long NONE = -1;
+
+    private long index;
+    private FileChannel fileChannel;
+    private MappedByteBuffer buffer;
+
+    Segment(Path directory, long index, int capacity) throws IOException {
+        assert directory != null;
+        assert index >= 0;
+        assert capacity > 0;
+        this.index = index;
+        this.fileChannel = FileChannel.open(Segment.getPath(directory, index), StandardOpenOption.CREATE,
+            StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.buffer = this.fileChannel.map(MapMode.READ_WRITE, 0, Math.max(capacity, this.fileChannel.size()));
+    }
+
+    static MappedByteBuffer map(Path directory, long index) throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(Segment.getPath(directory, index), StandardOpenOption.READ)) {
+            return fileChannel.map(MapMode.READ_ONLY, 0, fileChannel.size());
+        }
+    }
+
+    static Path getPath(Path directory, long index) {
+        return directory.resolve(String.format(Segment.FORMAT, Segment.PREFIX, index, Segment.SUFFIX));
+    }
+
+    static Path getSnapshotPath(Path directory, long index) {
+        return directory.resolve(String.format(Segment.FORMAT, Segment.SNAPSHOT_PREFIX, index, Segment.SNAPSHOT_SUFFIX));
+    }
+
+    static long getIndex(Path path) {
+        return Segment.getIndex(path, Segment.PREFIX, Segment.SUFFIX);
+    }
+
+    static long getSnapshotIndex(Path path) {
+        return Segment.getIndex(path, Segment.SNAPSHOT_PREFIX, Segment.SNAPSHOT_SUFFIX);
+    }
+
+    private static long getIndex(Path path, String prefix, String suffix) {
+        String name = path.getFileName().toString();
+        if (!name.startsWith(prefix) || !name.endsWith(suffix))
+            return Segment.NONE;
+        try {
+            return Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length()));
+        } catch (NumberFormatException ex) {
+            return Segment.NONE;
+        }
+    }
+
+    long getIndex() {
+        return this.index;
+    }
+
+    MappedByteBuffer getBuffer() {
+        return this.buffer;
+    }
+
+    void force() {
+        this.buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.fileChannel.close();
+    }
+
+}
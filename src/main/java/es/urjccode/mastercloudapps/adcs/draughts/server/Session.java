@@ -0,0 +1,196 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import java.nio.ByteBuffer;
+import java.util.regex.Pattern;
+
+import es.urjccode.mastercloudapps.adcs.draughts.controllers.InteractorController;
+import es.urjccode.mastercloudapps.adcs.draughts.controllers.InteractorControllersVisitor;
+import es.urjccode.mastercloudapps.adcs.draughts.controllers.Logic;
+import es.urjccode.mastercloudapps.adcs.draughts.controllers.PlayController;
+import es.urjccode.mastercloudapps.adcs.draughts.controllers.ResumeController;
+import es.urjccode.mastercloudapps.adcs.draughts.controllers.StartController;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Error;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Piece;
+import es.urjccode.mastercloudapps.adcs.draughts.models.PositionCodec;
+import es.urjccode.mastercloudapps.adcs.draughts.models.StateValue;
+
+class Session implements InteractorControllersVisitor {
+
+    static final int SQUARES = Coordinate.getDimension() * Coordinate.getDimension();
+    static final byte EMPTY = '.';
+    static final int SNAPSHOT_SIZE = Long.BYTES + Integer.BYTES + 1 + PositionCodec.SIZE;
+    private static final Pattern MOVEMENT_FORMAT = Pattern.compile("[1-8]{2}(\\.[1-8]{2}){1,2}");
+    private static final String SEPARATOR = ".";
+
+    private long id;
+    private Journal journal;
+    private int version;
+    private long sequence;
+    private Logic logic;
+    private volatile long lastAccess;
+    private Command command;
+    private Coordinate[] coordinates;
+    private int penalty;
+    private Enum<?> error;
+
+    Session(long id, Journal journal) {
+        this.id = id;
+        this.journal = journal;
+        this.version = 1;
+        this.logic = new Logic();
+        this.lastAccess = System.currentTimeMillis();
+    }
+
+    synchronized String reply(Command command, String argument) {
+        assert command != null;
+        Coordinate[] coordinates = null;
+        if (command == Command.MOVE) {
+            if (argument == null || !Session.MOVEMENT_FORMAT.matcher(argument).matches())
+                return Protocol.getError(Error.BAD_FORMAT);
+            coordinates = Session.getCoordinates(argument);
+        }
+        long sequence = this.execute(command, coordinates);
+        if (this.error != null)
+            return Protocol.getError(this.error);
+        if (this.journal != null)
+            this.journal.await(sequence);
+        byte[] squares = new byte[Session.SQUARES];
+        this.writeBoard(squares);
+        return Protocol.getReply(this.id, this.getStateValue().name(), this.getTurnColor().name(),
+            new String(squares, 0, squares.length));
+    }
+
+    synchronized long execute(Command command, Coordinate[] coordinates) {
+        Enum<?> error = this.apply(command, Game.RANDOM_PENALTY, coordinates);
+        if (error == null && command != Command.BOARD) {
+            this.version++;
+            if (this.journal != null)
+                this.sequence = this.journal.append(this.id, this.version, command, this.penalty, coordinates);
+        }
+        return this.sequence;
+    }
+
+    synchronized Enum<?> getError() {
+        return this.error;
+    }
+
+    synchronized void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    synchronized void replay(int version, Command command, int penalty, Coordinate[] coordinates) {
+        if (version <= this.version)
+            return;
+        this.version = version;
+        this.apply(command, penalty, coordinates);
+    }
+
+    synchronized void save(ByteBuffer buffer) {
+        buffer.putLong(this.id);
+        buffer.putInt(this.version);
+        buffer.put((byte) this.logic.getStateValue().ordinal());
+        this.logic.save(buffer);
+    }
+
+    static Session load(ByteBuffer buffer, Journal journal) {
+        Session session = new Session(buffer.getLong(), journal);
+        session.version = buffer.getInt();
+        boolean restored = session.logic.restore(StateValue.values()[buffer.get()], buffer);
+        assert restored;
+        return session;
+    }
+
+    private Enum<?> apply(Command command, int penalty, Coordinate[] coordinates) {
+        assert command != null;
+        assert command != Command.MOVE || coordinates != null;
+        this.lastAccess = System.currentTimeMillis();
+        this.command = command;
+        this.coordinates = coordinates;
+        this.penalty = penalty;
+        this.error = ProtocolError.WRONG_STATE;
+        InteractorController controller = this.logic.getController();
+        if (controller != null)
+            controller.accept(this);
+        return this.error;
+    }
+
+    @Override
+    public void visit(StartController startController) {
+        startController.start();
+        this.logic.getController().accept(this);
+    }
+
+    @Override
+    public void visit(PlayController playController) {
+        switch (this.command) {
+        case MOVE:
+            this.error = playController.move(this.penalty, this.coordinates);
+            this.penalty = playController.getLastPenalty();
+            break;
+        case CANCEL:
+            playController.cancel();
+            this.error = null;
+            break;
+        case BOARD:
+            this.error = null;
+            break;
+        default:
+            break;
+        }
+    }
+
+    @Override
+    public void visit(ResumeController resumeController) {
+        switch (this.command) {
+        case RESET:
+            resumeController.reset();
+            this.command = Command.BOARD;
+            this.logic.getController().accept(this);
+            break;
+        case BOARD:
+            this.error = null;
+            break;
+        default:
+            break;
+        }
+    }
+
+    private static Coordinate[] getCoordinates(String string) {
+        String[] formats = string.split(Pattern.quote(Session.SEPARATOR));
+        Coordinate[] coordinates = new Coordinate[formats.length];
+        for (int i = 0; i < formats.length; i++)
+            coordinates[i] = Coordinate.getInstance(formats[i]);
+        return coordinates;
+    }
+
+    synchronized void writeBoard(byte[] squares) {
+        assert squares.length == Session.SQUARES;
+        InteractorController controller = this.logic.getController();
+        for (int i = 0; i < Coordinate.getDimension(); i++)
+            for (int j = 0; j < Coordinate.getDimension(); j++) {
+                Piece piece = controller.getPiece(Coordinate.of(i, j));
+                squares[i * Coordinate.getDimension() + j] =
+                    piece == null ? Session.EMPTY : (byte) piece.getCode().charAt(0);
+            }
+    }
+
+    synchronized StateValue getStateValue() {
+        return this.logic.getStateValue();
+    }
+
+    synchronized Color getTurnColor() {
+        return this.logic.getController().getTurnColor();
+    }
+
+    long getId() {
+        return this.id;
+    }
+
+    long getLastAccess() {
+        return this.lastAccess;
+    }
+
+}
@@ -0,0 +1,274 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+
+public class SessionRegistry {
+
+    private static final String COMPACTOR = "journal-compactor";
+    private static final int SNAPSHOT_HEADER_SIZE = Long.BYTES + Integer.BYTES;
+    private static final int BATCH_SIZE = 1024;
+    private static final int QUEUED_BATCHES = 16;
+
+    private static class Record {
+
+        private long id;
+        private int version;
+        private Command command;
+        private int penalty;
+        private Coordinate[] coordinates;
+
+        Record(long id, int version, Command command, int penalty, Coordinate[] coordinates) {
+            this.id = id;
+            this.version = version;
+            this.command = command;
+            this.penalty = penalty;
+            this.coordinates = coordinates;
+        }
+
+    }
+
+    private int maximumSessions;
+    private long maximumIdleMillis;
+    private Journal journal;
+    private Map<Long, Session> sessions;
+    private AtomicInteger size;
+    private AtomicLong lastId;
+    private ExecutorService compactor;
+
+    public SessionRegistry(int maximumSessions, long maximumIdleMillis) {
+        this(maximumSessions, maximumIdleMillis, null);
+    }
+
+    public SessionRegistry(int maximumSessions, long maximumIdleMillis, Journal journal) {
+        assert maximumSessions > 0;
+        assert maximumIdleMillis > 0;
+        this.maximumSessions = maximumSessions;
+        this.maximumIdleMillis = maximumIdleMillis;
+        this.journal = journal;
+        this.sessions = new ConcurrentHashMap<Long, Session>();
+        this.size = new AtomicInteger();
+        this.lastId = new AtomicLong();
+        if (journal != null) {
+            this.compactor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, SessionRegistry.COMPACTOR);
+                thread.setDaemon(true);
+                return thread;
+            });
+            journal.setRollListener(index -> this.compactor.execute(() -> {
+                try {
+                    this.snapshot(index);
+                } catch (IOException ex) {
+                    return;
+                }
+            }));
+        }
+    }
+
+    Session create() {
+        if (this.size.incrementAndGet() > this.maximumSessions) {
+            this.size.decrementAndGet();
+            return null;
+        }
+        Session session = new Session(this.lastId.incrementAndGet(), this.journal);
+        this.sessions.put(session.getId(), session);
+        if (this.journal != null)
+            session.setSequence(this.journal.append(session.getId(), 1, Command.NEW, Game.RANDOM_PENALTY, null));
+        return session;
+    }
+
+    Session get(long id) {
+        return this.sessions.get(id);
+    }
+
+    boolean remove(long id) {
+        if (this.sessions.remove(id) == null)
+            return false;
+        this.size.decrementAndGet();
+        if (this.journal != null)
+            this.journal.append(id, 0, Command.CLOSE, Game.RANDOM_PENALTY, null);
+        return true;
+    }
+
+    boolean isDurable(long sequence) {
+        return this.journal == null || this.journal.isDurable(sequence);
+    }
+
+    void onDurable(long sequence, Runnable callback) {
+        if (this.journal == null)
+            callback.run();
+        else
+            this.journal.onDurable(sequence, callback);
+    }
+
+    public int recover(int threads) throws IOException {
+        assert this.journal != null;
+        assert threads > 0;
+        ByteBuffer snapshot = this.journal.readSnapshot();
+        if (snapshot != null) {
+            this.lastId.accumulateAndGet(snapshot.getLong(), Math::max);
+            int count = snapshot.getInt();
+            for (int i = 0; i < count; i++) {
+                Session session = Session.load(snapshot, this.journal);
+                this.sessions.put(session.getId(), session);
+                this.size.incrementAndGet();
+            }
+        }
+        if (threads == 1) {
+            this.journal.replay(this::replay);
+            return this.size();
+        }
+        List<BlockingQueue<List<Record>>> queues = new ArrayList<BlockingQueue<List<Record>>>();
+        List<Future<Void>> partitions = new ArrayList<Future<Void>>();
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            for (int i = 0; i < threads; i++) {
+                BlockingQueue<List<Record>> queue = new ArrayBlockingQueue<List<Record>>(SessionRegistry.QUEUED_BATCHES);
+                queues.add(queue);
+                partitions.add(executorService.submit(() -> this.replay(queue)));
+            }
+            this.dispatch(queues);
+            for (Future<Void> partition : partitions)
+                partition.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+        return this.size();
+    }
+
+    private void dispatch(List<BlockingQueue<List<Record>>> queues) throws IOException, InterruptedException {
+        List<List<Record>> batches = new ArrayList<List<Record>>();
+        for (int i = 0; i < queues.size(); i++)
+            batches.add(new ArrayList<Record>(SessionRegistry.BATCH_SIZE));
+        try {
+            this.journal.replay((id, version, command, penalty, coordinates) -> {
+                int partition = (int) (id % queues.size());
+                List<Record> batch = batches.get(partition);
+                batch.add(new Record(id, version, command, penalty,
+                    coordinates == null ? null : coordinates.clone()));
+                if (batch.size() == SessionRegistry.BATCH_SIZE) {
+                    SessionRegistry.put(queues.get(partition), batch);
+                    batches.set(partition, new ArrayList<Record>(SessionRegistry.BATCH_SIZE));
+                }
+            });
+        } finally {
+            for (int i = 0; i < queues.size(); i++) {
+                if (!batches.get(i).isEmpty())
+                    queues.get(i).put(batches.get(i));
+                queues.get(i).put(Collections.<Record>emptyList());
+            }
+        }
+    }
+
+    private static void put(BlockingQueue<List<Record>> queue, List<Record> batch) {
+        try {
+            queue.put(batch);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private Void replay(BlockingQueue<List<Record>> queue) throws InterruptedException {
+        RuntimeException failure = null;
+        for (List<Record> batch = queue.take(); !batch.isEmpty(); batch = queue.take())
+            for (Record record : batch)
+                if (failure == null)
+                    try {
+                        this.replay(record.id, record.version, record.command, record.penalty, record.coordinates);
+                    } catch (RuntimeException ex) {
+                        failure = ex;
+                    }
+        if (failure != null)
+            throw failure;
+        return null;
+    }
+
+    private void replay(long id, int version, Command command, int penalty, Coordinate[] coordinates) {
+        switch (command) {
+        case NEW:
+            if (this.sessions.putIfAbsent(id, new Session(id, this.journal)) == null)
+                this.size.incrementAndGet();
+            this.lastId.accumulateAndGet(id, Math::max);
+            break;
+        case CLOSE:
+            if (this.sessions.remove(id) != null)
+                this.size.decrementAndGet();
+            break;
+        default:
+            Session session = this.sessions.get(id);
+            if (session != null)
+                session.replay(version, command, penalty, coordinates);
+            break;
+        }
+    }
+
+    public void snapshot() throws IOException {
+        assert this.journal != null;
+        this.snapshot(this.journal.roll());
+    }
+
+    private synchronized void snapshot(long index) throws IOException {
+        long lastId = this.lastId.get();
+        ByteBuffer buffer = ByteBuffer.allocate(SessionRegistry.SNAPSHOT_HEADER_SIZE
+            + (this.size() + 1) * Session.SNAPSHOT_SIZE);
+        buffer.putLong(lastId);
+        buffer.putInt(0);
+        int count = 0;
+        for (Session session : this.sessions.values()) {
+            if (buffer.remaining() < Session.SNAPSHOT_SIZE) {
+                ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+                buffer.flip();
+                buffer = larger.put(buffer);
+            }
+            session.save(buffer);
+            count++;
+        }
+        buffer.putInt(Long.BYTES, count);
+        buffer.flip();
+        this.journal.writeSnapshot(index, buffer);
+        this.journal.compact(index);
+    }
+
+    public int evictIdle() {
+        return this.evictIdle(System.currentTimeMillis());
+    }
+
+    int evictIdle(long now) {
+        long limit = now - this.maximumIdleMillis;
+        int evicted = 0;
+        for (Session session : this.sessions.values())
+            if (session.getLastAccess() < limit && this.remove(session.getId()))
+                evicted++;
+        return evicted;
+    }
+
+    public int size() {
+        return this.size.get();
+    }
+
+    public long getMaximumIdleMillis() {
+        return this.maximumIdleMillis;
+    }
+
+}
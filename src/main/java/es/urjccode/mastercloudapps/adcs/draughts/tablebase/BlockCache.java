@@ -0,0 +1,91 @@
+package es.urjccode.mastercloudapps.adcs.draughts.tablebase;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+class BlockCache {
+
+    static final int DEFAULT_BLOCKS = 1024;
+    private static final int WAYS = 8;
+    private static final int LOCKS = 16;
+    private static final long EMPTY = -1;
+
+    private int setMask;
+    private long[] keys;
+    private byte[][] values;
+    private boolean[] referenced;
+    private int[] hands;
+    private Object[] locks;
+    private LongAdder hits;
+    private LongAdder misses;
+
+    BlockCache(int blocks) {
+        assert blocks > 0;
+        int sets = Integer.highestOneBit(Math.max(1, blocks / BlockCache.WAYS));
+        this.setMask = sets - 1;
+        this.keys = new long[sets * BlockCache.WAYS];
+        Arrays.fill(this.keys, BlockCache.EMPTY);
+        this.values = new byte[sets * BlockCache.WAYS][];
+        this.referenced = new boolean[sets * BlockCache.WAYS];
+        this.hands = new int[sets];
+        this.locks = new Object[BlockCache.LOCKS];
+        for (int i = 0; i < this.locks.length; i++)
+            this.locks[i] = new Object();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    byte[] get(WdlTable table, int block) {
+        long key = (long) table.getId() << Integer.SIZE | block;
+        int set = (int) (key * 0x9E3779B97F4A7C15L >>> Integer.SIZE) & this.setMask;
+        Object lock = this.locks[set % BlockCache.LOCKS];
+        byte[] values;
+        synchronized (lock) {
+            values = this.find(set, key);
+        }
+        if (values != null) {
+            this.hits.increment();
+            return values;
+        }
+        this.misses.increment();
+        values = table.decompress(block);
+        synchronized (lock) {
+            byte[] cached = this.find(set, key);
+            if (cached != null)
+                return cached;
+            int slot = this.evict(set);
+            this.keys[slot] = key;
+            this.values[slot] = values;
+            this.referenced[slot] = true;
+        }
+        return values;
+    }
+
+    private byte[] find(int set, long key) {
+        for (int slot = set * BlockCache.WAYS; slot < (set + 1) * BlockCache.WAYS; slot++)
+            if (this.keys[slot] == key) {
+                this.referenced[slot] = true;
+                return this.values[slot];
+            }
+        return null;
+    }
+
+    private int evict(int set) {
+        while (true) {
+            int slot = set * BlockCache.WAYS + this.hands[set];
+            this.hands[set] = (this.hands[set] + 1) % BlockCache.WAYS;
+            if (!this.referenced[slot])
+                return slot;
+            this.referenced[slot] = false;
+        }
+    }
+
+    long getHits() {
+        return this.hits.sum();
+    }
+
+    long getMisses() {
+        return this.misses.sum();
+    }
+
+}
@@ -0,0 +1,156 @@
+package es.urjccode.mastercloudapps.adcs.draughts.tablebase;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+
+class Material {
+
+    static final int SQUARES = 32;
+    private static final int WHITE_LIMIT = 0xF;
+    private static final int BLACK_LIMIT = 0xF0000000;
+    static final int GROUPS = 4;
+    private static final long[][] BINOMIALS = Material.getBinomials();
+
+    private int[] counts;
+    private long[] sizes;
+    private long half;
+
+    Material(int whitePawns, int whiteDraughts, int blackPawns, int blackDraughts) {
+        this.counts = new int[] { whitePawns, whiteDraughts, blackPawns, blackDraughts };
+        this.sizes = new long[Material.GROUPS];
+        this.half = 1;
+        for (int group = 0; group < Material.GROUPS; group++) {
+            assert 0 <= this.counts[group] && this.counts[group] <= Material.SQUARES;
+            this.sizes[group] = Material.BINOMIALS[Material.SQUARES][this.counts[group]];
+            this.half *= this.sizes[group];
+        }
+    }
+
+    static Material of(Game game) {
+        return new Material(
+            Integer.bitCount(game.getPawnSquares(Color.WHITE)),
+            Integer.bitCount(game.getDraughtSquares(Color.WHITE)),
+            Integer.bitCount(game.getPawnSquares(Color.BLACK)),
+            Integer.bitCount(game.getDraughtSquares(Color.BLACK)));
+    }
+
+    static int getPieces(Game game) {
+        return Integer.bitCount(game.getPawnSquares(Color.WHITE) | game.getDraughtSquares(Color.WHITE)
+            | game.getPawnSquares(Color.BLACK) | game.getDraughtSquares(Color.BLACK));
+    }
+
+    private static long[][] getBinomials() {
+        long[][] binomials = new long[Material.SQUARES + 1][Material.SQUARES + 1];
+        for (int n = 0; n <= Material.SQUARES; n++) {
+            binomials[n][0] = 1;
+            for (int k = 1; k <= n; k++)
+                binomials[n][k] = binomials[n - 1][k - 1] + binomials[n - 1][k];
+        }
+        return binomials;
+    }
+
+    static List<Material> getMaterials(int pieces) {
+        assert pieces > 0;
+        List<Material> materials = new ArrayList<Material>();
+        for (int whitePawns = 0; whitePawns <= pieces; whitePawns++)
+            for (int whiteDraughts = 0; whitePawns + whiteDraughts <= pieces; whiteDraughts++)
+                for (int blackPawns = 0; whitePawns + whiteDraughts + blackPawns <= pieces; blackPawns++)
+                    for (int blackDraughts = 0; whitePawns + whiteDraughts + blackPawns + blackDraughts <= pieces; blackDraughts++)
+                        if (whitePawns + whiteDraughts + blackPawns + blackDraughts > 0)
+                            materials.add(new Material(whitePawns, whiteDraughts, blackPawns, blackDraughts));
+        materials.sort(Comparator.comparingInt((Material material) -> material.getPieces()).thenComparingInt(Material::getPawns));
+        return materials;
+    }
+
+    long getIndex(Game game) {
+        long index = game.getTurnColor().ordinal();
+        index = index * this.sizes[0] + Material.getRank(game.getPawnSquares(Color.WHITE));
+        index = index * this.sizes[1] + Material.getRank(game.getDraughtSquares(Color.WHITE));
+        index = index * this.sizes[2] + Material.getRank(game.getPawnSquares(Color.BLACK));
+        return index * this.sizes[3] + Material.getRank(game.getDraughtSquares(Color.BLACK));
+    }
+
+    boolean setPosition(long index, Game game) {
+        assert 0 <= index && index < this.getSize();
+        int[] squares = new int[Material.GROUPS];
+        for (int group = Material.GROUPS - 1; group >= 0; group--) {
+            squares[group] = Material.getSquares(index % this.sizes[group], this.counts[group]);
+            index /= this.sizes[group];
+        }
+        int white = squares[0] | squares[1];
+        int black = squares[2] | squares[3];
+        if ((squares[0] & squares[1]) != 0 || (squares[2] & squares[3]) != 0 || (white & black) != 0
+                || (squares[0] & Material.WHITE_LIMIT) != 0 || (squares[2] & Material.BLACK_LIMIT) != 0)
+            return false;
+        game.setPosition(white, black, squares[1] | squares[3], Color.values()[(int) index]);
+        return true;
+    }
+
+    private static long getRank(int squares) {
+        long rank = 0;
+        for (int k = 1; squares != 0; k++, squares &= squares - 1)
+            rank += Material.BINOMIALS[Integer.numberOfTrailingZeros(squares)][k];
+        return rank;
+    }
+
+    private static int getSquares(long rank, int count) {
+        int squares = 0;
+        int square = Material.SQUARES - 1;
+        for (int k = count; k > 0; k--) {
+            while (Material.BINOMIALS[square][k] > rank)
+                square--;
+            rank -= Material.BINOMIALS[square][k];
+            squares |= 1 << square;
+            square--;
+        }
+        return squares;
+    }
+
+    long getSize() {
+        return Color.values().length * this.half;
+    }
+
+    int getPieces() {
+        return this.counts[0] + this.counts[1] + this.counts[2] + this.counts[3];
+    }
+
+    int getPawns() {
+        return this.counts[0] + this.counts[2];
+    }
+
+    int getCount(int group) {
+        return this.counts[group];
+    }
+
+    String getName() {
+        return "w" + this.counts[0] + "p" + this.counts[1] + "k-b" + this.counts[2] + "p" + this.counts[3] + "k";
+    }
+
+    @Override
+    public int hashCode() {
+        return ((this.counts[0] * 31 + this.counts[1]) * 31 + this.counts[2]) * 31 + this.counts[3];
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null || this.getClass() != obj.getClass())
+            return false;
+        Material other = (Material) obj;
+        for (int group = 0; group < Material.GROUPS; group++)
+            if (this.counts[group] != other.counts[group])
+                return false;
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return this.getName();
+    }
+
+}
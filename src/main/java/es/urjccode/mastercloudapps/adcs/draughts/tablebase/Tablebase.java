@@ -0,0 +1,232 @@
+package es.urjccode.mastercloudapps.adcs.draughts.tablebase;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+
+public class Tablebase {
+
+    public static final int UNKNOWN = Integer.MIN_VALUE;
+    public static final int WIN = 1;
+    public static final int DRAW = 0;
+    public static final int LOSS = -1;
+    public static final int MAXIMUM_PIECES = 6;
+    static final String EXTENSION = ".tb";
+    static final int MAGIC = 0x54424153;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 3 * Integer.BYTES + Material.GROUPS + Long.BYTES;
+    private static final int DISTANCE = 2 * Integer.BYTES + Material.GROUPS;
+    private static final int SIZE = Tablebase.DISTANCE + Integer.BYTES;
+    private static final int MOVE_SCORE = 1 << 16;
+    private static final ByteBuffer ABSENT = ByteBuffer.allocate(0);
+
+    private Path directory;
+    private Map<Material, ByteBuffer> tables;
+    private Map<Material, WdlTable> wdlTables;
+    private AtomicInteger wdlIds;
+    private BlockCache blockCache;
+    private int maximumPieces;
+
+    public Tablebase(Path directory) {
+        this(directory, BlockCache.DEFAULT_BLOCKS);
+    }
+
+    public Tablebase(Path directory, int cacheBlocks) {
+        assert directory != null;
+        this.directory = directory;
+        this.tables = new ConcurrentHashMap<Material, ByteBuffer>();
+        this.wdlTables = new ConcurrentHashMap<Material, WdlTable>();
+        this.wdlIds = new AtomicInteger();
+        this.blockCache = new BlockCache(cacheBlocks);
+        this.maximumPieces = 0;
+        while (this.maximumPieces < Tablebase.MAXIMUM_PIECES && this.isComplete(this.maximumPieces + 1))
+            this.maximumPieces++;
+    }
+
+    private boolean isComplete(int pieces) {
+        for (Material material : Material.getMaterials(pieces))
+            if (material.getPieces() == pieces && !Files.exists(this.getPath(material))
+                    && !Files.exists(this.getWdlPath(material)))
+                return false;
+        return true;
+    }
+
+    public int probe(Game game) {
+        assert game != null;
+        if (Material.getPieces(game) > this.maximumPieces)
+            return Tablebase.UNKNOWN;
+        Material material = Material.of(game);
+        return this.probe(material, material.getIndex(game));
+    }
+
+    int probe(Material material, long index) {
+        ByteBuffer table = this.tables.get(material);
+        if (table == null) {
+            table = Tablebase.read(this.getPath(material), material);
+            if (table == null)
+                table = Tablebase.ABSENT;
+            this.tables.put(material, table);
+        }
+        if (table == Tablebase.ABSENT)
+            return Tablebase.UNKNOWN;
+        return table.getShort((int) (Tablebase.HEADER_SIZE + index * Short.BYTES));
+    }
+
+    public int probeWdl(Game game) {
+        assert game != null;
+        if (Material.getPieces(game) > this.maximumPieces)
+            return Tablebase.UNKNOWN;
+        Material material = Material.of(game);
+        long index = material.getIndex(game);
+        WdlTable table = this.wdlTables.get(material);
+        if (table == null) {
+            table = WdlTable.read(this.getWdlPath(material), material, this.wdlIds.getAndIncrement());
+            if (table == null)
+                table = WdlTable.ABSENT;
+            this.wdlTables.put(material, table);
+        }
+        if (table != WdlTable.ABSENT) {
+            int value = table.probe(index, this.blockCache);
+            return value == WdlTable.WIN ? Tablebase.WIN : value == WdlTable.LOSS ? Tablebase.LOSS : Tablebase.DRAW;
+        }
+        int value = this.probe(material, index);
+        if (value == Tablebase.UNKNOWN)
+            return Tablebase.UNKNOWN;
+        return Integer.signum(value);
+    }
+
+    public Coordinate[] getMove(Game game) {
+        assert game != null;
+        if (this.probe(game) == Tablebase.UNKNOWN)
+            return null;
+        MoveBuffer moves = new MoveBuffer();
+        game.generateMoves(moves);
+        int bestMove = -1;
+        int bestScore = Integer.MIN_VALUE;
+        for (int move = 0; move < moves.size(); move++) {
+            int score = Integer.MAX_VALUE;
+            int penalties = 1;
+            for (int penalty = 0; penalty < penalties; penalty++) {
+                penalties = Math.max(1, game.makeMove(moves, move, penalty));
+                int value = this.probe(game);
+                game.unmakeMove();
+                if (value == Tablebase.UNKNOWN)
+                    return null;
+                score = Math.min(score, Tablebase.getMoveScore(value));
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = move;
+            }
+        }
+        if (bestMove == -1)
+            return null;
+        return moves.getCoordinates(bestMove);
+    }
+
+    private static int getMoveScore(int value) {
+        if (Tablebase.isLoss(value))
+            return Tablebase.MOVE_SCORE - Tablebase.getDistance(value);
+        if (Tablebase.isWin(value))
+            return -Tablebase.MOVE_SCORE + Tablebase.getDistance(value);
+        return 0;
+    }
+
+    public static boolean isWin(int value) {
+        return value != Tablebase.UNKNOWN && value > 0;
+    }
+
+    public static boolean isLoss(int value) {
+        return value != Tablebase.UNKNOWN && value < 0;
+    }
+
+    public static int getDistance(int value) {
+        assert Tablebase.isWin(value) || Tablebase.isLoss(value);
+        return value > 0 ? value : -value - 1;
+    }
+
+    static int getWin(int distance) {
+        assert distance > 0;
+        return distance;
+    }
+
+    static int getLoss(int distance) {
+        assert distance >= 0;
+        return -distance - 1;
+    }
+
+    public int getMaximumPieces() {
+        return this.maximumPieces;
+    }
+
+    public long getCacheHits() {
+        return this.blockCache.getHits();
+    }
+
+    public long getCacheMisses() {
+        return this.blockCache.getMisses();
+    }
+
+    Path getPath(Material material) {
+        return this.directory.resolve(material.getName() + Tablebase.EXTENSION);
+    }
+
+    Path getWdlPath(Material material) {
+        return this.directory.resolve(material.getName() + WdlTable.EXTENSION);
+    }
+
+    static ByteBuffer read(Path path, Material material) {
+        if (!Files.exists(path))
+            return null;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.capacity() < Tablebase.HEADER_SIZE || buffer.getInt(0) != Tablebase.MAGIC
+                    || buffer.getInt(Integer.BYTES) != Tablebase.VERSION
+                    || buffer.getLong(Tablebase.SIZE) != material.getSize()
+                    || buffer.capacity() != Tablebase.HEADER_SIZE + material.getSize() * Short.BYTES)
+                return null;
+            for (int group = 0; group < Material.GROUPS; group++)
+                if (buffer.get(2 * Integer.BYTES + group) != material.getCount(group))
+                    return null;
+            return buffer;
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    static int getDistance(ByteBuffer table) {
+        return table.getInt(Tablebase.DISTANCE);
+    }
+
+    static void write(Path path, Material material, short[] values, int distance) throws IOException {
+        assert values.length == material.getSize();
+        ByteBuffer buffer = ByteBuffer.allocate(Tablebase.HEADER_SIZE + values.length * Short.BYTES);
+        buffer.putInt(Tablebase.MAGIC).putInt(Tablebase.VERSION);
+        for (int group = 0; group < Material.GROUPS; group++)
+            buffer.put((byte) material.getCount(group));
+        buffer.putInt(distance).putLong(values.length);
+        for (short value : values)
+            buffer.putShort(value);
+        buffer.flip();
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+}
@@ -0,0 +1,239 @@
+package es.urjccode.mastercloudapps.adcs.draughts.tablebase;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+import es.urjccode.mastercloudapps.adcs.draughts.utils.Console;
+
+public class TablebaseGenerator {
+
+    public static final int DEFAULT_PIECES = 4;
+    public static final long DEFAULT_CHECKPOINT_MILLIS = 60000;
+    static final String PARTIAL_EXTENSION = ".partial";
+    private static final int CHUNKS_PER_THREAD = 16;
+
+    private Path directory;
+    private int pieces;
+    private int threads;
+    private long checkpointMillis;
+    private Tablebase tablebase;
+    private int maximumDistance;
+
+    public TablebaseGenerator(Path directory, int pieces, int threads) {
+        this(directory, pieces, threads, TablebaseGenerator.DEFAULT_CHECKPOINT_MILLIS);
+    }
+
+    public TablebaseGenerator(Path directory, int pieces, int threads, long checkpointMillis) {
+        assert directory != null;
+        assert 0 < pieces && pieces <= Tablebase.MAXIMUM_PIECES;
+        assert threads > 0;
+        assert checkpointMillis >= 0;
+        this.directory = directory;
+        this.pieces = pieces;
+        this.threads = threads;
+        this.checkpointMillis = checkpointMillis;
+    }
+
+    public int generate() throws IOException {
+        Files.createDirectories(this.directory);
+        this.tablebase = new Tablebase(this.directory);
+        this.maximumDistance = 0;
+        int generated = 0;
+        ExecutorService executorService = Executors.newFixedThreadPool(this.threads, runnable -> {
+            Thread thread = new Thread(runnable, "tablebase-generator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (Material material : Material.getMaterials(this.pieces)) {
+                ByteBuffer table = Tablebase.read(this.tablebase.getPath(material), material);
+                if (table == null) {
+                    this.generate(material, executorService);
+                    generated++;
+                    table = Tablebase.read(this.tablebase.getPath(material), material);
+                } else
+                    this.maximumDistance = Math.max(this.maximumDistance, Tablebase.getDistance(table));
+                if (WdlTable.read(this.tablebase.getWdlPath(material), material, 0) == null)
+                    WdlTable.write(this.tablebase.getWdlPath(material), material, table);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        return generated;
+    }
+
+    private void generate(Material material, ExecutorService executorService) throws IOException {
+        assert material.getSize() <= Integer.MAX_VALUE;
+        short[] values = new short[(int) material.getSize()];
+        int iteration = 0;
+        int distance = 0;
+        Path partial = this.getPartialPath(material);
+        ByteBuffer saved = Tablebase.read(partial, material);
+        if (saved != null) {
+            iteration = Tablebase.getDistance(saved);
+            for (int index = 0; index < values.length; index++) {
+                values[index] = saved.getShort(Tablebase.HEADER_SIZE + index * Short.BYTES);
+                if (values[index] != 0)
+                    distance = Math.max(distance, Tablebase.getDistance(values[index]));
+            }
+        }
+        long checkpoint = System.currentTimeMillis();
+        while (true) {
+            long changes = this.iterate(material, values, iteration, executorService);
+            if (changes > 0)
+                distance = iteration;
+            else if (iteration > this.maximumDistance)
+                break;
+            iteration++;
+            if (System.currentTimeMillis() - checkpoint >= this.checkpointMillis) {
+                Tablebase.write(partial, material, values, iteration);
+                checkpoint = System.currentTimeMillis();
+            }
+        }
+        Tablebase.write(this.tablebase.getPath(material), material, values, distance);
+        Files.deleteIfExists(partial);
+        this.maximumDistance = Math.max(this.maximumDistance, distance);
+    }
+
+    private long iterate(Material material, short[] values, int iteration, ExecutorService executorService) {
+        int chunks = this.threads * TablebaseGenerator.CHUNKS_PER_THREAD;
+        List<Callable<Long>> tasks = new ArrayList<Callable<Long>>();
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int start = (int) ((long) values.length * chunk / chunks);
+            int end = (int) ((long) values.length * (chunk + 1) / chunks);
+            tasks.add(() -> this.iterate(material, values, iteration, start, end));
+        }
+        long changes = 0;
+        try {
+            for (Future<Long> future : executorService.invokeAll(tasks))
+                changes += future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        }
+        return changes;
+    }
+
+    private long iterate(Material material, short[] values, int iteration, int start, int end) {
+        Game game = new Game();
+        MoveBuffer moves = new MoveBuffer();
+        long changes = 0;
+        for (int index = start; index < end; index++)
+            if (values[index] == 0 && material.setPosition(index, game)) {
+                short value = this.solve(game, moves, material, values, iteration);
+                if (value != 0) {
+                    values[index] = value;
+                    changes++;
+                }
+            }
+        return changes;
+    }
+
+    private short solve(Game game, MoveBuffer moves, Material material, short[] values, int iteration) {
+        game.generateMoves(moves);
+        int winDistance = Integer.MAX_VALUE;
+        int lossDistance = 0;
+        boolean refuted = true;
+        for (int move = 0; move < moves.size(); move++) {
+            boolean winning = true;
+            int maximumLoss = 0;
+            int minimumWin = Integer.MAX_VALUE;
+            int penalties = 1;
+            for (int penalty = 0; penalty < penalties; penalty++) {
+                penalties = Math.max(1, game.makeMove(moves, move, penalty));
+                int value = this.probe(game, material, values, iteration);
+                game.unmakeMove();
+                if (Tablebase.isLoss(value))
+                    maximumLoss = Math.max(maximumLoss, Tablebase.getDistance(value));
+                else
+                    winning = false;
+                if (Tablebase.isWin(value))
+                    minimumWin = Math.min(minimumWin, Tablebase.getDistance(value));
+            }
+            if (winning)
+                winDistance = Math.min(winDistance, maximumLoss + 1);
+            if (minimumWin == Integer.MAX_VALUE)
+                refuted = false;
+            else
+                lossDistance = Math.max(lossDistance, minimumWin + 1);
+        }
+        if (winDistance != Integer.MAX_VALUE)
+            return (short) Tablebase.getWin(winDistance);
+        if (refuted)
+            return (short) Tablebase.getLoss(lossDistance);
+        return 0;
+    }
+
+    private int probe(Game game, Material material, short[] values, int iteration) {
+        int whitePawns = Integer.bitCount(game.getPawnSquares(Color.WHITE));
+        int whiteDraughts = Integer.bitCount(game.getDraughtSquares(Color.WHITE));
+        int blackPawns = Integer.bitCount(game.getPawnSquares(Color.BLACK));
+        int blackDraughts = Integer.bitCount(game.getDraughtSquares(Color.BLACK));
+        int value;
+        if (whitePawns == material.getCount(0) && whiteDraughts == material.getCount(1)
+                && blackPawns == material.getCount(2) && blackDraughts == material.getCount(3))
+            value = values[(int) material.getIndex(game)];
+        else {
+            Material successor = new Material(whitePawns, whiteDraughts, blackPawns, blackDraughts);
+            value = this.tablebase.probe(successor, successor.getIndex(game));
+            assert value != Tablebase.UNKNOWN;
+        }
+        if (value == 0 || Tablebase.getDistance(value) >= iteration)
+            return 0;
+        return value;
+    }
+
+    private Path getPartialPath(Material material) {
+        Path path = this.tablebase.getPath(material);
+        return path.resolveSibling(path.getFileName() + TablebaseGenerator.PARTIAL_EXTENSION);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Console console = new Console();
+        if (args.length == 0) {
+            console.writeln("usage: TablebaseGenerator <directory> [pieces] [threads]");
+            return;
+        }
+        Path directory = Paths.get(args[0]);
+        int pieces = TablebaseGenerator.DEFAULT_PIECES;
+        int threads = Runtime.getRuntime().availableProcessors();
+        if (args.length > 1)
+            pieces = Integer.parseInt(args[1]);
+        if (args.length > 2)
+            threads = Integer.parseInt(args[2]);
+        long start = System.currentTimeMillis();
+        int generated = new TablebaseGenerator(directory, pieces, threads).generate();
+        console.writeln(generated + " materials generated in " + (System.currentTimeMillis() - start) + " ms");
+        console.writeln("material\tpositions\twins\tlosses\tdraws\tdistance\tbytes\twdl bytes");
+        Tablebase tablebase = new Tablebase(directory);
+        Game game = new Game();
+        for (Material material : Material.getMaterials(pieces)) {
+            ByteBuffer table = Tablebase.read(tablebase.getPath(material), material);
+            long[] results = new long[3];
+            for (long index = 0; index < material.getSize(); index++)
+                if (material.setPosition(index, game)) {
+                    int value = table.getShort((int) (Tablebase.HEADER_SIZE + index * Short.BYTES));
+                    results[Tablebase.isWin(value) ? 0 : Tablebase.isLoss(value) ? 1 : 2]++;
+                }
+            console.writeln(material + "\t" + (results[0] + results[1] + results[2]) + "\t" + results[0] + "\t" + results[1]
+                + "\t" + results[2] + "\t" + Tablebase.getDistance(table) + "\t" + table.capacity()
+                + "\t" + Files.size(tablebase.getWdlPath(material)));
+        }
+    }
+
+}
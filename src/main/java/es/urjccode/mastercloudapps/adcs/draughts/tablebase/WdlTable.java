@@ -0,0 +1,184 @@
+package es.urjccode.mastercloudapps.adcs.draughts.tablebase;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+
+class WdlTable {
+
+    static final String EXTENSION = ".wdl";
+    static final int DRAW = 0;
+    static final int WIN = 1;
+    static final int LOSS = 2;
+    static final int BLOCK_VALUES = 1 << 14;
+    static final int BLOCK_BYTES = WdlTable.BLOCK_VALUES / WdlTable.VALUES_PER_BYTE;
+    private static final int VALUES_PER_BYTE = 4;
+    private static final int VALUE_BITS = 2;
+    private static final int VALUE_MASK = (1 << WdlTable.VALUE_BITS) - 1;
+    private static final int MAGIC = 0x57444C31;
+    private static final int VERSION = 1;
+    private static final int BLOCKS = 2 * Integer.BYTES + Material.GROUPS;
+    private static final int HEADER_SIZE = WdlTable.BLOCKS + Integer.BYTES;
+    private static final byte RAW = 0;
+    private static final byte RUNS = 1;
+    private static final int VARINT_BITS = 7;
+    private static final int VARINT_MORE = 1 << WdlTable.VARINT_BITS;
+    static final WdlTable ABSENT = new WdlTable(ByteBuffer.allocate(WdlTable.HEADER_SIZE), -1);
+
+    private ByteBuffer buffer;
+    private int blocks;
+    private int data;
+    private int id;
+
+    private WdlTable(ByteBuffer buffer, int id) {
+        this.buffer = buffer;
+        this.blocks = buffer.getInt(WdlTable.BLOCKS);
+        this.data = WdlTable.HEADER_SIZE + (this.blocks + 1) * Integer.BYTES;
+        this.id = id;
+    }
+
+    static WdlTable read(Path path, Material material, int id) {
+        if (!Files.exists(path))
+            return null;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.capacity() < WdlTable.HEADER_SIZE || buffer.getInt(0) != WdlTable.MAGIC
+                    || buffer.getInt(Integer.BYTES) != WdlTable.VERSION
+                    || buffer.getInt(WdlTable.BLOCKS) != WdlTable.getBlocks(material))
+                return null;
+            for (int group = 0; group < Material.GROUPS; group++)
+                if (buffer.get(2 * Integer.BYTES + group) != material.getCount(group))
+                    return null;
+            return new WdlTable(buffer, id);
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    private static int getBlocks(Material material) {
+        return (int) ((material.getSize() + WdlTable.BLOCK_VALUES - 1) / WdlTable.BLOCK_VALUES);
+    }
+
+    int probe(long index, BlockCache cache) {
+        int block = (int) (index / WdlTable.BLOCK_VALUES);
+        byte[] values = cache.get(this, block);
+        int offset = (int) (index % WdlTable.BLOCK_VALUES);
+        return values[offset / WdlTable.VALUES_PER_BYTE] >>> offset % WdlTable.VALUES_PER_BYTE * WdlTable.VALUE_BITS
+            & WdlTable.VALUE_MASK;
+    }
+
+    byte[] decompress(int block) {
+        assert 0 <= block && block < this.blocks;
+        int position = this.data + this.buffer.getInt(WdlTable.HEADER_SIZE + block * Integer.BYTES);
+        int end = this.data + this.buffer.getInt(WdlTable.HEADER_SIZE + (block + 1) * Integer.BYTES);
+        byte[] values = new byte[WdlTable.BLOCK_BYTES];
+        if (this.buffer.get(position++) == WdlTable.RAW) {
+            for (int i = 0; position < end; i++)
+                values[i] = this.buffer.get(position++);
+            return values;
+        }
+        int offset = 0;
+        while (position < end) {
+            long run = 0;
+            int shift = 0;
+            byte next;
+            do {
+                next = this.buffer.get(position++);
+                run |= (long) (next & WdlTable.VARINT_MORE - 1) << shift;
+                shift += WdlTable.VARINT_BITS;
+            } while ((next & WdlTable.VARINT_MORE) != 0);
+            int value = (int) run & WdlTable.VALUE_MASK;
+            for (long i = run >>> WdlTable.VALUE_BITS; i > 0; i--, offset++)
+                values[offset / WdlTable.VALUES_PER_BYTE] |= value << offset % WdlTable.VALUES_PER_BYTE * WdlTable.VALUE_BITS;
+        }
+        return values;
+    }
+
+    int getId() {
+        return this.id;
+    }
+
+    int getBlocks() {
+        return this.blocks;
+    }
+
+    static long write(Path path, Material material, ByteBuffer table) throws IOException {
+        int blocks = WdlTable.getBlocks(material);
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        int[] offsets = new int[blocks + 1];
+        Game game = new Game();
+        int previous = WdlTable.DRAW;
+        for (int block = 0; block < blocks; block++) {
+            offsets[block] = data.size();
+            long start = (long) block * WdlTable.BLOCK_VALUES;
+            long end = Math.min(start + WdlTable.BLOCK_VALUES, material.getSize());
+            byte[] raw = new byte[WdlTable.BLOCK_BYTES];
+            ByteArrayOutputStream runs = new ByteArrayOutputStream();
+            long run = 0;
+            for (long index = start; index < end; index++) {
+                int value = previous;
+                if (material.setPosition(index, game))
+                    value = WdlTable.getValue(table.getShort((int) (Tablebase.HEADER_SIZE + index * Short.BYTES)));
+                int offset = (int) (index - start);
+                raw[offset / WdlTable.VALUES_PER_BYTE] |= value << offset % WdlTable.VALUES_PER_BYTE * WdlTable.VALUE_BITS;
+                if (run > 0 && value != previous) {
+                    WdlTable.writeVarint(runs, run << WdlTable.VALUE_BITS | previous);
+                    run = 0;
+                }
+                previous = value;
+                run++;
+            }
+            WdlTable.writeVarint(runs, run << WdlTable.VALUE_BITS | previous);
+            if (runs.size() < (end - start + WdlTable.VALUES_PER_BYTE - 1) / WdlTable.VALUES_PER_BYTE) {
+                data.write(WdlTable.RUNS);
+                runs.writeTo(data);
+            } else {
+                data.write(WdlTable.RAW);
+                data.write(raw, 0, (int) ((end - start + WdlTable.VALUES_PER_BYTE - 1) / WdlTable.VALUES_PER_BYTE));
+            }
+        }
+        offsets[blocks] = data.size();
+        ByteBuffer buffer = ByteBuffer.allocate(WdlTable.HEADER_SIZE + offsets.length * Integer.BYTES + data.size());
+        buffer.putInt(WdlTable.MAGIC).putInt(WdlTable.VERSION);
+        for (int group = 0; group < Material.GROUPS; group++)
+            buffer.put((byte) material.getCount(group));
+        buffer.putInt(blocks);
+        for (int offset : offsets)
+            buffer.putInt(offset);
+        buffer.put(data.toByteArray());
+        buffer.flip();
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return buffer.limit();
+    }
+
+    private static int getValue(int value) {
+        if (Tablebase.isWin(value))
+            return WdlTable.WIN;
+        if (Tablebase.isLoss(value))
+            return WdlTable.LOSS;
+        return WdlTable.DRAW;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream stream, long value) {
+        while (value >= WdlTable.VARINT_MORE) {
+            stream.write((int) (value & WdlTable.VARINT_MORE - 1) | WdlTable.VARINT_MORE);
+            value >>>= WdlTable.VARINT_BITS;
+        }
+        stream.write((int) value);
+    }
+
+}
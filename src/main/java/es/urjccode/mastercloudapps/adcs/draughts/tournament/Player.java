@@ -0,0 +1,120 @@
+package es.urjccode.mastercloudapps.adcs.draughts.tournament;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import es.urjccode.mastercloudapps.adcs.draughts.engine.AlphaBetaEngine;
+import es.urjccode.mastercloudapps.adcs.draughts.engine.Engine;
+import es.urjccode.mastercloudapps.adcs.draughts.engine.LazySmpEngine;
+import es.urjccode.mastercloudapps.adcs.draughts.engine.MctsEngine;
+import es.urjccode.mastercloudapps.adcs.draughts.engine.TranspositionTable;
+
+public class Player {
+
+    public enum Type {
+        ALPHABETA, LAZYSMP, MCTS
+    }
+
+    static final String DEPTH = "depth";
+    static final String MILLIS = "millis";
+    static final String HASH = "hash";
+    static final String THREADS = "threads";
+    static final String PLAYOUTS = "playouts";
+    private static final String TYPE_SEPARATOR = ":";
+    private static final String PARAMETER_SEPARATOR = ",";
+    private static final String VALUE_SEPARATOR = "=";
+    private static final int DEFAULT_DEPTH = 6;
+    private static final int DEFAULT_HASH = 4;
+    private static final int DEFAULT_PLAYOUTS = 1000;
+
+    private String name;
+    private Type type;
+    private Map<String, Long> parameters;
+
+    private Player(String name, Type type) {
+        this.name = name;
+        this.type = type;
+        this.parameters = new LinkedHashMap<String, Long>();
+        this.parameters.put(Player.DEPTH, (long) Player.DEFAULT_DEPTH);
+        this.parameters.put(Player.MILLIS, 0L);
+        this.parameters.put(Player.HASH, (long) Player.DEFAULT_HASH);
+        this.parameters.put(Player.THREADS, 1L);
+        this.parameters.put(Player.PLAYOUTS, (long) Player.DEFAULT_PLAYOUTS);
+    }
+
+    public static Player parse(String spec) {
+        assert spec != null;
+        String[] fields = spec.trim().split(Player.TYPE_SEPARATOR, 2);
+        Player player;
+        try {
+            player = new Player(spec.trim(), Type.valueOf(fields[0].toUpperCase()));
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+        if (fields.length == 1)
+            return player;
+        for (String parameter : fields[1].split(Player.PARAMETER_SEPARATOR)) {
+            String[] pair = parameter.split(Player.VALUE_SEPARATOR, 2);
+            if (pair.length != 2 || !player.parameters.containsKey(pair[0]))
+                return null;
+            try {
+                player.parameters.put(pair[0], Long.parseLong(pair[1]));
+            } catch (NumberFormatException ex) {
+                return null;
+            }
+        }
+        if (!player.isValid())
+            return null;
+        return player;
+    }
+
+    private boolean isValid() {
+        long depth = this.get(Player.DEPTH);
+        return 0 < depth && depth <= AlphaBetaEngine.MAXIMUM_DEPTH && this.get(Player.MILLIS) >= 0
+            && this.get(Player.HASH) > 0 && this.get(Player.THREADS) > 0 && this.get(Player.PLAYOUTS) >= 0
+            && (this.type != Type.MCTS || this.get(Player.PLAYOUTS) > 0 || this.get(Player.MILLIS) > 0);
+    }
+
+    long get(String parameter) {
+        return this.parameters.get(parameter);
+    }
+
+    Engine create(long seed) {
+        int depth = (int) this.get(Player.DEPTH);
+        long millis = this.get(Player.MILLIS);
+        int threads = (int) this.get(Player.THREADS);
+        switch (this.type) {
+        case ALPHABETA:
+            AlphaBetaEngine engine = new AlphaBetaEngine(depth, millis, new TranspositionTable((int) this.get(Player.HASH)));
+            engine.setSeed(seed);
+            return engine;
+        case LAZYSMP:
+            LazySmpEngine lazySmpEngine = new LazySmpEngine(threads, depth, millis, new TranspositionTable((int) this.get(Player.HASH)));
+            lazySmpEngine.setSeed(seed);
+            return lazySmpEngine;
+        default:
+            return new MctsEngine(threads, (int) this.get(Player.PLAYOUTS), millis, seed);
+        }
+    }
+
+    static void dispose(Engine engine) {
+        if (engine instanceof LazySmpEngine)
+            ((LazySmpEngine) engine).shutdown();
+        else if (engine instanceof MctsEngine)
+            ((MctsEngine) engine).shutdown();
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public Type getType() {
+        return this.type;
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+
+}
@@ -0,0 +1,60 @@
+package es.urjccode.mastercloudapps.adcs.draughts.tournament;
+
+public class Sprt {
+
+    public enum State {
+        CONTINUE, ACCEPT_H0, ACCEPT_H1
+    }
+
+    public static final double DEFAULT_ELO0 = 0;
+    public static final double DEFAULT_ELO1 = 5;
+    public static final double DEFAULT_ERROR = 0.05;
+
+    private double elo0;
+    private double elo1;
+    private double lowerBound;
+    private double upperBound;
+
+    public Sprt() {
+        this(Sprt.DEFAULT_ELO0, Sprt.DEFAULT_ELO1, Sprt.DEFAULT_ERROR, Sprt.DEFAULT_ERROR);
+    }
+
+    public Sprt(double elo0, double elo1, double alpha, double beta) {
+        assert elo0 < elo1;
+        assert 0 < alpha && alpha < 1;
+        assert 0 < beta && beta < 1;
+        this.elo0 = elo0;
+        this.elo1 = elo1;
+        this.lowerBound = Math.log(beta / (1 - alpha));
+        this.upperBound = Math.log((1 - beta) / alpha);
+    }
+
+    public double getLlr(Statistics statistics) {
+        assert statistics != null;
+        int games = statistics.getGames();
+        double variance = statistics.getVariance();
+        if (games == 0 || variance == 0)
+            return 0;
+        double score0 = Statistics.getScore(this.elo0);
+        double score1 = Statistics.getScore(this.elo1);
+        return games * (score1 - score0) * (2 * statistics.getScore() - score0 - score1) / (2 * variance);
+    }
+
+    public State getState(Statistics statistics) {
+        double llr = this.getLlr(statistics);
+        if (llr >= this.upperBound)
+            return State.ACCEPT_H1;
+        if (llr <= this.lowerBound)
+            return State.ACCEPT_H0;
+        return State.CONTINUE;
+    }
+
+    public double getLowerBound() {
+        return this.lowerBound;
+    }
+
+    public double getUpperBound() {
+        return this.upperBound;
+    }
+
+}
@@ -0,0 +1,89 @@
+package es.urjccode.mastercloudapps.adcs.draughts.tournament;
+
+public class Statistics {
+
+    private static final double CONFIDENCE = 1.96;
+    private static final double ELO_SCALE = 400;
+
+    private int wins;
+    private int draws;
+    private int losses;
+
+    public Statistics() {
+    }
+
+    public Statistics(int wins, int draws, int losses) {
+        assert wins >= 0 && draws >= 0 && losses >= 0;
+        this.wins = wins;
+        this.draws = draws;
+        this.losses = losses;
+    }
+
+    void addWin() {
+        this.wins++;
+    }
+
+    void addDraw() {
+        this.draws++;
+    }
+
+    void addLoss() {
+        this.losses++;
+    }
+
+    public int getWins() {
+        return this.wins;
+    }
+
+    public int getDraws() {
+        return this.draws;
+    }
+
+    public int getLosses() {
+        return this.losses;
+    }
+
+    public int getGames() {
+        return this.wins + this.draws + this.losses;
+    }
+
+    public double getScore() {
+        if (this.getGames() == 0)
+            return 0.5;
+        return (this.wins + this.draws / 2.0) / this.getGames();
+    }
+
+    double getVariance() {
+        if (this.getGames() == 0)
+            return 0;
+        double score = this.getScore();
+        return (this.wins * (1 - score) * (1 - score) + this.draws * (0.5 - score) * (0.5 - score)
+            + this.losses * score * score) / this.getGames();
+    }
+
+    public double getElo() {
+        return Statistics.getElo(this.getScore());
+    }
+
+    public double getEloMargin() {
+        if (this.getVariance() == 0)
+            return Double.POSITIVE_INFINITY;
+        double deviation = Statistics.CONFIDENCE * Math.sqrt(this.getVariance() / this.getGames());
+        return (Statistics.getElo(Math.min(1, this.getScore() + deviation))
+            - Statistics.getElo(Math.max(0, this.getScore() - deviation))) / 2;
+    }
+
+    static double getElo(double score) {
+        return -Statistics.ELO_SCALE * Math.log10(1 / score - 1);
+    }
+
+    static double getScore(double elo) {
+        return 1 / (1 + Math.pow(10, -elo / Statistics.ELO_SCALE));
+    }
+
+    @Override
+    public String toString() {
+        return "+" + this.wins + " =" + this.draws + " -" + this.losses;
+    }
+
+}
@@ -0,0 +1,263 @@
+package es.urjccode.mastercloudapps.adcs.draughts.tournament;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import es.urjccode.mastercloudapps.adcs.draughts.engine.Engine;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Error;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+import es.urjccode.mastercloudapps.adcs.draughts.pdn.PdnGame;
+import es.urjccode.mastercloudapps.adcs.draughts.pdn.PdnMove;
+import es.urjccode.mastercloudapps.adcs.draughts.pdn.PdnWriter;
+import es.urjccode.mastercloudapps.adcs.draughts.utils.Console;
+
+public class Tournament {
+
+    public static final int DEFAULT_GAMES = 100;
+    public static final int DEFAULT_OPENING_PLIES = 4;
+    public static final int DEFAULT_MAXIMUM_PLIES = 200;
+    public static final long DEFAULT_SEED = 1;
+    static final String EVENT = "Event";
+    static final String ROUND = "Round";
+    static final String WHITE = "White";
+    static final String BLACK = "Black";
+    private static final String EVENT_NAME = "self-play";
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private Player first;
+    private Player second;
+    private int games;
+    private long seed;
+    private int openingPlies;
+    private int maximumPlies;
+    private Sprt sprt;
+    private PdnWriter writer;
+    private Statistics statistics;
+    private PdnGame[] completed;
+    private int flushed;
+    private volatile boolean stopped;
+
+    public Tournament(Player first, Player second, int games, long seed) {
+        assert first != null && second != null;
+        assert games > 0;
+        this.first = first;
+        this.second = second;
+        this.games = games;
+        this.seed = seed;
+        this.openingPlies = Tournament.DEFAULT_OPENING_PLIES;
+        this.maximumPlies = Tournament.DEFAULT_MAXIMUM_PLIES;
+    }
+
+    public void setOpeningPlies(int openingPlies) {
+        assert openingPlies >= 0;
+        this.openingPlies = openingPlies;
+    }
+
+    public void setMaximumPlies(int maximumPlies) {
+        assert maximumPlies > 0;
+        this.maximumPlies = maximumPlies;
+    }
+
+    public void setSprt(Sprt sprt) {
+        this.sprt = sprt;
+    }
+
+    public void setWriter(PdnWriter writer) {
+        this.writer = writer;
+    }
+
+    public Statistics run(int threads) {
+        assert threads > 0;
+        this.statistics = new Statistics();
+        this.completed = new PdnGame[this.games];
+        this.flushed = 0;
+        this.stopped = false;
+        ForkJoinPool forkJoinPool = new ForkJoinPool(threads);
+        try {
+            forkJoinPool.invoke(new RoundsTask(this));
+        } finally {
+            forkJoinPool.shutdown();
+        }
+        if (this.writer != null)
+            try {
+                this.writer.flush();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        return this.statistics;
+    }
+
+    private static class RoundsTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private Tournament tournament;
+
+        RoundsTask(Tournament tournament) {
+            this.tournament = tournament;
+        }
+
+        @Override
+        protected void compute() {
+            List<RoundTask> tasks = new ArrayList<RoundTask>();
+            for (int round = 0; round < this.tournament.games; round++)
+                tasks.add(new RoundTask(this.tournament, round));
+            ForkJoinTask.invokeAll(tasks);
+        }
+
+    }
+
+    private static class RoundTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private Tournament tournament;
+        private int round;
+
+        RoundTask(Tournament tournament, int round) {
+            this.tournament = tournament;
+            this.round = round;
+        }
+
+        @Override
+        protected void compute() {
+            if (!this.tournament.stopped)
+                this.tournament.complete(this.round, this.tournament.play(this.round));
+        }
+
+    }
+
+    PdnGame play(int round) {
+        long gameSeed = Tournament.mix(this.seed + round / 2 * Tournament.GOLDEN_GAMMA);
+        Player white = round % 2 == 0 ? this.first : this.second;
+        Player black = round % 2 == 0 ? this.second : this.first;
+        PdnGame pdnGame = new PdnGame();
+        pdnGame.setTag(Tournament.EVENT, Tournament.EVENT_NAME);
+        pdnGame.setTag(Tournament.ROUND, String.valueOf(round + 1));
+        pdnGame.setTag(Tournament.WHITE, white.getName());
+        pdnGame.setTag(Tournament.BLACK, black.getName());
+        pdnGame.setTag(PdnGame.SEED, String.valueOf(gameSeed));
+        Game game = new Game(gameSeed);
+        MoveBuffer moves = new MoveBuffer();
+        SplittableRandom opening = new SplittableRandom(~gameSeed);
+        for (int ply = 0; ply < this.openingPlies && !game.isBlocked(); ply++) {
+            game.generateMoves(moves);
+            Tournament.move(game, moves, moves.getCoordinates(opening.nextInt(moves.size())), pdnGame);
+        }
+        Engine whiteEngine = white.create(gameSeed);
+        Engine blackEngine = black.create(Tournament.mix(gameSeed));
+        try {
+            for (int ply = this.openingPlies; ply < this.maximumPlies && !game.isBlocked(); ply++) {
+                Engine engine = game.getTurnColor() == Color.WHITE ? whiteEngine : blackEngine;
+                game.generateMoves(moves);
+                Tournament.move(game, moves, engine.getMove(game), pdnGame);
+            }
+        } finally {
+            Player.dispose(whiteEngine);
+            Player.dispose(blackEngine);
+        }
+        if (!game.isBlocked())
+            pdnGame.setResult(PdnGame.DRAW);
+        else if (game.getTurnColor() == Color.WHITE)
+            pdnGame.setResult(PdnGame.BLACK_WIN);
+        else
+            pdnGame.setResult(PdnGame.WHITE_WIN);
+        return pdnGame;
+    }
+
+    private static void move(Game game, MoveBuffer moves, Coordinate[] coordinates, PdnGame pdnGame) {
+        int move = moves.find(coordinates[0], coordinates[coordinates.length - 1]);
+        boolean capture = move >= 0 && moves.isCapture(move);
+        Error error = game.move(coordinates);
+        assert error == null;
+        pdnGame.add(new PdnMove(coordinates, capture, game.getLastPenalty()));
+    }
+
+    private synchronized void complete(int round, PdnGame pdnGame) {
+        this.completed[round] = pdnGame;
+        while (!this.stopped && this.flushed < this.games && this.completed[this.flushed] != null) {
+            PdnGame next = this.completed[this.flushed];
+            this.completed[this.flushed] = null;
+            Color winner = next.getWinner();
+            Color firstColor = this.flushed++ % 2 == 0 ? Color.WHITE : Color.BLACK;
+            if (winner == null)
+                this.statistics.addDraw();
+            else if (winner == firstColor)
+                this.statistics.addWin();
+            else
+                this.statistics.addLoss();
+            if (this.writer != null)
+                try {
+                    this.writer.write(next);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            if (this.sprt != null && this.sprt.getState(this.statistics) != Sprt.State.CONTINUE)
+                this.stopped = true;
+        }
+    }
+
+    private static long mix(long value) {
+        value = (value ^ value >>> 30) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ value >>> 27) * 0x94D049BB133111EBL;
+        return value ^ value >>> 31;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            new Console().writeln("usage: Tournament <first> <second> [games] [threads] [pdn] [seed]");
+            return;
+        }
+        Player first = Player.parse(args[0]);
+        Player second = Player.parse(args[1]);
+        Console console = new Console();
+        if (first == null || second == null) {
+            console.writeln("bad player: " + (first == null ? args[0] : args[1]));
+            return;
+        }
+        int games = Tournament.DEFAULT_GAMES;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = Tournament.DEFAULT_SEED;
+        if (args.length > 2)
+            games = Integer.parseInt(args[2]);
+        if (args.length > 3)
+            threads = Integer.parseInt(args[3]);
+        if (args.length > 5)
+            seed = Long.parseLong(args[5]);
+        Tournament tournament = new Tournament(first, second, games, seed);
+        Sprt sprt = new Sprt();
+        tournament.setSprt(sprt);
+        long start = System.currentTimeMillis();
+        Statistics statistics;
+        if (args.length > 4) {
+            Path path = Paths.get(args[4]);
+            try (PdnWriter writer = new PdnWriter(Files.newBufferedWriter(path, StandardCharsets.ISO_8859_1))) {
+                tournament.setWriter(writer);
+                statistics = tournament.run(threads);
+            }
+        } else
+            statistics = tournament.run(threads);
+        console.writeln(first + " vs " + second);
+        console.writeln("games\twins\tdraws\tlosses\tscore\telo\tllr\tsprt\tmillis");
+        console.writeln(statistics.getGames() + "\t" + statistics.getWins() + "\t" + statistics.getDraws()
+            + "\t" + statistics.getLosses() + "\t" + String.format("%.3f", statistics.getScore())
+            + "\t" + String.format("%.1f +- %.1f", statistics.getElo(), statistics.getEloMargin())
+            + "\t" + String.format("%.2f [%.2f, %.2f]", sprt.getLlr(statistics), sprt.getLowerBound(),
+                sprt.getUpperBound())
+            + "\t" + sprt.getState(statistics) + "\t" + (System.currentTimeMillis() - start));
+    }
+
+}
@@ -1,27 +1,47 @@
 package es.urjccode.mastercloudapps.adcs.draughts.utils;
 
 import java.io.BufferedReader;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 public class Console {
 	
-	private BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(
-			System.in));
+	private BufferedReader bufferedReader;
+	private PrintWriter printWriter;
+
+	public Console() {
+		this(System.in, System.out, Charset.defaultCharset());
+	}
+
+	public Console(InputStream inputStream, OutputStream outputStream) {
+		this(inputStream, outputStream, StandardCharsets.UTF_8);
+	}
+
+	private Console(InputStream inputStream, OutputStream outputStream, Charset charset) {
+		assert inputStream != null;
+		assert outputStream != null;
+		this.bufferedReader = new BufferedReader(new InputStreamReader(inputStream, charset));
+		this.printWriter = new PrintWriter(new OutputStreamWriter(outputStream, charset));
+	}
 
 	public String readString(String title) {
-		String input = null;
-		boolean ok = false;
-		do {
-			this.write(title);
-			try {
-				input = bufferedReader.readLine();
-				ok = true;
-			} catch (IOException ex) {
-				this.writeError("de cadena de caracteres");
-			}
-		} while (!ok);
-		return input;
+		this.write(title);
+		try {
+			String input = this.bufferedReader.readLine();
+			if (input == null)
+				throw new EOFException();
+			return input;
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
 	}
 
 	public int readInt(String title) {
@@ -54,19 +74,22 @@ public class Console {
 	}
 
 	public void writeln() {
-		System.out.println();
+		this.printWriter.println();
+		this.printWriter.flush();
 	}
 	
 	public void write(String string) {
-		System.out.print(string);
+		this.printWriter.print(string);
+		this.printWriter.flush();
 	}
 
 	public void writeln(String string) {
-		System.out.println(string);
+		this.printWriter.println(string);
+		this.printWriter.flush();
 	}
 
 	private void writeError(String formato) {
-		System.out.println("ERROR DE FORMATO! "
+		this.writeln("ERROR DE FORMATO! "
 				+ "Introduzca un valor con formato " + formato + ".");
 	}
 }
@@ -10,7 +10,12 @@ public class YesNoDialog  {
     private Console console;
 
     public YesNoDialog(){
-        this.console = new Console();
+        this(new Console());
+    }
+
+    public YesNoDialog(Console console){
+        assert console != null;
+        this.console = console;
     }
     
 	public boolean read(String title) {
@@ -3,9 +3,14 @@ package es.urjccode.mastercloudapps.adcs.draughts.views;
 import es.urjccode.mastercloudapps.adcs.draughts.controllers.InteractorController;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Piece;
+import es.urjccode.mastercloudapps.adcs.draughts.utils.Console;
 
 class GameView extends SubView {
 
+    GameView(Console console) {
+        super(console);
+    }
+
     void write(InteractorController controller) {
         assert controller != null;
         final int DIMENSION = controller.getDimension();
@@ -25,7 +30,7 @@ class GameView extends SubView {
     private void writePiecesRow(final int row, InteractorController controller) {
         this.console.write((row + 1) + "");
         for (int j = 0; j < controller.getDimension(); j++) {
-            Piece piece = controller.getPiece(new Coordinate(row, j));
+            Piece piece = controller.getPiece(Coordinate.of(row, j));
             if (piece == null)
                 this.console.write(" ");
             else 
@@ -8,24 +8,42 @@ import es.urjccode.mastercloudapps.adcs.draughts.controllers.PlayController;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Error;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.utils.Console;
 
 class PlayView extends SubView {
     
     private static final String COLOR_PARAM = "#color";
     private static final String[] COLOR_VALUES = { "blancas", "negras" };
     private static final String PROMPT = "Mueven las " + PlayView.COLOR_PARAM + ": ";
+    private static final String ENGINE_PROMPT = "Mueven las " + PlayView.COLOR_PARAM + " (máquina)";
     private static final String CANCEL_FORMAT = "-1";
     private static final String MOVEMENT_FORMAT = "[1-8]{2}(\\.[1-8]{2}){1,2}";
     private static final String ERROR_MESSAGE = "Error!!! Formato incorrecto";
     private static final String LOST_MESSAGE = "Derrota!!! No puedes mover tus fichas!!!";
     private String string;
 
-    PlayView() {
-        super();
+    PlayView(Console console) {
+        super(console);
     }
 
     void interact(PlayController playController) {
         assert playController != null;
+        if (playController.isEngineTurn())
+            this.interactEngine(playController);
+        else
+            this.interactPlayer(playController);
+    }
+
+    private void interactEngine(PlayController playController) {
+        this.console.writeln(this.getTitle(PlayView.ENGINE_PROMPT, playController.getColor()));
+        Error error = playController.moveEngine();
+        assert error == null;
+        new GameView(this.console).write(playController);
+        if (playController.isBlocked())
+            this.writeLost();
+    }
+
+    private void interactPlayer(PlayController playController) {
         Error error;
         do {
             error = null;
@@ -37,7 +55,7 @@ class PlayView extends SubView {
                 this.writeError();
             } else {
                 error = playController.move(this.getCoordinates());
-                new GameView().write(playController);
+                new GameView(this.console).write(playController);
                 if (error == null && playController.isBlocked())
                     this.writeLost();
             }
@@ -45,8 +63,11 @@ class PlayView extends SubView {
     }
 
     private String read(Color color) {
-        final String titleColor = PlayView.PROMPT.replace(PlayView.COLOR_PARAM ,PlayView.COLOR_VALUES[color.ordinal()]);
-        return this.console.readString(titleColor);
+        return this.console.readString(this.getTitle(PlayView.PROMPT, color));
+    }
+
+    private String getTitle(String title, Color color) {
+        return title.replace(PlayView.COLOR_PARAM ,PlayView.COLOR_VALUES[color.ordinal()]);
     }
 
     private boolean isCanceledFormat() {
@@ -1,6 +1,7 @@
 package es.urjccode.mastercloudapps.adcs.draughts.views;
 
 import es.urjccode.mastercloudapps.adcs.draughts.controllers.ResumeController;
+import es.urjccode.mastercloudapps.adcs.draughts.utils.Console;
 import es.urjccode.mastercloudapps.adcs.draughts.utils.YesNoDialog;
 
 class ResumeView extends SubView {
@@ -9,9 +10,14 @@ class ResumeView extends SubView {
     
     private YesNoDialog yesNoDialog;
 
-    ResumeView(){
-        super();
-        this.yesNoDialog = new YesNoDialog();
+    ResumeView(Console console){
+        this(console, new YesNoDialog(console));
+    }
+
+    ResumeView(Console console, YesNoDialog yesNoDialog){
+        super(console);
+        assert yesNoDialog != null;
+        this.yesNoDialog = yesNoDialog;
     }
 
     void interact(ResumeController resumeController) {
@@ -5,6 +5,7 @@ import es.urjccode.mastercloudapps.adcs.draughts.controllers.InteractorControlle
 import es.urjccode.mastercloudapps.adcs.draughts.controllers.PlayController;
 import es.urjccode.mastercloudapps.adcs.draughts.controllers.ResumeController;
 import es.urjccode.mastercloudapps.adcs.draughts.controllers.StartController;
+import es.urjccode.mastercloudapps.adcs.draughts.utils.Console;
 
 public class View implements InteractorControllersVisitor {
 
@@ -13,9 +14,13 @@ public class View implements InteractorControllersVisitor {
     private ResumeView resumeView;
 
     public View(){
-        this.startView = new StartView();
-        this.playView = new PlayView();
-        this.resumeView = new ResumeView();
+        this(new Console());
+    }
+
+    public View(Console console){
+        this.startView = new StartView(console);
+        this.playView = new PlayView(console);
+        this.resumeView = new ResumeView(console);
     }
 
     public void interact(InteractorController controller) {
@@ -4,13 +4,25 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
 import es.urjccode.mastercloudapps.adcs.draughts.controllers.AllControllerTest;
+import es.urjccode.mastercloudapps.adcs.draughts.database.AllDatabaseTest;
+import es.urjccode.mastercloudapps.adcs.draughts.engine.AllEngineTest;
 import es.urjccode.mastercloudapps.adcs.draughts.models.AllModelTest;
+import es.urjccode.mastercloudapps.adcs.draughts.pdn.AllPdnTest;
+import es.urjccode.mastercloudapps.adcs.draughts.server.AllServerTest;
+import es.urjccode.mastercloudapps.adcs.draughts.tablebase.AllTablebaseTest;
+import es.urjccode.mastercloudapps.adcs.draughts.tournament.AllTournamentTest;
 import es.urjccode.mastercloudapps.adcs.draughts.views.AllViewTest;
 
 @RunWith(Suite.class)
 @Suite.SuiteClasses({ 
     AllModelTest.class, 
+    AllEngineTest.class,
     AllControllerTest.class, 
-    AllViewTest.class } )
+    AllViewTest.class,
+    AllServerTest.class,
+    AllPdnTest.class,
+    AllDatabaseTest.class,
+    AllTablebaseTest.class,
+    AllTournamentTest.class } )
 public final class AllTest {
 }
\ No newline at end of file
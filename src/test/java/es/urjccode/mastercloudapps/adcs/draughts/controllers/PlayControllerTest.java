@@ -4,16 +4,29 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Path;
+
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import es.urjccode.mastercloudapps.adcs.draughts.database.PositionDatabase;
+import es.urjccode.mastercloudapps.adcs.draughts.engine.AlphaBetaEngine;
+import es.urjccode.mastercloudapps.adcs.draughts.engine.OpeningBook;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
 import es.urjccode.mastercloudapps.adcs.draughts.models.State;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
 import es.urjccode.mastercloudapps.adcs.draughts.models.GameBuilder;
+import es.urjccode.mastercloudapps.adcs.draughts.pdn.PdnReader;
 
 public class PlayControllerTest {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private PlayController playController;
 
     @Test
@@ -74,4 +87,34 @@ public class PlayControllerTest {
         assertFalse(game.isBlocked());
     }
 
+    @Test
+    public void testGivenPlayControllerWithEngineWhenMoveEngineThenOk() {
+        Game game = new GameBuilder().build();
+        playController = new PlayController(game, new State());
+        assertFalse(playController.isEngineTurn());
+        playController.setEngine(Color.WHITE, new AlphaBetaEngine(2));
+        assertTrue(playController.isEngineTurn());
+        assertEquals(null, playController.moveEngine());
+        assertEquals(Color.BLACK, playController.getColor());
+        assertFalse(playController.isEngineTurn());
+    }
+
+    @Test
+    public void testGivenPlayControllerWithOpeningBookWhenMoveEngineThenBookMove() throws IOException {
+        Path book = this.temporaryFolder.newFile().toPath();
+        try (PositionDatabase database = new PositionDatabase(this.temporaryFolder.newFile().toPath())) {
+            database.add(new PdnReader(new StringReader("1. 22-18 *")).next());
+            OpeningBook.write(book, database, 1);
+        }
+        Game game = new GameBuilder().build();
+        playController = new PlayController(game, new State());
+        playController.setEngine(Color.WHITE, searched -> null);
+        playController.setEngine(Color.BLACK, new AlphaBetaEngine(1));
+        playController.setOpeningBook(new OpeningBook(book, OpeningBook.DEFAULT_SEED));
+        assertEquals(null, playController.moveEngine());
+        assertEquals(Color.WHITE, playController.getColor(new Coordinate(4, 3)));
+        assertEquals(null, playController.moveEngine());
+        assertEquals(Color.WHITE, playController.getColor());
+    }
+
 }
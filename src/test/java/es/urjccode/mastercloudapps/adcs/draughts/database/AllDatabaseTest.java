@@ -0,0 +1,10 @@
+package es.urjccode.mastercloudapps.adcs.draughts.database;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+@RunWith(Suite.class)
+@Suite.SuiteClasses({
+    PositionDatabaseTest.class } )
+public final class AllDatabaseTest {
+}
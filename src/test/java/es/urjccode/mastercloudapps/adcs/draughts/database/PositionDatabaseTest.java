@@ -0,0 +1,121 @@
+package es.urjccode.mastercloudapps.adcs.draughts.database;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+import es.urjccode.mastercloudapps.adcs.draughts.pdn.PdnGame;
+import es.urjccode.mastercloudapps.adcs.draughts.pdn.PdnMove;
+import es.urjccode.mastercloudapps.adcs.draughts.pdn.PdnReader;
+
+public class PositionDatabaseTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private static PdnGame parse(String pdn) throws IOException {
+        return new PdnReader(new StringReader(pdn)).next();
+    }
+
+    @Test
+    public void testGivenGamesWhenAddThenStatisticsOfInitialPosition() throws IOException {
+        try (PositionDatabase database = new PositionDatabase(this.temporaryFolder.newFile().toPath())) {
+            assertTrue(database.add(PositionDatabaseTest.parse("1. 22-18 12-16 1-0")));
+            assertTrue(database.add(PositionDatabaseTest.parse("1. 22-18 9-13 1/2-1/2")));
+            assertTrue(database.add(PositionDatabaseTest.parse("1. 24-20 0-1")));
+            assertTrue(database.add(PositionDatabaseTest.parse("1. 22-18 *")));
+            PositionStatistics statistics = database.get(new Game().getKey());
+            assertEquals(4, statistics.getGames());
+            assertEquals(1, statistics.getWhiteWins());
+            assertEquals(1, statistics.getDraws());
+            assertEquals(1, statistics.getBlackWins());
+            assertEquals(2, statistics.getContinuations().size());
+            assertEquals("22-18", statistics.getContinuations().get(0).toString());
+            assertEquals(3, statistics.getContinuations().get(0).getCount());
+            assertEquals("24-20", statistics.getContinuations().get(1).toString());
+            assertEquals(1, statistics.getContinuations().get(1).getCount());
+            assertEquals(5, database.getSize());
+        }
+    }
+
+    @Test
+    public void testGivenInvalidGameWhenAddThenRejected() throws IOException {
+        try (PositionDatabase database = new PositionDatabase(this.temporaryFolder.newFile().toPath())) {
+            assertFalse(database.add(PositionDatabaseTest.parse("1. 22-18 12-16 2. 21-18 1-0")));
+            assertNull(database.get(new Game().getKey()));
+            assertEquals(0, database.getSize());
+        }
+    }
+
+    @Test
+    public void testGivenContinuationWhenGetCoordinatesThenLegalMove() throws IOException {
+        try (PositionDatabase database = new PositionDatabase(this.temporaryFolder.newFile().toPath())) {
+            database.add(PositionDatabaseTest.parse("1. 22-18 1-0"));
+            Continuation continuation = database.get(new Game().getKey()).getContinuations().get(0);
+            assertArrayEquals(new Coordinate[] { new Coordinate(5, 2), new Coordinate(4, 3) },
+                continuation.getCoordinates(new Game()));
+        }
+    }
+
+    @Test
+    public void testGivenMoreContinuationsThanSlotsWhenAddThenMostPlayedKept() throws IOException {
+        String[] openings = { "21-17", "22-17", "22-18", "23-18", "23-19", "24-19", "24-20" };
+        try (PositionDatabase database = new PositionDatabase(this.temporaryFolder.newFile().toPath())) {
+            for (int i = 0; i < 10; i++)
+                database.add(PositionDatabaseTest.parse("1. 24-20 *"));
+            for (String opening : openings)
+                database.add(PositionDatabaseTest.parse("1. " + opening + " *"));
+            PositionStatistics statistics = database.get(new Game().getKey());
+            assertEquals(17, statistics.getGames());
+            assertEquals(PositionDatabase.CONTINUATIONS, statistics.getContinuations().size());
+            assertEquals("24-20", statistics.getContinuations().get(0).toString());
+            assertEquals(11, statistics.getContinuations().get(0).getCount());
+        }
+    }
+
+    @Test
+    public void testGivenRandomGamesWhenGrowAndReopenThenSameCounts() throws IOException {
+        Path path = this.temporaryFolder.newFile().toPath();
+        Map<Long, Integer> games = new HashMap<Long, Integer>();
+        Random random = new Random(19);
+        MoveBuffer moves = new MoveBuffer();
+        try (PositionDatabase database = new PositionDatabase(path, 8)) {
+            for (int i = 0; i < 50; i++) {
+                PdnGame pdnGame = new PdnGame();
+                Game game = new Game();
+                games.merge(game.getKey(), 1, Integer::sum);
+                for (int ply = 0; ply < 40 && !game.isBlocked(); ply++) {
+                    game.generateMoves(moves);
+                    int move = random.nextInt(moves.size());
+                    game.move(moves.getCoordinates(move));
+                    pdnGame.add(new PdnMove(moves.getCoordinates(move), moves.isCapture(move), game.getLastPenalty()));
+                    games.merge(game.getKey(), 1, Integer::sum);
+                }
+                assertTrue(database.add(pdnGame));
+            }
+            assertTrue(database.getCapacity() > 8);
+        }
+        try (PositionDatabase database = new PositionDatabase(path)) {
+            assertEquals(games.size(), database.getSize());
+            for (Map.Entry<Long, Integer> entry : games.entrySet())
+                assertEquals(entry.getValue().intValue(), database.getGames(entry.getKey()));
+        }
+    }
+
+}
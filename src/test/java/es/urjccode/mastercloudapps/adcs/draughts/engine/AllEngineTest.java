@@ -0,0 +1,16 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+@RunWith(Suite.class)
+@Suite.SuiteClasses({
+    EvaluatorTest.class,
+    TranspositionTableTest.class,
+    AlphaBetaEngineTest.class,
+    LazySmpEngineTest.class,
+    PerftTest.class,
+    OpeningBookTest.class,
+    MctsEngineTest.class } )
+public final class AllEngineTest {
+}
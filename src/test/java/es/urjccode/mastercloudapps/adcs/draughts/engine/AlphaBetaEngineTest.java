@@ -0,0 +1,92 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.GameBuilder;
+
+public class AlphaBetaEngineTest {
+
+    @Test
+    public void testGivenGameWhenGetMoveThenEatsPiece() {
+        Game game = new GameBuilder().color(Color.WHITE).rows(
+            "        ",
+            "n       ",
+            "        ",
+            "        ",
+            " n      ",
+            "  b     ",
+            "        ",
+            "        ").build();
+        assertArrayEquals(new Coordinate[] { new Coordinate(5, 2), new Coordinate(3, 0) },
+            new AlphaBetaEngine(4).getMove(game));
+    }
+
+    @Test
+    public void testGivenGameWhenGetMoveThenBlocksOpposite() {
+        Game game = new GameBuilder().color(Color.WHITE).rows(
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "    B   ",
+            " n      ",
+            "b       ").build();
+        AlphaBetaEngine engine = new AlphaBetaEngine(3);
+        Coordinate[] coordinates = engine.getMove(game);
+        assertNull(game.move(coordinates));
+        assertTrue(game.isBlocked());
+    }
+
+    @Test
+    public void testGivenGameWhenGetMoveThenGameDoesNotChange() {
+        Game game = new Game();
+        long key = game.getKey();
+        new AlphaBetaEngine(5).getMove(game);
+        assertEquals(new Game(), game);
+        assertEquals(key, game.getKey());
+    }
+
+    @Test
+    public void testGivenBlockedGameWhenGetMoveThenNull() {
+        Game game = new GameBuilder().color(Color.BLACK).rows(
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "b       ").build();
+        assertNull(new AlphaBetaEngine(2).getMove(game));
+    }
+
+    @Test
+    public void testGivenTimeBudgetWhenGetMoveThenStopsInTime() {
+        AlphaBetaEngine engine = new AlphaBetaEngine(AlphaBetaEngine.MAXIMUM_DEPTH, 100);
+        long start = System.currentTimeMillis();
+        assertTrue(engine.getMove(new Game()) != null);
+        assertTrue(System.currentTimeMillis() - start < 1000);
+        assertTrue(engine.getCompletedDepth() >= 1);
+        assertTrue(engine.getNodes() > 0);
+    }
+
+    @Test
+    public void testGivenTablebaseScoreWhenStoredAtOtherPlyThenAdjustedByDistance() {
+        int score = AlphaBetaEngine.TABLEBASE_WIN - 10;
+        assertEquals(AlphaBetaEngine.TABLEBASE_WIN, AlphaBetaEngine.toTable(score, 10));
+        assertEquals(AlphaBetaEngine.TABLEBASE_WIN - 3, AlphaBetaEngine.fromTable(AlphaBetaEngine.toTable(score, 10), 3));
+        assertEquals(-AlphaBetaEngine.TABLEBASE_WIN + 3, AlphaBetaEngine.fromTable(AlphaBetaEngine.toTable(-score, 10), 3));
+        assertEquals(AlphaBetaEngine.WIN - 3, AlphaBetaEngine.fromTable(AlphaBetaEngine.toTable(AlphaBetaEngine.WIN - 10, 10), 3));
+        assertEquals(250, AlphaBetaEngine.fromTable(AlphaBetaEngine.toTable(250, 10), 3));
+    }
+
+}
@@ -0,0 +1,59 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.GameBuilder;
+
+public class EvaluatorTest {
+
+    @Test
+    public void testGivenNewGameWhenEvaluateThenZero() {
+        assertEquals(0, new Evaluator().evaluate(new Game()));
+    }
+
+    @Test
+    public void testGivenGameWhenEvaluateThenFromTurnColorPointOfView() {
+        String[] rows = {
+            "        ",
+            "        ",
+            "   n    ",
+            "        ",
+            "        ",
+            "  B     ",
+            "        ",
+            "b       " };
+        int whiteScore = new Evaluator().evaluate(new GameBuilder().color(Color.WHITE).rows(rows).build());
+        int blackScore = new Evaluator().evaluate(new GameBuilder().color(Color.BLACK).rows(rows).build());
+        assertTrue(whiteScore > Evaluator.DRAUGHT - Evaluator.PAWN);
+        assertEquals(-whiteScore, blackScore);
+    }
+
+    @Test
+    public void testGivenGamesWhenEvaluateAdvancedPawnThenBetter() {
+        Game advanced = new GameBuilder().color(Color.BLACK).rows(
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "    n   ",
+            "        ",
+            "        ").build();
+        Game notAdvanced = new GameBuilder().color(Color.BLACK).rows(
+            "        ",
+            "    n   ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ").build();
+        assertTrue(new Evaluator().evaluate(advanced) > new Evaluator().evaluate(notAdvanced));
+    }
+
+}
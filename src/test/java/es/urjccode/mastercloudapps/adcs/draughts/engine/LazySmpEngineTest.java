@@ -0,0 +1,109 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.GameBuilder;
+
+public class LazySmpEngineTest {
+
+    @Test
+    public void testGivenGameWhenGetMoveThenEatsPiece() {
+        Game game = new GameBuilder().color(Color.WHITE).rows(
+            "        ",
+            "n       ",
+            "        ",
+            "        ",
+            " n      ",
+            "  b     ",
+            "        ",
+            "        ").build();
+        LazySmpEngine engine = new LazySmpEngine(4, 4, 0);
+        assertArrayEquals(new Coordinate[] { new Coordinate(5, 2), new Coordinate(3, 0) },
+            engine.getMove(game));
+        engine.shutdown();
+    }
+
+    @Test
+    public void testGivenGameWhenGetMoveThenGameDoesNotChange() {
+        Game game = new Game();
+        long key = game.getKey();
+        LazySmpEngine engine = new LazySmpEngine(3, 5, 0);
+        engine.getMove(game);
+        assertEquals(new Game(), game);
+        assertEquals(key, game.getKey());
+        engine.shutdown();
+    }
+
+    @Test
+    public void testGivenSameSeedWhenGetMoveThenSameMoves() {
+        Game game = new Game(24);
+        LazySmpEngine engine = new LazySmpEngine(1, 4, 0);
+        LazySmpEngine expectedEngine = new LazySmpEngine(1, 4, 0);
+        engine.setSeed(7);
+        expectedEngine.setSeed(7);
+        for (int i = 0; i < 12 && !game.isBlocked(); i++) {
+            Coordinate[] coordinates = engine.getMove(game);
+            assertArrayEquals(expectedEngine.getMove(game), coordinates);
+            assertNull(game.move(coordinates));
+        }
+        engine.shutdown();
+        expectedEngine.shutdown();
+    }
+
+    @Test
+    public void testGivenBlockedGameWhenGetMoveThenNull() {
+        Game game = new GameBuilder().color(Color.BLACK).rows(
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "b       ").build();
+        LazySmpEngine engine = new LazySmpEngine(2, 2, 0);
+        assertNull(engine.getMove(game));
+        engine.shutdown();
+    }
+
+    @Test
+    public void testGivenTimeBudgetWhenGetMoveThenHelpersStopWithMainThread() {
+        LazySmpEngine engine = new LazySmpEngine(4, AlphaBetaEngine.MAXIMUM_DEPTH, 100);
+        long start = System.currentTimeMillis();
+        Game game = new Game();
+        Coordinate[] coordinates = engine.getMove(game);
+        assertTrue(System.currentTimeMillis() - start < 1000);
+        assertNull(game.move(coordinates));
+        assertEquals(4, engine.getThreads());
+        assertTrue(engine.getCompletedDepth() >= 1);
+        assertTrue(engine.getNodes() > 0);
+        engine.shutdown();
+    }
+
+    @Test
+    public void testGivenGameWhenCopyThenSameKeyAndTurn() {
+        Game game = new Game();
+        game.move(new Coordinate(5, 0), new Coordinate(4, 1));
+        Game copy = new Game(game);
+        assertEquals(game, copy);
+        assertEquals(game.getKey(), copy.getKey());
+        assertEquals(Color.BLACK, copy.getTurnColor());
+        assertEquals(Color.WHITE, copy.getColor(new Coordinate(4, 1)));
+    }
+
+    @Test
+    public void testGivenReportWhenMeasureThenCountsNodes() {
+        long[] result = new LazySmpReport(20, 2).measure(2);
+        assertTrue(result[0] > 0);
+        assertTrue(result[2] >= 1);
+    }
+
+}
@@ -0,0 +1,108 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.GameBuilder;
+
+public class MctsEngineTest {
+
+    private Game getCaptureGame() {
+        return new GameBuilder().color(Color.WHITE).rows(
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            " n      ",
+            "  b     ",
+            "        ",
+            "        ").build();
+    }
+
+    @Test
+    public void testGivenWinningCaptureWhenGetMoveThenEatsPiece() {
+        MctsEngine engine = new MctsEngine(1, 500, 0);
+        assertArrayEquals(new Coordinate[] { new Coordinate(5, 2), new Coordinate(3, 0) },
+            engine.getMove(this.getCaptureGame()));
+        assertEquals(500, engine.getPlayouts());
+        engine.shutdown();
+    }
+
+    @Test
+    public void testGivenThreadsWhenGetMoveThenEatsPiece() {
+        MctsEngine engine = new MctsEngine(4, 2000, 0);
+        assertArrayEquals(new Coordinate[] { new Coordinate(5, 2), new Coordinate(3, 0) },
+            engine.getMove(this.getCaptureGame()));
+        assertEquals(2000, engine.getPlayouts());
+        assertEquals(4, engine.getThreads());
+        engine.shutdown();
+    }
+
+    @Test
+    public void testGivenGameWhenGetMoveThenGameDoesNotChange() {
+        Game game = new Game();
+        long key = game.getKey();
+        MctsEngine engine = new MctsEngine(3, 300, 0);
+        Coordinate[] coordinates = engine.getMove(game);
+        assertEquals(new Game(), game);
+        assertEquals(key, game.getKey());
+        assertNull(game.move(coordinates));
+        engine.shutdown();
+    }
+
+    @Test
+    public void testGivenSameSeedWhenGetMoveThenSameMoves() {
+        MctsEngine engine = new MctsEngine(1, 200, 0, 7);
+        MctsEngine other = new MctsEngine(1, 200, 0, 7);
+        Game game = new Game();
+        for (int i = 0; i < 4; i++) {
+            Coordinate[] coordinates = engine.getMove(game);
+            assertArrayEquals(coordinates, other.getMove(game));
+            game.move(0, coordinates);
+        }
+        engine.shutdown();
+        other.shutdown();
+    }
+
+    @Test
+    public void testGivenBlockedGameWhenGetMoveThenNull() {
+        Game game = new GameBuilder().color(Color.BLACK).rows(
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "b       ").build();
+        MctsEngine engine = new MctsEngine(2, 100, 0);
+        assertNull(engine.getMove(game));
+        engine.shutdown();
+    }
+
+    @Test
+    public void testGivenTimeBudgetWhenGetMoveThenStops() {
+        MctsEngine engine = new MctsEngine(2, 0, 100);
+        long start = System.currentTimeMillis();
+        Game game = new Game();
+        assertNull(game.move(engine.getMove(game)));
+        assertTrue(System.currentTimeMillis() - start < 1000);
+        assertTrue(engine.getPlayouts() > 0);
+        engine.shutdown();
+    }
+
+    @Test
+    public void testGivenReportWhenPlayThenCountsEveryGame() {
+        long[] result = new MctsReport(2, 2).play(2);
+        assertEquals(2, result[MctsReport.MCTS_WINS] + result[MctsReport.ALPHA_BETA_WINS] + result[MctsReport.DRAWS]);
+        assertTrue(result[MctsReport.PLAYOUTS] > 0);
+    }
+
+}
@@ -0,0 +1,89 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import es.urjccode.mastercloudapps.adcs.draughts.database.PositionDatabase;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.pdn.PdnReader;
+
+public class OpeningBookTest {
+
+    private static final Coordinate[] FIRST = { new Coordinate(5, 2), new Coordinate(4, 3) };
+    private static final Coordinate[] SECOND = { new Coordinate(5, 6), new Coordinate(4, 7) };
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    static Path getBook(TemporaryFolder temporaryFolder, int minimumCount) throws IOException {
+        Path book = temporaryFolder.newFile().toPath();
+        try (PositionDatabase database = new PositionDatabase(temporaryFolder.newFile().toPath())) {
+            String[] games = { "1. 22-18 12-16 *", "1. 22-18 12-16 *", "1. 22-18 9-13 *", "1. 24-20 *", "1. 21-17 *" };
+            for (int i = 0; i < 3; i++)
+                for (String game : games)
+                    database.add(new PdnReader(new StringReader(game)).next());
+            database.add(new PdnReader(new StringReader("1. 23-19 *")).next());
+            assertEquals(database.getSize() > 0, OpeningBook.write(book, database, minimumCount) > 0);
+        }
+        return book;
+    }
+
+    @Test
+    public void testGivenBookWhenProbeThenMovesByWeight() throws IOException {
+        OpeningBook book = new OpeningBook(OpeningBookTest.getBook(this.temporaryFolder, 2), 20);
+        assertEquals(5, book.getRecords());
+        int first = 0;
+        int second = 0;
+        for (int i = 0; i < 1000; i++) {
+            Coordinate[] coordinates = book.probe(new Game());
+            if (coordinates[0].equals(OpeningBookTest.FIRST[0]))
+                first++;
+            else if (coordinates[0].equals(OpeningBookTest.SECOND[0]))
+                second++;
+        }
+        assertTrue(first > 2 * second);
+        assertTrue(second > 100);
+    }
+
+    @Test
+    public void testGivenSameSeedWhenProbeThenSameMoves() throws IOException {
+        Path path = OpeningBookTest.getBook(this.temporaryFolder, 2);
+        OpeningBook book = new OpeningBook(path, 20);
+        OpeningBook expectedBook = new OpeningBook(path, 20);
+        for (int i = 0; i < 100; i++)
+            assertArrayEquals(expectedBook.probe(new Game()), book.probe(new Game()));
+        book.setSeed(21);
+        expectedBook.setSeed(21);
+        for (int i = 0; i < 100; i++)
+            assertArrayEquals(expectedBook.probe(new Game()), book.probe(new Game()));
+    }
+
+    @Test
+    public void testGivenBookWhenProbeReplyThenBookReply() throws IOException {
+        OpeningBook book = new OpeningBook(OpeningBookTest.getBook(this.temporaryFolder, 4), OpeningBook.DEFAULT_SEED);
+        assertEquals(2, book.getRecords());
+        Game game = new Game();
+        assertArrayEquals(OpeningBookTest.FIRST, book.probe(game));
+        game.move(OpeningBookTest.FIRST);
+        assertArrayEquals(new Coordinate[] { new Coordinate(2, 7), new Coordinate(3, 6) }, book.probe(game));
+        game.move(book.probe(game));
+        assertNull(book.probe(game));
+    }
+
+    @Test(expected = IOException.class)
+    public void testGivenOtherFileWhenOpenThenIOException() throws IOException {
+        new OpeningBook(this.temporaryFolder.newFile().toPath(), OpeningBook.DEFAULT_SEED);
+    }
+
+}
@@ -0,0 +1,72 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.GameBuilder;
+
+public class PerftTest {
+
+    @Test
+    public void testGivenInitialGameWhenPerftThenCountsLeaves() {
+        Perft perft = new Perft();
+        assertEquals(1, perft.perft(new Game(), 0));
+        assertEquals(7, perft.perft(new Game(), 1));
+        assertEquals(49, perft.perft(new Game(), 2));
+    }
+
+    @Test
+    public void testGivenInitialGameWhenPerftThenGameDoesNotChange() {
+        Game game = new Game();
+        long key = game.getKey();
+        new Perft().perft(game, 4);
+        assertEquals(new Game(), game);
+        assertEquals(key, game.getKey());
+    }
+
+    @Test
+    public void testGivenInitialGameWhenDivideThenSumsPerft() {
+        Map<String, Long> divide = new Perft().divide(new Game(), 4);
+        assertEquals(7, divide.size());
+        long nodes = 0;
+        for (long moveNodes : divide.values())
+            nodes += moveNodes;
+        assertEquals(new Perft().perft(new Game(), 4), nodes);
+    }
+
+    @Test
+    public void testGivenInitialGameWhenParallelPerftThenSameAsPerft() {
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        for (int depth = 1; depth <= 5; depth++)
+            assertEquals(new Perft().perft(new Game(), depth),
+                Perft.parallelPerft(new Game(), depth, forkJoinPool));
+        forkJoinPool.shutdown();
+    }
+
+    @Test
+    public void testGivenPenaltyWhenPerftThenCountsEveryRemovedPiece() {
+        Game game = new GameBuilder().color(Color.WHITE).rows(
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            " n   n  ",
+            "b   b   ",
+            "       b",
+            "        ").build();
+        Map<String, Long> divide = new Perft().divide(game, 1);
+        assertEquals(Long.valueOf(1), divide.get("61.43"));
+        assertEquals(Long.valueOf(1), divide.get("65.47"));
+        assertEquals(Long.valueOf(1), divide.get("65.54"));
+        assertEquals(Long.valueOf(2), divide.get("78.67"));
+        assertEquals(5, new Perft().perft(game, 1));
+        assertEquals(new Perft().perft(game, 3), Perft.parallelPerft(game, 3, ForkJoinPool.commonPool()));
+    }
+
+}
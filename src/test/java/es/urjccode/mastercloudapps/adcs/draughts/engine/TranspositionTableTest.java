@@ -0,0 +1,77 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+
+public class TranspositionTableTest {
+
+    private TranspositionTable transpositionTable;
+
+    @Before
+    public void before() {
+        this.transpositionTable = new TranspositionTable(1);
+    }
+
+    @Test
+    public void testGivenMegabytesWhenNewThenPowerOfTwoBuckets() {
+        assertEquals(1 << 15, this.transpositionTable.getBuckets());
+        assertEquals(1 << 15, new TranspositionTable(3).getBuckets() / 2);
+    }
+
+    @Test
+    public void testGivenStoredEntryWhenProbeThenSameValues() {
+        long key = 0x123456789ABCDEFL;
+        this.transpositionTable.store(key, 7, TranspositionTable.LOWER, -AlphaBetaEngine.WIN + 3, 42);
+        long data = this.transpositionTable.probe(key);
+        assertEquals(7, TranspositionTable.getDepth(data));
+        assertEquals(TranspositionTable.LOWER, TranspositionTable.getBound(data));
+        assertEquals(-AlphaBetaEngine.WIN + 3, TranspositionTable.getScore(data));
+        assertEquals(42, TranspositionTable.getMove(data));
+        assertEquals(0, this.transpositionTable.probe(key + 1));
+        assertEquals(1, this.transpositionTable.getHits());
+        assertEquals(1, this.transpositionTable.getMisses());
+    }
+
+    @Test
+    public void testGivenDeeperEntryWhenStoreShallowerInSameBucketThenKeepsBoth() {
+        long buckets = this.transpositionTable.getBuckets();
+        long deepKey = 5;
+        long shallowKey = 5 + buckets;
+        long otherShallowKey = 5 + 2 * buckets;
+        this.transpositionTable.store(deepKey, 9, TranspositionTable.EXACT, 10, 1);
+        this.transpositionTable.store(shallowKey, 2, TranspositionTable.EXACT, 20, 2);
+        assertEquals(9, TranspositionTable.getDepth(this.transpositionTable.probe(deepKey)));
+        assertEquals(2, TranspositionTable.getDepth(this.transpositionTable.probe(shallowKey)));
+        this.transpositionTable.store(otherShallowKey, 1, TranspositionTable.UPPER, 30, 3);
+        assertEquals(9, TranspositionTable.getDepth(this.transpositionTable.probe(deepKey)));
+        assertEquals(0, this.transpositionTable.probe(shallowKey));
+        assertEquals(1, TranspositionTable.getDepth(this.transpositionTable.probe(otherShallowKey)));
+        assertEquals(1, this.transpositionTable.getCollisions());
+    }
+
+    @Test
+    public void testGivenOldGenerationEntryWhenStoreShallowerThenReplacesIt() {
+        long buckets = this.transpositionTable.getBuckets();
+        this.transpositionTable.store(3, 9, TranspositionTable.EXACT, 10, 1);
+        this.transpositionTable.nextGeneration();
+        this.transpositionTable.store(3 + buckets, 1, TranspositionTable.EXACT, 20, 2);
+        this.transpositionTable.store(3 + 2 * buckets, 1, TranspositionTable.EXACT, 30, 3);
+        assertEquals(0, this.transpositionTable.probe(3));
+    }
+
+    @Test
+    public void testGivenSharedTableWhenSearchAgainThenFewerNodes() {
+        AlphaBetaEngine engine = new AlphaBetaEngine(6, 0, this.transpositionTable);
+        engine.getMove(new Game());
+        long nodes = engine.getNodes();
+        engine.getMove(new Game());
+        assertTrue(engine.getNodes() < nodes);
+        assertTrue(this.transpositionTable.getHits() > 0);
+    }
+
+}
@@ -7,6 +7,7 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({ 
     DirectionTest.class,
     CoordinateTest.class, 
+    BoardTest.class,
     PieceTest.class,
     GameBuilderTest.class,
     InitialGameTest.class,
@@ -14,6 +15,11 @@ import org.junit.runners.Suite;
     CorrectMovesPawnGameTest.class,
     IncorrectMovesDraughtGameTest.class,
     CorrectMovesDraughtGameTest.class,
-    IsBlockedGameTest.class } )
+    IsBlockedGameTest.class,
+    GenerateMovesGameTest.class,
+    MakeMoveGameTest.class,
+    KeyGameTest.class,
+    SeedGameTest.class,
+    PositionCodecTest.class } )
 public final class AllModelTest {
 }
@@ -0,0 +1,99 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class BoardTest {
+
+    private Board board;
+
+    @Before
+    public void before() {
+        this.board = new Board();
+    }
+
+    @Test
+    public void testGivenBlackCoordinatesWhenGetSquareThenSameCoordinate() {
+        for (int square = 0; square < Board.SQUARES; square++) {
+            Coordinate coordinate = Board.getCoordinate(square);
+            assertTrue(coordinate.isBlack());
+            assertEquals(square, Board.getSquare(coordinate));
+        }
+    }
+
+    @Test
+    public void testGivenBoardWhenPutThenGetEqualsPiece() {
+        this.board.put(new Coordinate(2, 1), new Pawn(Color.BLACK));
+        this.board.put(new Coordinate(5, 4), new Draught(Color.WHITE));
+        assertEquals(new Pawn(Color.BLACK), this.board.getPiece(new Coordinate(2, 1)));
+        assertEquals(new Draught(Color.WHITE), this.board.getPiece(new Coordinate(5, 4)));
+        assertNull(this.board.getPiece(new Coordinate(5, 5)));
+    }
+
+    @Test
+    public void testGivenBoardWhenMoveDraughtThenKeepsDraught() {
+        this.board.put(new Coordinate(5, 4), new Draught(Color.WHITE));
+        this.board.move(new Coordinate(5, 4), new Coordinate(2, 1));
+        assertTrue(this.board.isEmpty(new Coordinate(5, 4)));
+        assertEquals(new Draught(Color.WHITE), this.board.getPiece(new Coordinate(2, 1)));
+    }
+
+    @Test(expected = AssertionError.class)
+    public void testGivenBoardWhenPutOnWhiteCoordinateThenError() {
+        this.board.put(new Coordinate(2, 2), new Pawn(Color.BLACK));
+    }
+
+    @Test
+    public void testGivenBoardWhenGetCoordinatesWithActualColorThenOrderedByRow() {
+        this.board.put(new Coordinate(6, 1), new Pawn(Color.WHITE));
+        this.board.put(new Coordinate(0, 7), new Draught(Color.WHITE));
+        this.board.put(new Coordinate(3, 2), new Pawn(Color.BLACK));
+        assertEquals(Arrays.asList(new Coordinate(0, 7), new Coordinate(6, 1)),
+            this.board.getCoordinatesWithActualColor(Color.WHITE));
+    }
+
+    @Test
+    public void testGivenBoardWhenGetCoordinatesWithPieceCanEatThenOnlyPiecesCanEat() {
+        this.board.put(new Coordinate(7, 0), new Draught(Color.WHITE));
+        this.board.put(new Coordinate(3, 4), new Pawn(Color.BLACK));
+        this.board.put(new Coordinate(6, 3), new Pawn(Color.WHITE));
+        this.board.put(new Coordinate(5, 4), new Pawn(Color.BLACK));
+        this.board.put(new Coordinate(3, 2), new Pawn(Color.BLACK));
+        this.board.put(new Coordinate(4, 1), new Pawn(Color.WHITE));
+        assertEquals(Arrays.asList(new Coordinate(6, 3), new Coordinate(7, 0)),
+            this.board.getCoordinatesWithPieceCanEat(Color.WHITE, new Coordinate(4, 1)));
+    }
+
+
+    @Test
+    public void testGivenBoardWhenGetBetweenDiagonalPiecesThenPiecesBetween() {
+        this.board.put(new Coordinate(2, 3), new Pawn(Color.BLACK));
+        this.board.put(new Coordinate(4, 5), new Pawn(Color.WHITE));
+        this.board.put(new Coordinate(0, 1), new Pawn(Color.WHITE));
+        assertEquals(Arrays.asList(new Pawn(Color.BLACK), new Pawn(Color.WHITE)),
+            this.board.getBetweenDiagonalPieces(new Coordinate(1, 2), new Coordinate(6, 7)));
+        assertEquals(Arrays.asList(new Pawn(Color.BLACK), new Pawn(Color.WHITE)),
+            this.board.getBetweenDiagonalPieces(new Coordinate(6, 7), new Coordinate(1, 2)));
+        assertTrue(this.board.getBetweenDiagonalPieces(new Coordinate(1, 2), new Coordinate(3, 2)).isEmpty());
+    }
+
+    @Test
+    public void testGivenDistantDraughtWhenGetCoordinatesWithPieceCanEatThenOnlyWithoutObstacle() {
+        this.board.put(new Coordinate(7, 0), new Draught(Color.WHITE));
+        this.board.put(new Coordinate(3, 4), new Pawn(Color.BLACK));
+        assertEquals(Arrays.asList(new Coordinate(7, 0)),
+            this.board.getCoordinatesWithPieceCanEat(Color.WHITE, new Coordinate(0, 1)));
+        this.board.put(new Coordinate(5, 2), new Pawn(Color.WHITE));
+        assertTrue(this.board.getCoordinatesWithPieceCanEat(Color.WHITE, new Coordinate(5, 2)).isEmpty());
+        this.board.remove(new Coordinate(5, 2));
+        this.board.put(new Coordinate(2, 5), new Pawn(Color.BLACK));
+        assertTrue(this.board.getCoordinatesWithPieceCanEat(Color.WHITE, new Coordinate(0, 1)).isEmpty());
+    }
+
+}
@@ -2,6 +2,8 @@ package es.urjccode.mastercloudapps.adcs.draughts.models;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
@@ -135,4 +137,40 @@ public class CoordinateTest {
         );
         assertEquals(coordinates, origin.getBetweenDiagonalCoordinates(target));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGivenRowAndColumnWhenOfThenSameInstance() {
+        assertSame(Coordinate.of(3, 4), Coordinate.of(3, 4));
+        assertEquals(new Coordinate(3, 4), Coordinate.of(3, 4));
+        assertSame(Coordinate.of(3, 4), Coordinate.getInstance("45"));
+        assertEquals(new Coordinate(-1, 8), Coordinate.of(-1, 8));
+    }
+
+    @Test
+    public void testGivenCoordinateWhenGetNeighbourThenNextOnDirection() {
+        assertSame(Coordinate.of(4, 4), Coordinate.of(3, 3).getNeighbour(Direction.NE));
+        assertSame(Coordinate.of(2, 4), Coordinate.of(3, 3).getNeighbour(Direction.SE));
+        assertSame(Coordinate.of(2, 2), Coordinate.of(3, 3).getNeighbour(Direction.SW));
+        assertSame(Coordinate.of(4, 2), Coordinate.of(3, 3).getNeighbour(Direction.NW));
+        assertNull(Coordinate.of(7, 0).getNeighbour(Direction.NE));
+        assertNull(Coordinate.of(7, 0).getNeighbour(Direction.SW));
+    }
+
+    @Test
+    public void testGivenCoordinateWhenGetNextCoordinateOnCoordinateDirectionThenNextOrNull() {
+        assertSame(Coordinate.of(3, 3), Coordinate.of(1, 1).getNextCoordinateOnCoordinateDirection(Coordinate.of(2, 2)));
+        assertSame(Coordinate.of(0, 7), Coordinate.of(3, 4).getNextCoordinateOnCoordinateDirection(Coordinate.of(1, 6)));
+        assertNull(Coordinate.of(3, 4).getNextCoordinateOnCoordinateDirection(Coordinate.of(0, 7)));
+    }
+
+
+    @Test
+    public void testGivenCoordinatesWhenGetBetweenDiagonalCoordinatesTwiceThenSameList() {
+        Coordinate origin = Coordinate.of(7, 0);
+        Coordinate target = Coordinate.of(2, 5);
+        assertSame(origin.getBetweenDiagonalCoordinates(target), origin.getBetweenDiagonalCoordinates(target));
+        assertEquals(Arrays.asList(Coordinate.of(3, 4), Coordinate.of(4, 3), Coordinate.of(5, 2), Coordinate.of(6, 1)),
+            target.getBetweenDiagonalCoordinates(origin));
+    }
+
+}
@@ -374,7 +374,7 @@ public class CorrectMovesDraughtGameTest extends GameTest {
         setGame(Color.BLACK,
             "     N  ",
             "        ",
-            "b  b    ",
+            "   b    ",
             "      b ",
             "        ",
             "        ",
@@ -383,7 +383,7 @@ public class CorrectMovesDraughtGameTest extends GameTest {
         setExpectedGame(Color.WHITE,
             "        ",
             "      N ",
-            "b  b    ",
+            "   b    ",
             "      b ",
             "        ",
             "        ",
@@ -424,7 +424,7 @@ public class CorrectMovesDraughtGameTest extends GameTest {
         setGame(Color.BLACK,
             "     N  ",
             "    b   ",
-            "b       ",
+            "        ",
             "      b ",
             "        ",
             "      N ",
@@ -433,7 +433,7 @@ public class CorrectMovesDraughtGameTest extends GameTest {
         setExpectedGame(Color.WHITE,
             "        ",
             "    b   ",
-            "b      N",
+            "       N",
             "      b ",
             "        ",
             "      N ",
@@ -1,17 +1,17 @@
 package es.urjccode.mastercloudapps.adcs.draughts.models;
 
-import com.sun.org.apache.xerces.internal.util.SynchronizedSymbolTable;
 import org.mockito.Mockito;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 import java.util.regex.Pattern;
 
 import static org.mockito.Mockito.when;
 
 public class GameBuilder {
 
+    private static final long SEED = 2020;
+
     private Color color;
     private List<String> strings;
 
@@ -35,11 +35,11 @@ public class GameBuilder {
 
     public Game build() {
         if (this.strings.size() == 0)
-            return new Game();
+            return new Game(GameBuilder.SEED);
         Board board = new Board();
 //        Random randomNumberMock = Mockito.mock(Random.class);
 //        when(randomNumberMock.nextInt()).thenReturn(0);
-        Game game = new Game(board, new Random(System.currentTimeMillis()));
+        Game game = new Game(board, GameBuilder.SEED);
         assert this.strings.size() == Coordinate.getDimension();
         this.setColor(game, board);
         for (int i = 0; i < this.strings.size(); i++) {
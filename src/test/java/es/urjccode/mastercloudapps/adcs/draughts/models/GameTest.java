@@ -1,5 +1,7 @@
 package es.urjccode.mastercloudapps.adcs.draughts.models;
 
+import static org.junit.Assert.assertEquals;
+
 public class GameTest {
 
     protected Game game;
@@ -7,10 +9,18 @@ public class GameTest {
 
     protected void setGame(Color color, String... strings) {
         this.game = new GameBuilder().color(color).rows(strings).build();
+        GameTest.assertRoundTrip(this.game);
     }
 
     protected void setExpectedGame(Color color, String... strings) {
         this.expectedGame = new GameBuilder().color(color).rows(strings).build();
+        GameTest.assertRoundTrip(this.expectedGame);
+    }
+
+    static void assertRoundTrip(Game game) {
+        assertEquals(game, PositionCodec.decode(PositionCodec.encode(game)));
+        assertEquals(game, PositionCodec.fromBase64(PositionCodec.toBase64(game)));
+        assertEquals(game, PositionCodec.fromFen(PositionCodec.toFen(game)));
     }
 
 }
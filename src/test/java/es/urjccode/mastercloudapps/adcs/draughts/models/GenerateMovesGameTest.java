@@ -0,0 +1,157 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class GenerateMovesGameTest extends GameTest {
+
+    private MoveBuffer moves;
+
+    @Before
+    public void before() {
+        this.moves = new MoveBuffer();
+    }
+
+    private Set<String> generateMoves() {
+        this.game.generateMoves(this.moves);
+        Set<String> strings = new HashSet<String>();
+        for (int i = 0; i < this.moves.size(); i++)
+            strings.add(this.moves.toString(i));
+        assertEquals(this.moves.size(), strings.size());
+        return strings;
+    }
+
+    private void assertMoves(String... expectedMoves) {
+        assertEquals(new HashSet<String>(Arrays.asList(expectedMoves)), this.generateMoves());
+    }
+
+    private void assertSameMovesThanGame(Color color, String... rows) {
+        this.setGame(color, rows);
+        Set<String> generatedMoves = this.generateMoves();
+        for (int i = 0; i < this.moves.size(); i++) {
+            this.setGame(color, rows);
+            assertNull(this.game.move(this.moves.getCoordinates(i)));
+        }
+        for (int origin = 0; origin < Board.SQUARES; origin++)
+            for (int target = 0; target < Board.SQUARES; target++) {
+                this.setGame(color, rows);
+                Coordinate[] coordinates = { Board.getCoordinate(origin), Board.getCoordinate(target) };
+                if (origin != target && this.game.move(coordinates) == null)
+                    assertTrue(generatedMoves.contains(
+                        (coordinates[0].getRow() + 1) + "" + (coordinates[0].getColumn() + 1) + "."
+                        + (coordinates[1].getRow() + 1) + (coordinates[1].getColumn() + 1)));
+            }
+    }
+
+    @Test
+    public void testGivenNewGameWhenGenerateMovesThenWhiteAdvances() {
+        this.game = new Game();
+        this.assertMoves("61.52", "63.52", "63.54", "65.54", "65.56", "67.56", "67.58");
+    }
+
+    @Test
+    public void testGivenGameWhenGenerateMovesWithWhiteEatingThenAllJumpSequences() {
+        this.setGame(Color.WHITE,
+            "        ",
+            "        ",
+            "   n    ",
+            "        ",
+            " n      ",
+            "b       ",
+            "        ",
+            "        ");
+        this.assertMoves("61.43", "61.43.25");
+    }
+
+    @Test
+    public void testGivenGameWhenGenerateMovesWithBlackPromotingThenEatsAsDraught() {
+        this.setGame(Color.BLACK,
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "n       ",
+            " b b    ",
+            "        ");
+        this.assertMoves("61.83", "61.83.65", "61.83.56", "61.83.47", "61.83.38");
+    }
+
+    @Test
+    public void testGivenGameWhenGenerateMovesWithDraughtThenFlyingMoves() {
+        this.setGame(Color.WHITE,
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            " n      ",
+            "B       ");
+        this.assertMoves("81.63", "81.54", "81.45", "81.36", "81.27", "81.18");
+    }
+
+    @Test
+    public void testGivenGameWhenGenerateMovesWithBlockedPiecesThenEmpty() {
+        this.setGame(Color.WHITE,
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "n n n   ",
+            " n n    ",
+            "b b     ");
+        this.assertMoves();
+        assertTrue(this.game.isBlocked());
+    }
+
+    @Test
+    public void testGivenGamesWhenGenerateMovesThenSameMovesThanGame() {
+        this.assertSameMovesThanGame(Color.WHITE,
+            " n n n n",
+            "n n n n ",
+            " n n n n",
+            "        ",
+            "        ",
+            "b b b b ",
+            " b b b b",
+            "b b b b ");
+        this.assertSameMovesThanGame(Color.WHITE,
+            " B      ",
+            "        ",
+            "       n",
+            "  B   b ",
+            " n      ",
+            "        ",
+            " n      ",
+            "  B     ");
+        this.assertSameMovesThanGame(Color.BLACK,
+            "     N  ",
+            "        ",
+            "   b    ",
+            "      b ",
+            "        ",
+            "        ",
+            " n   b  ",
+            "    N   ");
+        this.assertSameMovesThanGame(Color.BLACK,
+            "        ",
+            "        ",
+            " n n    ",
+            "  b b   ",
+            "        ",
+            "  b b   ",
+            "   n    ",
+            "        ");
+    }
+
+}
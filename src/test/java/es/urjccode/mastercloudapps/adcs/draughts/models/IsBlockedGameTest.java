@@ -95,7 +95,7 @@ public class IsBlockedGameTest extends GameTest {
     public void testGivenGameWhenIsBlockedThenFalse(){
         setGame(Color.WHITE,
             "        ",
-            " b      ",
+            "        ",
             "        ",
             "        ",
             " n   n  ",
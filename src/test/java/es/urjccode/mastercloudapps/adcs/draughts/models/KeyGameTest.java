@@ -0,0 +1,123 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class KeyGameTest extends GameTest {
+
+    @Test
+    public void testGivenEqualGamesWhenGetKeyThenEquals() {
+        this.game = new Game();
+        this.setExpectedGame(Color.WHITE,
+            " n n n n",
+            "n n n n ",
+            " n n n n",
+            "        ",
+            "        ",
+            "b b b b ",
+            " b b b b",
+            "b b b b ");
+        assertEquals(this.expectedGame.getKey(), this.game.getKey());
+    }
+
+    @Test
+    public void testGivenGameWhenSetPositionThenEqualGameAndKey() {
+        this.setExpectedGame(Color.BLACK,
+            "        ",
+            "  N     ",
+            " n      ",
+            "        ",
+            "   b    ",
+            "  B     ",
+            "        ",
+            "b       ");
+        this.game = new Game();
+        this.game.setPosition(
+            this.expectedGame.getPawnSquares(Color.WHITE) | this.expectedGame.getDraughtSquares(Color.WHITE),
+            this.expectedGame.getPawnSquares(Color.BLACK) | this.expectedGame.getDraughtSquares(Color.BLACK),
+            this.expectedGame.getDraughtSquares(Color.WHITE) | this.expectedGame.getDraughtSquares(Color.BLACK),
+            Color.BLACK);
+        assertEquals(this.expectedGame, this.game);
+        assertEquals(this.expectedGame.getKey(), this.game.getKey());
+    }
+
+    @Test
+    public void testGivenGamesWithDifferentTurnWhenGetKeyThenNotEquals() {
+        this.setGame(Color.WHITE,
+            "        ",
+            "        ",
+            "   n    ",
+            "        ",
+            "        ",
+            "  B     ",
+            "        ",
+            "        ");
+        this.setExpectedGame(Color.BLACK,
+            "        ",
+            "        ",
+            "   n    ",
+            "        ",
+            "        ",
+            "  B     ",
+            "        ",
+            "        ");
+        assertNotEquals(this.expectedGame.getKey(), this.game.getKey());
+    }
+
+    @Test
+    public void testGivenGameWhenMoveEatingAndPromotingThenSameKeyThanBuiltGame() {
+        this.setGame(Color.WHITE,
+            "        ",
+            "  n     ",
+            "   b    ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ");
+        this.setExpectedGame(Color.BLACK,
+            " B      ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ");
+        assertNull(this.game.move(new Coordinate(2, 3), new Coordinate(0, 1)));
+        assertEquals(this.expectedGame, this.game);
+        assertEquals(this.expectedGame.getKey(), this.game.getKey());
+    }
+
+    @Test
+    public void testGivenGameWhenTranspositionThenSameKey() {
+        this.game = new Game();
+        this.expectedGame = new Game();
+        this.game.move(new Coordinate(5, 0), new Coordinate(4, 1));
+        this.game.move(new Coordinate(2, 1), new Coordinate(3, 0));
+        this.game.move(new Coordinate(5, 2), new Coordinate(4, 3));
+        this.expectedGame.move(new Coordinate(5, 2), new Coordinate(4, 3));
+        this.expectedGame.move(new Coordinate(2, 1), new Coordinate(3, 0));
+        this.expectedGame.move(new Coordinate(5, 0), new Coordinate(4, 1));
+        assertEquals(this.expectedGame, this.game);
+        assertEquals(this.expectedGame.getKey(), this.game.getKey());
+    }
+
+    @Test
+    public void testGivenGameWhenMakeAndUnmakeMoveThenSameKey() {
+        this.game = new Game();
+        long key = this.game.getKey();
+        MoveBuffer moves = new MoveBuffer();
+        this.game.generateMoves(moves);
+        for (int i = 0; i < moves.size(); i++) {
+            this.game.makeMove(moves, i);
+            assertNotEquals(key, this.game.getKey());
+            this.game.unmakeMove();
+            assertEquals(key, this.game.getKey());
+        }
+    }
+
+}
@@ -0,0 +1,147 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class MakeMoveGameTest extends GameTest {
+
+    private void assertMakeAndUnmakeMoves(int depth) {
+        if (depth == 0)
+            return;
+        MoveBuffer moves = new MoveBuffer();
+        this.game.generateMoves(moves);
+        for (int i = 0; i < moves.size(); i++) {
+            String before = this.game.toString();
+            this.game.makeMove(moves, i);
+            this.assertMakeAndUnmakeMoves(depth - 1);
+            this.game.unmakeMove();
+            assertEquals(before, this.game.toString());
+        }
+    }
+
+    private void assertMakeMoveSameThanMove(Color color, String... rows) {
+        this.setGame(color, rows);
+        MoveBuffer moves = new MoveBuffer();
+        this.game.generateMoves(moves);
+        for (int i = 0; i < moves.size(); i++) {
+            this.setGame(color, rows);
+            this.setExpectedGame(color, rows);
+            this.game.makeMove(moves, i);
+            this.expectedGame.move(moves.getCoordinates(i));
+            assertEquals(this.expectedGame, this.game);
+        }
+    }
+
+    @Test
+    public void testGivenPenaltyWhenMoveThenSameThanMakeMoveWithPenalty() {
+        String[] rows = {
+            "        ",
+            "        ",
+            "        ",
+            "  n     ",
+            " b b    ",
+            "        ",
+            "     b  ",
+            "        " };
+        this.setGame(Color.WHITE, rows);
+        MoveBuffer moves = new MoveBuffer();
+        this.game.generateMoves(moves);
+        int penalized = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            this.setGame(Color.WHITE, rows);
+            int penalties = this.game.makeMove(moves, i, 0);
+            for (int penalty = 0; penalty < penalties; penalty++) {
+                this.setGame(Color.WHITE, rows);
+                this.setExpectedGame(Color.WHITE, rows);
+                this.game.makeMove(moves, i, penalty);
+                assertEquals(null, this.expectedGame.move(penalty, moves.getCoordinates(i)));
+                assertEquals(penalty, this.expectedGame.getLastPenalty());
+                assertEquals(this.game, this.expectedGame);
+                penalized++;
+            }
+        }
+        assertEquals(true, penalized > 2);
+    }
+
+    @Test
+    public void testGivenNewGameWhenMakeAndUnmakeMovesThenSameGame() {
+        this.game = new Game();
+        this.assertMakeAndUnmakeMoves(4);
+        assertEquals(new Game(), this.game);
+    }
+
+    @Test
+    public void testGivenGameWhenMakeAndUnmakeMovesThenRestoresDraughtsAndTurn() {
+        this.setGame(Color.BLACK,
+            "        ",
+            "        ",
+            "        ",
+            "  B     ",
+            "        ",
+            "n   b   ",
+            " b b    ",
+            "      N ");
+        this.setExpectedGame(Color.BLACK,
+            "        ",
+            "        ",
+            "        ",
+            "  B     ",
+            "        ",
+            "n   b   ",
+            " b b    ",
+            "      N ");
+        this.assertMakeAndUnmakeMoves(3);
+        assertEquals(this.expectedGame, this.game);
+    }
+
+    @Test
+    public void testGivenGameWhenMakeMoveThenSameThanMove() {
+        this.assertMakeMoveSameThanMove(Color.BLACK,
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "n       ",
+            " b b    ",
+            "        ");
+        this.assertMakeMoveSameThanMove(Color.WHITE,
+            "        ",
+            "        ",
+            "   n    ",
+            "        ",
+            " N      ",
+            "b       ",
+            "        ",
+            "B       ");
+    }
+
+    @Test
+    public void testGivenGameWhenMoveWithErrorAfterEatingDraughtThenRestoresDraught() {
+        this.setGame(Color.WHITE,
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "  N     ",
+            " b      ",
+            "        ");
+        this.setExpectedGame(Color.WHITE,
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "  N     ",
+            " b      ",
+            "        ");
+        assertEquals(Error.TOO_MUCH_JUMPS, this.game.move(
+            new Coordinate(6, 1),
+            new Coordinate(4, 3),
+            new Coordinate(3, 4)));
+        assertEquals(this.expectedGame, this.game);
+    }
+
+}
@@ -0,0 +1,97 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+public class PositionCodecTest extends GameTest {
+
+    private static final String INITIAL_FEN =
+        "W:W21,22,23,24,25,26,27,28,29,30,31,32:B1,2,3,4,5,6,7,8,9,10,11,12";
+
+    private int assertRoundTrips(Game game, MoveBuffer[] moves, int depth) {
+        GameTest.assertRoundTrip(game);
+        assertEquals(game.getKey(), PositionCodec.decode(PositionCodec.encode(game)).getKey());
+        if (depth == 0)
+            return 1;
+        int positions = 1;
+        game.generateMoves(moves[depth - 1]);
+        for (int move = 0; move < moves[depth - 1].size(); move++) {
+            int penalties = 1;
+            for (int penalty = 0; penalty < penalties; penalty++) {
+                penalties = Math.max(1, game.makeMove(moves[depth - 1], move, penalty));
+                positions += this.assertRoundTrips(game, moves, depth - 1);
+                game.unmakeMove();
+            }
+        }
+        return positions;
+    }
+
+    @Test
+    public void testGivenReachablePositionsWhenEncodeAndDecodeThenSameGames() {
+        MoveBuffer[] moves = new MoveBuffer[4];
+        for (int i = 0; i < moves.length; i++)
+            moves[i] = new MoveBuffer();
+        assertEquals(1 + 7 + 49 + 379 + 3099, this.assertRoundTrips(new Game(), moves, moves.length));
+    }
+
+    @Test
+    public void testGivenDraughtsAndBlackTurnWhenEncodeThenRoundTrips() {
+        this.setGame(Color.BLACK,
+            " N      ",
+            "        ",
+            "   n    ",
+            "        ",
+            "     B  ",
+            "        ",
+            " b      ",
+            "        ");
+        assertEquals("B:WK19,25:BK1,10", PositionCodec.toFen(this.game));
+        assertEquals(this.game, PositionCodec.fromFen(PositionCodec.toFen(this.game)));
+    }
+
+    @Test
+    public void testGivenInitialGameWhenToFenThenStandardFen() {
+        assertEquals(PositionCodecTest.INITIAL_FEN, PositionCodec.toFen(new Game()));
+        assertEquals(new Game(), PositionCodec.fromFen(PositionCodecTest.INITIAL_FEN));
+        assertEquals(18, PositionCodec.toBase64(new Game()).length());
+    }
+
+    @Test
+    public void testGivenBufferWhenEncodeThenFixedWidth() {
+        ByteBuffer buffer = ByteBuffer.allocate(2 * PositionCodec.SIZE);
+        PositionCodec.encode(new Game(), buffer);
+        assertEquals(PositionCodec.SIZE, buffer.position());
+        PositionCodec.encode(new Game(), buffer);
+        buffer.flip();
+        Game game = new Game();
+        assertEquals(true, PositionCodec.decode(buffer, game));
+        assertEquals(new Game(), game);
+        assertEquals(PositionCodec.SIZE, buffer.position());
+    }
+
+    @Test
+    public void testGivenInvalidInputsWhenDecodeThenNull() {
+        assertNull(PositionCodec.decode(new byte[PositionCodec.SIZE - 1]));
+        byte[] overlapping = PositionCodec.encode(new Game());
+        overlapping[3] |= 1;
+        overlapping[7] |= 1;
+        assertNull(PositionCodec.decode(overlapping));
+        byte[] turn = PositionCodec.encode(new Game());
+        turn[PositionCodec.SIZE - 1] = 2;
+        assertNull(PositionCodec.decode(turn));
+        assertFalse(PositionCodec.decode(ByteBuffer.wrap(turn), new Game()));
+        assertNull(PositionCodec.fromBase64("not base64!"));
+        assertNull(PositionCodec.fromFen("W:W33:B1"));
+        assertNull(PositionCodec.fromFen("W:W1:B1"));
+        assertNull(PositionCodec.fromFen("W:W1:W2"));
+        assertNull(PositionCodec.fromFen("X:W1:B2"));
+        assertNull(PositionCodec.fromFen("W:W1,x:B2"));
+        assertNull(PositionCodec.fromFen("W:W1"));
+    }
+
+}
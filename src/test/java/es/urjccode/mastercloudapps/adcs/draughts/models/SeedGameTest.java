@@ -0,0 +1,106 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+public class SeedGameTest extends GameTest {
+
+    private static final int PLIES = 80;
+
+    private List<Integer> play(Game game) {
+        List<Integer> penalties = new ArrayList<Integer>();
+        MoveBuffer moves = new MoveBuffer();
+        for (int i = 0; i < SeedGameTest.PLIES && !game.isBlocked(); i++) {
+            game.generateMoves(moves);
+            assertNull(game.move(moves.getCoordinates(i * 7 % moves.size())));
+            penalties.add(game.getLastPenalty());
+        }
+        return penalties;
+    }
+
+    @Test
+    public void testGivenSameSeedWhenPlayThenSamePenalties() {
+        this.game = new Game(24);
+        this.expectedGame = new Game(24);
+        List<Integer> penalties = this.play(this.game);
+        assertEquals(penalties, this.play(this.expectedGame));
+        assertEquals(this.expectedGame, this.game);
+        assertTrue(penalties.stream().anyMatch(penalty -> penalty > 0));
+    }
+
+    @Test
+    public void testGivenRecordedSeedWhenSetSeedThenReplaysGame() {
+        this.game = new Game();
+        long seed = this.game.getSeed();
+        List<Integer> penalties = this.play(this.game);
+        this.expectedGame = new Game();
+        this.expectedGame.setSeed(seed);
+        assertEquals(seed, this.expectedGame.getSeed());
+        assertEquals(penalties, this.play(this.expectedGame));
+        assertEquals(this.expectedGame, this.game);
+    }
+
+    @Test
+    public void testGivenExternalRandomWhenMakeMoveThenGameRandomUntouched() {
+        this.game = new Game(24);
+        this.expectedGame = new Game(24);
+        SplittableRandom random = new SplittableRandom(1);
+        MoveBuffer moves = new MoveBuffer();
+        this.game.generateMoves(moves);
+        for (int i = 0; i < moves.size(); i++) {
+            this.game.makeMove(moves, i, random);
+            this.game.unmakeMove();
+        }
+        assertEquals(this.play(this.expectedGame), this.play(this.game));
+    }
+
+    @Test
+    public void testGivenGameWhenCopyThenSameSeed() {
+        this.game = new Game(24);
+        assertEquals(24, new Game(this.game).getSeed());
+    }
+
+    private List<Integer> draw(Game game, MoveBuffer moves, int move, int times) {
+        List<Integer> penalties = new ArrayList<Integer>();
+        for (int i = 0; i < times; i++) {
+            game.makeMove(moves, move);
+            penalties.add(game.getLastPenalty());
+            game.unmakeMove();
+        }
+        return penalties;
+    }
+
+    @Test
+    public void testGivenDrawnPenaltiesWhenCopyThenContinuesPenaltyStream() {
+        this.game = new GameBuilder().rows(
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            " n n n  ",
+            "  b   b ",
+            "        ",
+            "b       ").build();
+        this.game.setSeed(24);
+        MoveBuffer moves = new MoveBuffer();
+        this.game.generateMoves(moves);
+        int move = 0;
+        while (this.game.makeMove(moves, move, 0) < 2) {
+            this.game.unmakeMove();
+            move++;
+        }
+        this.game.unmakeMove();
+        List<Integer> penalties = this.draw(this.game, moves, move, 8);
+        assertTrue(penalties.contains(0) && penalties.contains(1));
+        Game copy = new Game(this.game);
+        assertEquals(this.draw(this.game, moves, move, 16), this.draw(copy, moves, move, 16));
+    }
+
+}
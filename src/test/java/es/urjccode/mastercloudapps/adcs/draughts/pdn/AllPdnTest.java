@@ -0,0 +1,13 @@
+package es.urjccode.mastercloudapps.adcs.draughts.pdn;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+@RunWith(Suite.class)
+@Suite.SuiteClasses({
+    PdnReaderTest.class,
+    PdnValidatorTest.class,
+    PdnWriterTest.class,
+    PdnArchiveTest.class } )
+public final class AllPdnTest {
+}
@@ -0,0 +1,69 @@
+package es.urjccode.mastercloudapps.adcs.draughts.pdn;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+
+public class PdnArchiveTest {
+
+    private static final int GAMES = 200;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private PdnArchive getArchive() throws IOException {
+        Path path = this.temporaryFolder.newFile("games.pdn").toPath();
+        Random random = new Random(1);
+        try (PdnWriter writer = new PdnWriter(Files.newBufferedWriter(path, StandardCharsets.ISO_8859_1))) {
+            for (int i = 0; i < PdnArchiveTest.GAMES; i++) {
+                PdnGame game = PdnWriterTest.getRandomGame(random, new Game(), 1 + random.nextInt(80));
+                game.setTag("Round", "" + i);
+                if (i % 50 == 7)
+                    game.add(PdnMove.parse("1-32"));
+                writer.write(game);
+            }
+        }
+        return new PdnArchive(path);
+    }
+
+    @Test
+    public void testGivenArchiveWhenValidateInParallelThenSameAuditAsSequential() throws IOException {
+        PdnArchive archive = this.getArchive();
+        PdnAudit sequential = archive.validate();
+        assertEquals(PdnArchiveTest.GAMES, sequential.getGames());
+        assertEquals(4, sequential.getInvalidGames());
+        for (int threads = 2; threads <= 8; threads *= 2) {
+            PdnAudit parallel = archive.validate(threads);
+            assertEquals(sequential.getGames(), parallel.getGames());
+            assertEquals(sequential.getMoves(), parallel.getMoves());
+            assertEquals(sequential.getInvalidGames(), parallel.getInvalidGames());
+            assertEquals(sequential.getErrors(), parallel.getErrors());
+        }
+    }
+
+    @Test
+    public void testGivenArchiveWhenBoundariesThenGameStarts() throws IOException {
+        PdnArchive archive = this.getArchive();
+        long[] boundaries = archive.getBoundaries(8);
+        assertEquals(9, boundaries.length);
+        byte[] bytes = Files.readAllBytes(this.temporaryFolder.getRoot().toPath().resolve("games.pdn"));
+        assertEquals(bytes.length, boundaries[boundaries.length - 1]);
+        for (int i = 1; i < boundaries.length - 1; i++) {
+            assertEquals('[', bytes[(int) boundaries[i]]);
+            assertEquals('\n', bytes[(int) boundaries[i] - 1]);
+            assertEquals('\n', bytes[(int) boundaries[i] - 2]);
+        }
+    }
+
+}
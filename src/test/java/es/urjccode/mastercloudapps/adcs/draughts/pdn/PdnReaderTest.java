@@ -0,0 +1,79 @@
+package es.urjccode.mastercloudapps.adcs.draughts.pdn;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.Test;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+
+public class PdnReaderTest {
+
+    private static final String GAMES =
+        "[Event \"Club \\\"open\\\"\"]\n"
+        + "[Result \"1-0\"]\n"
+        + "\n"
+        + "1. 22-18 {opening} 11-15 2. 18x11 (2. 24-19 8-11) 8x15 ; line comment\n"
+        + "3.21-17 1-0\n"
+        + "\n"
+        + "[Event \"Second\"]\n"
+        + "\n"
+        + "1. 22-18 ?? *\n";
+
+    @Test
+    public void testGivenTwoGamesWhenNextThenTagsMovesAndResults() throws IOException {
+        PdnReader reader = new PdnReader(new StringReader(PdnReaderTest.GAMES));
+        PdnGame game = reader.next();
+        assertEquals(0, reader.getGameOffset());
+        assertEquals("Club \"open\"", game.getTag("Event"));
+        assertEquals("1-0", game.getTag(PdnGame.RESULT));
+        assertEquals("1-0", game.getResult());
+        assertEquals(5, game.getMoves().size());
+        assertEquals("22-18", game.getMoves().get(0).toString());
+        assertEquals("18x11", game.getMoves().get(2).toString());
+        assertEquals("21-17", game.getMoves().get(4).toString());
+        assertNull(game.getBadToken());
+        game = reader.next();
+        assertEquals(PdnReaderTest.GAMES.indexOf("[Event \"Second"), reader.getGameOffset());
+        assertEquals(1, game.getMoves().size());
+        assertEquals("??", game.getBadToken());
+        assertEquals(PdnGame.UNKNOWN_RESULT, game.getResult());
+        assertNull(reader.next());
+    }
+
+    @Test
+    public void testGivenPdnNumbersWhenParseThenCoordinates() {
+        PdnMove move = PdnMove.parse("22-18!");
+        assertEquals(new Coordinate(5, 2), move.getCoordinates()[0]);
+        assertEquals(new Coordinate(4, 3), move.getCoordinates()[1]);
+        assertEquals(Game.RANDOM_PENALTY, move.getPenalty());
+        assertEquals(3, PdnMove.parse("25x18x9").getCoordinates().length);
+        assertNull(PdnMove.parse("22"));
+        assertNull(PdnMove.parse("22--18"));
+        assertNull(PdnMove.parse("33-29"));
+        assertNull(PdnMove.parse("a3-b4"));
+    }
+
+    @Test
+    public void testGivenPenaltyCommentWhenNextThenPenaltyOfLastMove() throws IOException {
+        PdnGame game = new PdnReader(new StringReader("1. 22-18 {penalty 1} 11-15 {penalty x} *")).next();
+        assertEquals(1, game.getMoves().get(0).getPenalty());
+        assertEquals(Game.RANDOM_PENALTY, game.getMoves().get(1).getPenalty());
+        assertEquals("penalty x", game.getBadToken());
+    }
+
+    @Test
+    public void testGivenMovetextWithoutResultWhenNextTagThenNewGame() throws IOException {
+        PdnReader reader = new PdnReader(new StringReader("1. 22-18\n[Event \"Next\"]\n1. 23-19 *"));
+        assertEquals(1, reader.next().getMoves().size());
+        PdnGame game = reader.next();
+        assertEquals("Next", game.getTag("Event"));
+        assertEquals("23-19", game.getMoves().get(0).toString());
+        assertNull(reader.next());
+    }
+
+}
@@ -0,0 +1,82 @@
+package es.urjccode.mastercloudapps.adcs.draughts.pdn;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.Test;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Error;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+
+public class PdnValidatorTest {
+
+    private PdnValidator validator = new PdnValidator();
+
+    private boolean validate(String pdn) throws IOException {
+        return this.validator.validate(new PdnReader(new StringReader(pdn)).next());
+    }
+
+    @Test
+    public void testGivenLegalOpeningWhenValidateThenSameAsGameMoves() throws IOException {
+        assertTrue(this.validate("1. 22-18 12-16 2. 24-20 16-19 3. 23x16 *"));
+        Game game = new Game();
+        game.move(new Coordinate(5, 2), new Coordinate(4, 3));
+        game.move(new Coordinate(2, 7), new Coordinate(3, 6));
+        game.move(new Coordinate(5, 6), new Coordinate(4, 7));
+        game.move(new Coordinate(3, 6), new Coordinate(4, 5));
+        game.move(new Coordinate(5, 4), new Coordinate(3, 6));
+        assertEquals(game, this.validator.getGame());
+        assertNull(this.validator.getError());
+    }
+
+    @Test
+    public void testGivenIllegalMoveWhenValidateThenErrorAndIndex() throws IOException {
+        assertFalse(this.validate("1. 22-18 12-16 2. 21-18 *"));
+        assertEquals(Error.NOT_EMPTY_TARGET, this.validator.getError());
+        assertEquals(2, this.validator.getErrorMove());
+    }
+
+    @Test
+    public void testGivenShortCaptureNotationWhenValidateThenJumpsExpanded() throws IOException {
+        assertTrue(this.validate("[FEN \"W:W25:B1,14,22\"]\n\n1. 25x9 *"));
+        assertNull(this.validator.getGame().getPiece(new Coordinate(5, 2)));
+        assertNull(this.validator.getGame().getPiece(new Coordinate(3, 2)));
+        assertEquals(Color.WHITE, this.validator.getGame().getColor(new Coordinate(2, 1)));
+    }
+
+    @Test
+    public void testGivenBadFenOrTokenWhenValidateThenError() throws IOException {
+        assertFalse(this.validate("[FEN \"W:W33:B1\"]\n\n*"));
+        assertEquals(PdnValidator.PdnError.BAD_FEN, this.validator.getError());
+        assertFalse(this.validate("1. 22-18 11-15 e4 *"));
+        assertEquals(PdnValidator.PdnError.BAD_TOKEN, this.validator.getError());
+    }
+
+    @Test
+    public void testGivenPenaltyOutOfRangeWhenValidateThenBadPenalty() throws IOException {
+        assertFalse(this.validate("1. 22-18 {penalty 3} *"));
+        assertEquals(PdnValidator.PdnError.BAD_PENALTY, this.validator.getError());
+        assertEquals(0, this.validator.getErrorMove());
+    }
+
+    @Test
+    public void testGivenSeedTagWithoutPenaltiesWhenValidateThenSamePenaltiesAsSeededGame() throws IOException {
+        for (long seed = 0; seed < 8; seed++) {
+            assertTrue(this.validate("[Seed \"" + seed + "\"]\n\n1. 22-18 11-15 2. 18-14 *"));
+            Game game = new Game(seed);
+            game.move(new Coordinate(5, 2), new Coordinate(4, 3));
+            game.move(new Coordinate(2, 5), new Coordinate(3, 4));
+            game.move(new Coordinate(4, 3), new Coordinate(3, 2));
+            assertEquals(game, this.validator.getGame());
+            assertEquals(seed, this.validator.getGame().getSeed());
+        }
+    }
+
+}
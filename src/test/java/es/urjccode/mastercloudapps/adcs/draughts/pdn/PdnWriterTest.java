@@ -0,0 +1,80 @@
+package es.urjccode.mastercloudapps.adcs.draughts.pdn;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Random;
+
+import org.junit.Test;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+import es.urjccode.mastercloudapps.adcs.draughts.models.PositionCodec;
+
+public class PdnWriterTest {
+
+    static PdnGame getRandomGame(Random random, Game game, int plies) {
+        PdnGame pdnGame = new PdnGame();
+        pdnGame.setTag(PdnGame.FEN, PositionCodec.toFen(game));
+        MoveBuffer moves = new MoveBuffer();
+        for (int i = 0; i < plies && !game.isBlocked(); i++) {
+            game.generateMoves(moves);
+            int move = random.nextInt(moves.size());
+            game.move(moves.getCoordinates(move));
+            pdnGame.add(new PdnMove(moves.getCoordinates(move), moves.isCapture(move), game.getLastPenalty()));
+        }
+        return pdnGame;
+    }
+
+    private String write(PdnGame... games) throws IOException {
+        StringWriter string = new StringWriter();
+        PdnWriter writer = new PdnWriter(string);
+        for (PdnGame game : games)
+            writer.write(game);
+        writer.flush();
+        return string.toString();
+    }
+
+    @Test
+    public void testGivenGameWhenWriteThenTagsAndNumberedMovetext() throws IOException {
+        PdnGame game = new PdnGame();
+        game.setTag("Event", "A \"quoted\" name");
+        game.add(PdnMove.parse("22-18"));
+        game.add(PdnMove.parse("12-16"));
+        game.add(PdnMove.parse("24-20"));
+        game.setResult("1-0");
+        assertEquals("[Event \"A \\\"quoted\\\" name\"]\n\n1. 22-18 12-16 2. 24-20 1-0\n\n", this.write(game));
+    }
+
+    @Test
+    public void testGivenBlackToMoveWhenWriteThenEllipsis() throws IOException {
+        PdnGame game = new PdnGame();
+        game.setTag(PdnGame.FEN, "B:W18:B14");
+        game.add(PdnMove.parse("14-17"));
+        game.add(PdnMove.parse("18-15"));
+        assertEquals("[FEN \"B:W18:B14\"]\n\n1... 14-17 2. 18-15 *\n\n", this.write(game));
+    }
+
+    @Test
+    public void testGivenRandomGamesWhenWriteAndReadThenSameGames() throws IOException {
+        Random random = new Random(18);
+        PdnGame[] games = new PdnGame[20];
+        Game[] finals = new Game[games.length];
+        for (int i = 0; i < games.length; i++) {
+            finals[i] = new Game();
+            games[i] = PdnWriterTest.getRandomGame(random, finals[i], 60);
+        }
+        PdnReader reader = new PdnReader(new StringReader(this.write(games)));
+        PdnValidator validator = new PdnValidator();
+        for (int i = 0; i < games.length; i++) {
+            PdnGame game = reader.next();
+            assertEquals(games[i].getMoves().toString(), game.getMoves().toString());
+            assertTrue(validator.validate(game));
+            assertEquals(finals[i], validator.getGame());
+        }
+    }
+
+}
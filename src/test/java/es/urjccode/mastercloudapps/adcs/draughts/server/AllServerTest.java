@@ -0,0 +1,16 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+@RunWith(Suite.class)
+@Suite.SuiteClasses({
+    SessionRegistryTest.class,
+    ProtocolTest.class,
+    GameServerTest.class,
+    JournalTest.class,
+    LineParserTest.class,
+    NioServerTest.class,
+    ConsoleServerTest.class } )
+public final class AllServerTest {
+}
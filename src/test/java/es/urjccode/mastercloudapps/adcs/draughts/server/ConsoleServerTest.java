@@ -0,0 +1,71 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+public class ConsoleServerTest {
+
+    @Test
+    public void testGivenConsoleServerWhenClientMovesThenBoardIsWrittenToSocket()
+            throws IOException, InterruptedException {
+        ConsoleServer consoleServer = new ConsoleServer(0, true);
+        consoleServer.start();
+        try (Socket socket = new Socket("localhost", consoleServer.getPort())) {
+            BufferedReader reader = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            PrintWriter writer = new PrintWriter(socket.getOutputStream(), true);
+            assertEquals("Draughts", reader.readLine());
+            for (int i = 0; i < 10; i++)
+                reader.readLine();
+            writer.println("61.52");
+            assertEquals("Mueven las blancas:  12345678", reader.readLine());
+            for (int i = 0; i < 4; i++)
+                reader.readLine();
+            assertEquals("5 b      5", reader.readLine());
+            assertEquals("6  b b b 6", reader.readLine());
+            assertEquals(1, consoleServer.getSessions());
+        } finally {
+            consoleServer.stop();
+        }
+        for (int i = 0; i < 100 && consoleServer.getSessions() > 0; i++)
+            Thread.sleep(10);
+        assertEquals(0, consoleServer.getSessions());
+    }
+
+    private void assertSessionThreads(boolean virtual) throws IOException, InterruptedException {
+        ConsoleServer consoleServer = new ConsoleServer(0, virtual);
+        assertEquals(virtual, consoleServer.isVirtual());
+        consoleServer.start();
+        try (Socket socket = new Socket("localhost", consoleServer.getPort())) {
+            BufferedReader reader = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            assertEquals("Draughts", reader.readLine());
+            assertEquals(1, consoleServer.getSessions());
+            for (Thread thread : consoleServer.getSessionThreads())
+                assertEquals(virtual, thread.isVirtual());
+        } finally {
+            consoleServer.stop();
+        }
+    }
+
+    @Test
+    public void testGivenVirtualConsoleServerWhenClientConnectsThenSessionRunsOnVirtualThread()
+            throws IOException, InterruptedException {
+        this.assertSessionThreads(true);
+    }
+
+    @Test
+    public void testGivenPlatformConsoleServerWhenClientConnectsThenSessionRunsOnPlatformThread()
+            throws IOException, InterruptedException {
+        this.assertSessionThreads(false);
+    }
+
+}
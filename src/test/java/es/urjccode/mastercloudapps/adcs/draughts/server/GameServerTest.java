@@ -0,0 +1,39 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.Socket;
+
+import org.junit.Test;
+
+public class GameServerTest {
+
+    @Test
+    public void testGivenServerWhenClientsPlayThenIndependentSessions() throws IOException {
+        GameServer gameServer = new GameServer(0, 4, new SessionRegistry(100, 60000));
+        gameServer.start();
+        try (Socket first = new Socket("localhost", gameServer.getPort());
+                Socket second = new Socket("localhost", gameServer.getPort())) {
+            BufferedReader firstReader = new BufferedReader(new InputStreamReader(first.getInputStream()));
+            PrintWriter firstWriter = new PrintWriter(first.getOutputStream(), true);
+            BufferedReader secondReader = new BufferedReader(new InputStreamReader(second.getInputStream()));
+            PrintWriter secondWriter = new PrintWriter(second.getOutputStream(), true);
+            firstWriter.println("NEW");
+            assertTrue(firstReader.readLine().startsWith("OK 1 IN_GAME WHITE"));
+            secondWriter.println("NEW");
+            assertTrue(secondReader.readLine().startsWith("OK 2 IN_GAME WHITE"));
+            secondWriter.println("1 MOVE 61.52");
+            assertTrue(secondReader.readLine().startsWith("OK 1 IN_GAME BLACK"));
+            firstWriter.println("2 CLOSE");
+            assertEquals("OK 2 CLOSE", firstReader.readLine());
+        } finally {
+            gameServer.stop();
+        }
+    }
+
+}
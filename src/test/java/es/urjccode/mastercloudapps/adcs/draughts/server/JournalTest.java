@@ -0,0 +1,244 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+
+public class JournalTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private List<String> replay(Journal journal) throws IOException {
+        List<String> records = new ArrayList<String>();
+        journal.replay((id, version, command, penalty, coordinates) -> {
+            String record = id + " " + version + " " + command + " " + penalty;
+            if (coordinates != null)
+                for (Coordinate coordinate : coordinates)
+                    record += " " + coordinate;
+            records.add(record);
+        });
+        return records;
+    }
+
+    @Test
+    public void testGivenAppendedRecordsWhenReopenThenReplayed() throws IOException {
+        Path path = this.temporaryFolder.newFolder().toPath();
+        try (Journal journal = new Journal(path)) {
+            journal.append(1, 1, Command.NEW, Game.RANDOM_PENALTY, null);
+            journal.append(1, 2, Command.MOVE, 1, new Coordinate[] { new Coordinate(5, 0), new Coordinate(4, 1) });
+            journal.await(journal.append(1, 3, Command.CANCEL, Game.RANDOM_PENALTY, null));
+        }
+        try (Journal journal = new Journal(path)) {
+            List<String> records = this.replay(journal);
+            assertEquals(3, records.size());
+            assertEquals("1 1 NEW -1", records.get(0));
+            assertEquals("1 2 MOVE 1 " + new Coordinate(5, 0) + " " + new Coordinate(4, 1), records.get(1));
+            assertEquals("1 3 CANCEL -1", records.get(2));
+        }
+    }
+
+    @Test
+    public void testGivenTornTailWhenReopenThenOverwritten() throws IOException {
+        Path path = this.temporaryFolder.newFolder().toPath();
+        try (Journal journal = new Journal(path)) {
+            journal.append(1, 1, Command.NEW, Game.RANDOM_PENALTY, null);
+            journal.append(2, 1, Command.NEW, Game.RANDOM_PENALTY, null);
+        }
+        try (FileChannel fileChannel = FileChannel.open(Segment.getPath(path, 0), StandardOpenOption.WRITE)) {
+            fileChannel.write(ByteBuffer.wrap(new byte[] { 0, 0, 0, 0, 0, 0, 0, 3, 0, 0, 0, 1, 0, 0, 3, 7 }),
+                2 * (Journal.HEADER_SIZE + Journal.CHECKSUM_SIZE));
+        }
+        try (Journal journal = new Journal(path)) {
+            assertEquals(2, this.replay(journal).size());
+            journal.append(3, 1, Command.NEW, Game.RANDOM_PENALTY, null);
+        }
+        try (Journal journal = new Journal(path)) {
+            assertEquals(3, this.replay(journal).size());
+        }
+    }
+
+    @Test
+    public void testGivenFullSegmentsWhenAppendThenRolledAndReplayedInOrder() throws IOException {
+        Path path = this.temporaryFolder.newFolder().toPath();
+        try (Journal journal = new Journal(path, 4 * Journal.MAXIMUM_RECORD_SIZE)) {
+            for (int i = 1; i <= 20; i++)
+                journal.append(1, i, Command.CANCEL, Game.RANDOM_PENALTY, null);
+            assertTrue(journal.getSegmentIndex() > 1);
+        }
+        try (Journal journal = new Journal(path, 4 * Journal.MAXIMUM_RECORD_SIZE)) {
+            List<String> records = this.replay(journal);
+            assertEquals(20, records.size());
+            for (int i = 1; i <= 20; i++)
+                assertEquals("1 " + i + " CANCEL -1", records.get(i - 1));
+        }
+    }
+
+    @Test
+    public void testGivenConcurrentWritersWhenAwaitThenCommitsAreGrouped() throws Exception {
+        Path path = this.temporaryFolder.newFolder().toPath();
+        int writers = 8;
+        int appends = 50;
+        try (Journal journal = new Journal(path)) {
+            List<Thread> threads = new ArrayList<Thread>();
+            for (int i = 0; i < writers; i++) {
+                long id = i + 1;
+                threads.add(new Thread(() -> {
+                    for (int j = 0; j < appends; j++)
+                        journal.await(journal.append(id, j, Command.CANCEL, Game.RANDOM_PENALTY, null));
+                }));
+            }
+            for (Thread thread : threads)
+                thread.start();
+            for (Thread thread : threads)
+                thread.join();
+            assertTrue(journal.getCommits() <= writers * appends);
+        }
+        try (Journal journal = new Journal(path)) {
+            assertEquals(writers * appends, this.replay(journal).size());
+        }
+    }
+
+    @Test
+    public void testGivenJournaledSessionsWhenRecoverThenSameGames() throws IOException {
+        Path path = this.temporaryFolder.newFolder().toPath();
+        String[] replies;
+        try (Journal journal = new Journal(path)) {
+            Protocol protocol = new Protocol(new SessionRegistry(10, 60000, journal));
+            protocol.execute("NEW");
+            protocol.execute("NEW");
+            protocol.execute("NEW");
+            protocol.execute("1 MOVE 61.52");
+            protocol.execute("1 MOVE 34.43");
+            protocol.execute("2 MOVE 63.54");
+            protocol.execute("2 CANCEL");
+            protocol.execute("1 MOVE 63.54");
+            protocol.execute("3 CLOSE");
+            replies = new String[] { protocol.execute("1 BOARD"), protocol.execute("2 BOARD") };
+        }
+        assertEquals('.', replies[0].charAt(replies[0].length() - 64 + 4 * 8 + 1));
+        try (Journal journal = new Journal(path)) {
+            SessionRegistry sessionRegistry = new SessionRegistry(10, 60000, journal);
+            assertEquals(2, sessionRegistry.recover(3));
+            assertNull(sessionRegistry.get(3));
+            Protocol protocol = new Protocol(sessionRegistry);
+            assertArrayEquals(replies, new String[] { protocol.execute("1 BOARD"), protocol.execute("2 BOARD") });
+            assertTrue(protocol.execute("NEW").startsWith("OK 4 "));
+        }
+    }
+
+    @Test
+    public void testGivenSnapshotWhenRecoverThenSnapshotAndTailReplayed() throws IOException {
+        Path path = this.temporaryFolder.newFolder().toPath();
+        String[] replies;
+        try (Journal journal = new Journal(path)) {
+            SessionRegistry sessionRegistry = new SessionRegistry(10, 60000, journal);
+            Protocol protocol = new Protocol(sessionRegistry);
+            protocol.execute("NEW");
+            protocol.execute("NEW");
+            protocol.execute("1 MOVE 61.52");
+            protocol.execute("1 MOVE 34.43");
+            sessionRegistry.snapshot();
+            protocol.execute("1 MOVE 63.54");
+            protocol.execute("2 CANCEL");
+            protocol.execute("NEW");
+            protocol.execute("2 CLOSE");
+            replies = new String[] { protocol.execute("1 BOARD"), protocol.execute("3 BOARD") };
+        }
+        assertTrue(Files.exists(Segment.getSnapshotPath(path, 1)));
+        assertTrue(Files.notExists(Segment.getPath(path, 0)));
+        try (Journal journal = new Journal(path)) {
+            assertEquals(1, journal.getSnapshotIndex());
+            SessionRegistry sessionRegistry = new SessionRegistry(10, 60000, journal);
+            assertEquals(2, sessionRegistry.recover(2));
+            assertNull(sessionRegistry.get(2));
+            Protocol protocol = new Protocol(sessionRegistry);
+            assertArrayEquals(replies, new String[] { protocol.execute("1 BOARD"), protocol.execute("3 BOARD") });
+            assertTrue(protocol.execute("NEW").startsWith("OK 4 "));
+        }
+    }
+
+    @Test
+    public void testGivenFullSegmentWhenRolledThenBackgroundSnapshotCompacts() throws Exception {
+        Path path = this.temporaryFolder.newFolder().toPath();
+        String reply;
+        try (Journal journal = new Journal(path, 8 * Journal.MAXIMUM_RECORD_SIZE)) {
+            Protocol protocol = new Protocol(new SessionRegistry(10, 60000, journal));
+            protocol.execute("NEW");
+            for (int i = 0; i < 10; i++) {
+                protocol.execute("1 CANCEL");
+                protocol.execute("1 RESET");
+            }
+            protocol.execute("1 MOVE 61.52");
+            assertTrue(journal.getSegmentIndex() > 0);
+            long deadline = System.currentTimeMillis() + 10000;
+            while (Files.exists(Segment.getPath(path, 0)) && System.currentTimeMillis() < deadline)
+                Thread.sleep(10);
+            reply = protocol.execute("1 BOARD");
+        }
+        assertTrue(Files.notExists(Segment.getPath(path, 0)));
+        try (Journal journal = new Journal(path, 8 * Journal.MAXIMUM_RECORD_SIZE)) {
+            assertTrue(journal.getSnapshotIndex() > 0);
+            SessionRegistry sessionRegistry = new SessionRegistry(10, 60000, journal);
+            assertEquals(1, sessionRegistry.recover(1));
+            assertEquals(reply, new Protocol(sessionRegistry).execute("1 BOARD"));
+        }
+    }
+
+    private List<String> recover(Path path, int games, int threads) throws IOException {
+        List<String> boards = new ArrayList<String>();
+        try (Journal journal = new Journal(path)) {
+            SessionRegistry sessionRegistry = new SessionRegistry(games, 60000, journal);
+            assertEquals(games, sessionRegistry.recover(threads));
+            Protocol protocol = new Protocol(sessionRegistry);
+            for (int id = 1; id <= games; id++)
+                boards.add(protocol.execute(id + " BOARD"));
+        }
+        return boards;
+    }
+
+    @Test
+    public void testGivenManySessionsWhenRecoverWithThreadsThenSameAsSingleThread() throws IOException {
+        Path path = this.temporaryFolder.newFolder().toPath();
+        int games = 300;
+        assertTrue(new RecoveryReport(games, 30).write(path) > games * 10);
+        List<String> expected = this.recover(path, games, 1);
+        assertEquals(expected, this.recover(path, games, 4));
+        assertEquals(expected, this.recover(path, games, 3));
+    }
+
+    @Test
+    public void testGivenPendingAppendWhenOnDurableThenCallbackAfterFlush() throws Exception {
+        Path path = this.temporaryFolder.newFolder().toPath();
+        try (Journal journal = new Journal(path)) {
+            CountDownLatch latch = new CountDownLatch(2);
+            long sequence = journal.append(1, 1, Command.NEW, Game.RANDOM_PENALTY, null);
+            journal.onDurable(sequence, () -> {
+                assertTrue(journal.isDurable(sequence));
+                latch.countDown();
+            });
+            journal.onDurable(0, latch::countDown);
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+
+public class LineParserTest {
+
+    private LineParser lineParser = new LineParser();
+
+    private boolean parse(String line) {
+        ByteBuffer buffer = ByteBuffer.wrap(("xx" + line + "\n").getBytes(StandardCharsets.US_ASCII));
+        return this.lineParser.parse(buffer, 2, buffer.limit() - 1);
+    }
+
+    @Test
+    public void testGivenNewLineWhenParseThenNewCommand() {
+        assertTrue(this.parse(" new\r"));
+        assertEquals(Command.NEW, this.lineParser.getCommand());
+    }
+
+    @Test
+    public void testGivenMoveLineWhenParseThenIdAndCoordinates() {
+        assertTrue(this.parse("42 MOVE 61.52"));
+        assertEquals(Command.MOVE, this.lineParser.getCommand());
+        assertEquals(42, this.lineParser.getId());
+        assertArrayEquals(new Coordinate[] { new Coordinate(5, 0), new Coordinate(4, 1) },
+            this.lineParser.getCoordinates());
+        assertTrue(this.parse("7  move  63.41.23"));
+        assertEquals(3, this.lineParser.getCoordinates().length);
+        assertEquals(new Coordinate(1, 2), this.lineParser.getCoordinates()[2]);
+    }
+
+    @Test
+    public void testGivenBadMovementWhenParseThenNoCoordinates() {
+        for (String line : new String[] { "1 MOVE", "1 MOVE 6152", "1 MOVE 61.5", "1 MOVE 61-52", "1 MOVE 61.92",
+                "1 MOVE 61.52.43.34" }) {
+            assertTrue(this.parse(line));
+            assertNull(this.lineParser.getCoordinates());
+        }
+    }
+
+    @Test
+    public void testGivenBadLinesWhenParseThenErrors() {
+        assertFalse(this.parse(""));
+        assertEquals(ProtocolError.UNKNOWN_COMMAND, this.lineParser.getError());
+        assertFalse(this.parse("1 JUMP"));
+        assertEquals(ProtocolError.UNKNOWN_COMMAND, this.lineParser.getError());
+        assertFalse(this.parse("1 NEW"));
+        assertEquals(ProtocolError.UNKNOWN_COMMAND, this.lineParser.getError());
+        assertFalse(this.parse("1 MOVE 61.52 43"));
+        assertEquals(ProtocolError.UNKNOWN_COMMAND, this.lineParser.getError());
+        assertFalse(this.parse("x1 BOARD"));
+        assertEquals(ProtocolError.UNKNOWN_SESSION, this.lineParser.getError());
+        assertFalse(this.parse("1234567890123456789 BOARD"));
+        assertEquals(ProtocolError.UNKNOWN_SESSION, this.lineParser.getError());
+    }
+
+}
@@ -0,0 +1,109 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.Socket;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class NioServerTest {
+
+    private static final String INITIAL_BOARD =
+        ".n.n.n.nn.n.n.n..n.n.n.n................b.b.b.b..b.b.b.bb.b.b.b.";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private NioServer nioServer;
+
+    @Before
+    public void before() throws IOException {
+        this.nioServer = new NioServer(0, 2, new SessionRegistry(100, 60000));
+        this.nioServer.start();
+    }
+
+    @After
+    public void after() throws IOException {
+        this.nioServer.stop();
+    }
+
+    @Test
+    public void testGivenNioServerWhenMoveThenBoardDifferences() throws IOException {
+        try (Socket socket = new Socket("localhost", this.nioServer.getPort())) {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream()));
+            PrintWriter writer = new PrintWriter(socket.getOutputStream(), true);
+            writer.println("NEW");
+            assertEquals("OK 1 IN_GAME WHITE " + NioServerTest.INITIAL_BOARD, reader.readLine());
+            writer.println("1 MOVE 61.52");
+            assertEquals("OK 1 IN_GAME BLACK 52b 61.", reader.readLine());
+            writer.println("1 MOVE 52.43");
+            assertEquals("ERROR OPPOSITE_PIECE", reader.readLine());
+            writer.println("1 MOVE 5243");
+            assertEquals("ERROR BAD_FORMAT", reader.readLine());
+            writer.println("1 CLOSE");
+            assertEquals("OK 1 CLOSE", reader.readLine());
+            writer.println("1 BOARD");
+            assertEquals("ERROR UNKNOWN_SESSION", reader.readLine());
+            writer.println("HELLO");
+            assertEquals("ERROR UNKNOWN_COMMAND", reader.readLine());
+        }
+    }
+
+    @Test
+    public void testGivenNioServerWhenPipelinedLinesThenRepliesInOrder() throws IOException {
+        try (Socket first = new Socket("localhost", this.nioServer.getPort());
+                Socket second = new Socket("localhost", this.nioServer.getPort())) {
+            BufferedReader firstReader = new BufferedReader(new InputStreamReader(first.getInputStream()));
+            BufferedReader secondReader = new BufferedReader(new InputStreamReader(second.getInputStream()));
+            first.getOutputStream().write("NEW\n1 MOVE 61.52\n1 MOVE 32.41\n".getBytes());
+            assertEquals("OK 1 IN_GAME WHITE " + NioServerTest.INITIAL_BOARD, firstReader.readLine());
+            assertEquals("OK 1 IN_GAME BLACK 52b 61.", firstReader.readLine());
+            assertEquals("OK 1 IN_GAME WHITE 32. 41n", firstReader.readLine());
+            second.getOutputStream().write("1 BOARD\n".getBytes());
+            assertEquals("OK 1 IN_GAME WHITE .n.n.n.n" + "n.n.n.n." + "...n.n.n" + "n......." + ".b......"
+                + "..b.b.b." + ".b.b.b.b" + "b.b.b.b.", secondReader.readLine());
+        }
+    }
+
+    @Test
+    public void testGivenJournaledNioServerWhenPipelinedLinesThenRepliesAfterDurability() throws IOException {
+        Path path = this.temporaryFolder.newFolder().toPath();
+        try (Journal journal = new Journal(path)) {
+            NioServer nioServer = new NioServer(0, 1, new SessionRegistry(100, 60000, journal));
+            nioServer.start();
+            try (Socket first = new Socket("localhost", nioServer.getPort());
+                    Socket second = new Socket("localhost", nioServer.getPort())) {
+                BufferedReader firstReader = new BufferedReader(new InputStreamReader(first.getInputStream()));
+                BufferedReader secondReader = new BufferedReader(new InputStreamReader(second.getInputStream()));
+                first.getOutputStream().write("NEW\n".getBytes());
+                assertEquals("OK 1 IN_GAME WHITE " + NioServerTest.INITIAL_BOARD, firstReader.readLine());
+                first.getOutputStream().write("1 MOVE 61.52\n1 MOVE 32.41\n".getBytes());
+                second.getOutputStream().write("NEW\n2 MOVE 63.54\n".getBytes());
+                assertEquals("OK 1 IN_GAME BLACK 52b 61.", firstReader.readLine());
+                assertEquals("OK 1 IN_GAME WHITE 32. 41n", firstReader.readLine());
+                assertTrue(secondReader.readLine().startsWith("OK 2 IN_GAME WHITE "));
+                assertEquals("OK 2 IN_GAME BLACK 54b 63.", secondReader.readLine());
+                assertTrue(journal.getCommits() > 0);
+            } finally {
+                nioServer.stop();
+            }
+        }
+        try (Journal journal = new Journal(path)) {
+            SessionRegistry sessionRegistry = new SessionRegistry(100, 60000, journal);
+            assertEquals(2, sessionRegistry.recover(2));
+            assertEquals("OK 1 IN_GAME WHITE .n.n.n.n" + "n.n.n.n." + "...n.n.n" + "n......." + ".b......"
+                + "..b.b.b." + ".b.b.b.b" + "b.b.b.b.", new Protocol(sessionRegistry).execute("1 BOARD"));
+        }
+    }
+
+}
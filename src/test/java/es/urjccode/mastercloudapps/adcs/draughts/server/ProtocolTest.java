@@ -0,0 +1,75 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class ProtocolTest {
+
+    private static final String INITIAL_BOARD =
+        ".n.n.n.n" + "n.n.n.n." + ".n.n.n.n" + "........" + "........" + "b.b.b.b." + ".b.b.b.b" + "b.b.b.b.";
+
+    private Protocol protocol;
+
+    @Before
+    public void before() {
+        this.protocol = new Protocol(new SessionRegistry(2, 60000));
+    }
+
+    @Test
+    public void testGivenProtocolWhenNewThenInitialBoard() {
+        assertEquals("OK 1 IN_GAME WHITE " + ProtocolTest.INITIAL_BOARD, this.protocol.execute("NEW"));
+        assertEquals("OK 2 IN_GAME WHITE " + ProtocolTest.INITIAL_BOARD, this.protocol.execute(" new "));
+    }
+
+    @Test
+    public void testGivenMaximumSessionsWhenNewThenError() {
+        this.protocol.execute("NEW");
+        this.protocol.execute("NEW");
+        assertEquals("ERROR TOO_MANY_SESSIONS", this.protocol.execute("NEW"));
+        assertEquals("OK 1 CLOSE", this.protocol.execute("1 CLOSE"));
+        assertEquals("OK 3 IN_GAME WHITE " + ProtocolTest.INITIAL_BOARD, this.protocol.execute("NEW"));
+    }
+
+    @Test
+    public void testGivenSessionsWhenMoveThenOnlyThatSessionChanges() {
+        this.protocol.execute("NEW");
+        this.protocol.execute("NEW");
+        assertEquals("OK 1 IN_GAME BLACK "
+            + ".n.n.n.n" + "n.n.n.n." + ".n.n.n.n" + "........" + ".b......" + "..b.b.b." + ".b.b.b.b" + "b.b.b.b.",
+            this.protocol.execute("1 MOVE 61.52"));
+        assertEquals("OK 2 IN_GAME WHITE " + ProtocolTest.INITIAL_BOARD, this.protocol.execute("2 BOARD"));
+    }
+
+    @Test
+    public void testGivenSessionWhenBadMoveThenError() {
+        this.protocol.execute("NEW");
+        assertEquals("ERROR BAD_FORMAT", this.protocol.execute("1 MOVE 61-52"));
+        assertEquals("ERROR BAD_FORMAT", this.protocol.execute("1 MOVE"));
+        assertEquals("ERROR NOT_DIAGONAL", this.protocol.execute("1 MOVE 61.51"));
+        assertEquals("ERROR OPPOSITE_PIECE", this.protocol.execute("1 MOVE 32.43"));
+        assertEquals("OK 1 IN_GAME WHITE " + ProtocolTest.INITIAL_BOARD, this.protocol.execute("1 BOARD"));
+    }
+
+    @Test
+    public void testGivenBadLineWhenExecuteThenError() {
+        assertEquals("ERROR UNKNOWN_SESSION", this.protocol.execute("7 BOARD"));
+        assertEquals("ERROR UNKNOWN_SESSION", this.protocol.execute("x BOARD"));
+        assertEquals("ERROR UNKNOWN_SESSION", this.protocol.execute("7 CLOSE"));
+        assertEquals("ERROR UNKNOWN_COMMAND", this.protocol.execute("1 JUMP"));
+        assertEquals("ERROR UNKNOWN_COMMAND", this.protocol.execute(""));
+        assertEquals("ERROR UNKNOWN_COMMAND", this.protocol.execute("1 MOVE 61.52 52.43"));
+    }
+
+    @Test
+    public void testGivenCanceledSessionWhenResetThenInitialBoard() {
+        this.protocol.execute("NEW");
+        assertEquals("OK 1 FINAL BLACK "
+            + ".n.n.n.n" + "n.n.n.n." + ".n.n.n.n" + "........" + "........" + "........" + "........" + "........",
+            this.protocol.execute("1 CANCEL"));
+        assertEquals("ERROR WRONG_STATE", this.protocol.execute("1 MOVE 32.43"));
+        assertEquals("OK 1 IN_GAME WHITE " + ProtocolTest.INITIAL_BOARD, this.protocol.execute("1 RESET"));
+    }
+
+}
@@ -0,0 +1,38 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class SessionRegistryTest {
+
+    @Test
+    public void testGivenRegistryWhenCreateThenGetSameSession() {
+        SessionRegistry sessionRegistry = new SessionRegistry(10, 60000);
+        Session session = sessionRegistry.create();
+        assertSame(session, sessionRegistry.get(session.getId()));
+        assertEquals(1, sessionRegistry.size());
+        assertTrue(sessionRegistry.remove(session.getId()));
+        assertFalse(sessionRegistry.remove(session.getId()));
+        assertNull(sessionRegistry.get(session.getId()));
+        assertEquals(0, sessionRegistry.size());
+    }
+
+    @Test
+    public void testGivenIdleSessionWhenEvictIdleThenRemoved() {
+        SessionRegistry sessionRegistry = new SessionRegistry(10, 20);
+        Session idle = sessionRegistry.create();
+        while (System.currentTimeMillis() <= idle.getLastAccess());
+        Session active = sessionRegistry.create();
+        long now = idle.getLastAccess() + sessionRegistry.getMaximumIdleMillis();
+        assertEquals(0, sessionRegistry.evictIdle(now));
+        assertEquals(1, sessionRegistry.evictIdle(now + 1));
+        assertNull(sessionRegistry.get(idle.getId()));
+        assertSame(active, sessionRegistry.get(active.getId()));
+    }
+
+}
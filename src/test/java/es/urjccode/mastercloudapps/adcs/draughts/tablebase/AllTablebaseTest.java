@@ -0,0 +1,13 @@
+package es.urjccode.mastercloudapps.adcs.draughts.tablebase;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+@RunWith(Suite.class)
+@Suite.SuiteClasses({
+    MaterialTest.class,
+    TablebaseGeneratorTest.class,
+    TablebaseTest.class,
+    WdlTableTest.class } )
+public final class AllTablebaseTest {
+}
@@ -0,0 +1,61 @@
+package es.urjccode.mastercloudapps.adcs.draughts.tablebase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.GameBuilder;
+
+public class MaterialTest {
+
+    @Test
+    public void testGivenMaterialWhenSetPositionThenIndexRoundTrips() {
+        Material material = new Material(1, 1, 0, 1);
+        assertEquals(2 * 32 * 32 * 32, material.getSize());
+        Game game = new Game();
+        long valid = 0;
+        for (long index = 0; index < material.getSize(); index++)
+            if (material.setPosition(index, game)) {
+                valid++;
+                assertEquals(index, material.getIndex(game));
+                assertEquals(material, Material.of(game));
+            }
+        assertEquals(2 * 28 * 31 * 30, valid);
+    }
+
+    @Test
+    public void testGivenGameWhenOfThenCounts() {
+        Game game = new GameBuilder().color(Color.BLACK).rows(
+            " N      ",
+            "        ",
+            "   n    ",
+            "        ",
+            "     B  ",
+            "        ",
+            " b      ",
+            "        ").build();
+        assertEquals(new Material(1, 1, 1, 1), Material.of(game));
+        assertEquals(4, Material.getPieces(game));
+        assertEquals("w1p1k-b1p1k", Material.of(game).getName());
+    }
+
+    @Test
+    public void testGivenPiecesWhenGetMaterialsThenSuccessorsFirst() {
+        List<Material> materials = Material.getMaterials(3);
+        assertEquals(34, materials.size());
+        for (int i = 1; i < materials.size(); i++) {
+            Material previous = materials.get(i - 1);
+            Material material = materials.get(i);
+            assertTrue(previous.getPieces() < material.getPieces()
+                || previous.getPieces() == material.getPieces() && previous.getPawns() <= material.getPawns());
+        }
+        assertFalse(materials.contains(new Material(0, 0, 0, 0)));
+    }
+
+}
@@ -0,0 +1,131 @@
+package es.urjccode.mastercloudapps.adcs.draughts.tablebase;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+
+public class TablebaseGeneratorTest {
+
+    private static final int PIECES = 2;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path generate(int pieces, int threads) throws IOException {
+        Path directory = this.temporaryFolder.newFolder().toPath();
+        new TablebaseGenerator(directory, pieces, threads).generate();
+        return directory;
+    }
+
+    private void assertSameFiles(Path expected, Path actual) throws IOException {
+        Tablebase tablebase = new Tablebase(expected);
+        for (Material material : Material.getMaterials(TablebaseGeneratorTest.PIECES))
+            assertArrayEquals(material.getName(), Files.readAllBytes(tablebase.getPath(material)),
+                Files.readAllBytes(actual.resolve(tablebase.getPath(material).getFileName())));
+    }
+
+    private void assertConsistent(Tablebase tablebase, Game game) {
+        int value = tablebase.probe(game);
+        MoveBuffer moves = new MoveBuffer();
+        game.generateMoves(moves);
+        int winDistance = Integer.MAX_VALUE;
+        int lossDistance = 0;
+        boolean refuted = true;
+        for (int move = 0; move < moves.size(); move++) {
+            boolean winning = true;
+            int maximumLoss = 0;
+            int minimumWin = Integer.MAX_VALUE;
+            int penalties = 1;
+            for (int penalty = 0; penalty < penalties; penalty++) {
+                penalties = Math.max(1, game.makeMove(moves, move, penalty));
+                int successor = tablebase.probe(game);
+                game.unmakeMove();
+                winning &= Tablebase.isLoss(successor);
+                if (Tablebase.isLoss(successor))
+                    maximumLoss = Math.max(maximumLoss, Tablebase.getDistance(successor));
+                if (Tablebase.isWin(successor))
+                    minimumWin = Math.min(minimumWin, Tablebase.getDistance(successor));
+            }
+            if (winning)
+                winDistance = Math.min(winDistance, maximumLoss + 1);
+            if (minimumWin == Integer.MAX_VALUE)
+                refuted = false;
+            else
+                lossDistance = Math.max(lossDistance, minimumWin + 1);
+        }
+        if (Tablebase.isWin(value))
+            assertEquals(winDistance, Tablebase.getDistance(value));
+        else if (Tablebase.isLoss(value)) {
+            assertEquals(Integer.MAX_VALUE, winDistance);
+            assertTrue(refuted);
+            assertEquals(lossDistance, Tablebase.getDistance(value));
+        } else {
+            assertEquals(0, value);
+            assertEquals(Integer.MAX_VALUE, winDistance);
+            assertFalse(refuted);
+        }
+    }
+
+    @Test
+    public void testGivenGeneratedTablesWhenProbeSuccessorsThenValuesConsistent() throws IOException {
+        Tablebase tablebase = new Tablebase(this.generate(TablebaseGeneratorTest.PIECES, 1));
+        assertEquals(TablebaseGeneratorTest.PIECES, tablebase.getMaximumPieces());
+        Game game = new Game();
+        for (Material material : Material.getMaterials(TablebaseGeneratorTest.PIECES))
+            for (long index = 0; index < material.getSize(); index++)
+                if (material.setPosition(index, game))
+                    this.assertConsistent(tablebase, game);
+    }
+
+    @Test
+    public void testGivenThreadsWhenGenerateThenSameFiles() throws IOException {
+        this.assertSameFiles(this.generate(TablebaseGeneratorTest.PIECES, 1), this.generate(TablebaseGeneratorTest.PIECES, 3));
+    }
+
+    @Test
+    public void testGivenSmallerTablesWhenGenerateThenOnlyMissingGenerated() throws IOException {
+        Path expected = this.generate(TablebaseGeneratorTest.PIECES, 1);
+        Path directory = this.generate(1, 1);
+        assertEquals(Material.getMaterials(TablebaseGeneratorTest.PIECES).size() - Material.getMaterials(1).size(),
+            new TablebaseGenerator(directory, TablebaseGeneratorTest.PIECES, 1).generate());
+        assertEquals(0, new TablebaseGenerator(directory, TablebaseGeneratorTest.PIECES, 1).generate());
+        this.assertSameFiles(expected, directory);
+    }
+
+    @Test
+    public void testGivenPartialTableWhenGenerateThenResumedToSameFile() throws IOException {
+        Path expected = this.generate(TablebaseGeneratorTest.PIECES, 1);
+        Path directory = this.generate(TablebaseGeneratorTest.PIECES, 1);
+        Tablebase tablebase = new Tablebase(directory);
+        Material material = new Material(1, 0, 1, 0);
+        Path path = tablebase.getPath(material);
+        ByteBuffer table = Tablebase.read(path, material);
+        int iteration = Tablebase.getDistance(table) / 2;
+        short[] values = new short[(int) material.getSize()];
+        for (int index = 0; index < values.length; index++) {
+            values[index] = table.getShort(Tablebase.HEADER_SIZE + index * Short.BYTES);
+            if (values[index] != 0 && Tablebase.getDistance(values[index]) >= iteration)
+                values[index] = 0;
+        }
+        Tablebase.write(path.resolveSibling(path.getFileName() + TablebaseGenerator.PARTIAL_EXTENSION),
+            material, values, iteration);
+        Files.delete(path);
+        assertEquals(1, new TablebaseGenerator(directory, TablebaseGeneratorTest.PIECES, 1).generate());
+        assertFalse(Files.exists(path.resolveSibling(path.getFileName() + TablebaseGenerator.PARTIAL_EXTENSION)));
+        this.assertSameFiles(expected, directory);
+    }
+
+}
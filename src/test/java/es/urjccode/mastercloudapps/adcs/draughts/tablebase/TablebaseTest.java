@@ -0,0 +1,76 @@
+package es.urjccode.mastercloudapps.adcs.draughts.tablebase;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import es.urjccode.mastercloudapps.adcs.draughts.engine.AlphaBetaEngine;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.GameBuilder;
+
+public class TablebaseTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Tablebase getTablebase() throws IOException {
+        Path directory = this.temporaryFolder.newFolder().toPath();
+        new TablebaseGenerator(directory, 2, 1).generate();
+        return new Tablebase(directory);
+    }
+
+    @Test
+    public void testGivenLoneKingToMoveWhenProbeThenWinInOne() throws IOException {
+        Game game = new GameBuilder().rows(
+            "        ",
+            "        ",
+            "        ",
+            "    B   ",
+            "        ",
+            "        ",
+            "        ",
+            "        ").build();
+        assertEquals(Tablebase.getWin(1), this.getTablebase().probe(game));
+    }
+
+    @Test
+    public void testGivenMorePiecesThanTablesWhenProbeThenUnknown() throws IOException {
+        Tablebase tablebase = this.getTablebase();
+        assertEquals(Tablebase.UNKNOWN, tablebase.probe(new Game()));
+        assertNull(tablebase.getMove(new Game()));
+    }
+
+    @Test
+    public void testGivenCaptureAvailableWhenGetMoveThenWinningCapture() throws IOException {
+        Game game = new GameBuilder().rows(
+            "        ",
+            "        ",
+            "        ",
+            "  n     ",
+            "   B    ",
+            "        ",
+            "        ",
+            "        ").build();
+        Tablebase tablebase = this.getTablebase();
+        assertTrue(Tablebase.isWin(tablebase.probe(game)));
+        Coordinate[] coordinates = { new Coordinate(4, 3), new Coordinate(2, 1) };
+        assertArrayEquals(coordinates, tablebase.getMove(game));
+        AlphaBetaEngine engine = new AlphaBetaEngine(1);
+        engine.setTablebase(tablebase);
+        assertArrayEquals(coordinates, engine.getMove(game));
+        game.move(coordinates);
+        assertEquals(Color.BLACK, game.getTurnColor());
+        assertEquals(Tablebase.getLoss(0), tablebase.probe(game));
+    }
+
+}
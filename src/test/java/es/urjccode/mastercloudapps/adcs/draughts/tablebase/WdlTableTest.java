@@ -0,0 +1,84 @@
+package es.urjccode.mastercloudapps.adcs.draughts.tablebase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+
+public class WdlTableTest {
+
+    private static final int PIECES = 2;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path generate() throws IOException {
+        Path directory = this.temporaryFolder.newFolder().toPath();
+        new TablebaseGenerator(directory, WdlTableTest.PIECES, 1).generate();
+        return directory;
+    }
+
+    private void assertSameResults(Tablebase expected, Tablebase actual) {
+        Game game = new Game();
+        for (Material material : Material.getMaterials(WdlTableTest.PIECES))
+            for (long index = 0; index < material.getSize(); index++)
+                if (material.setPosition(index, game))
+                    assertEquals(material.getName() + " " + index, Integer.signum(expected.probe(game)),
+                        actual.probeWdl(game));
+    }
+
+    @Test
+    public void testGivenGeneratedTablesWhenProbeWdlThenSignOfDistance() throws IOException {
+        Tablebase tablebase = new Tablebase(this.generate());
+        this.assertSameResults(tablebase, tablebase);
+    }
+
+    @Test
+    public void testGivenRepeatedProbesWhenProbeWdlThenEachBlockDecompressedOnce() throws IOException {
+        Path directory = this.generate();
+        Tablebase tablebase = new Tablebase(directory);
+        this.assertSameResults(new Tablebase(directory), tablebase);
+        this.assertSameResults(new Tablebase(directory), tablebase);
+        assertEquals(Material.getMaterials(WdlTableTest.PIECES).size(), tablebase.getCacheMisses());
+        assertTrue(tablebase.getCacheHits() > tablebase.getCacheMisses());
+    }
+
+    @Test
+    public void testGivenSmallCacheWhenProbeWdlThenEvictsAndSameResults() throws IOException {
+        Path directory = this.generate();
+        Tablebase tablebase = new Tablebase(directory, 1);
+        this.assertSameResults(new Tablebase(directory), tablebase);
+        this.assertSameResults(new Tablebase(directory), tablebase);
+        assertTrue(tablebase.getCacheMisses() > Material.getMaterials(WdlTableTest.PIECES).size());
+    }
+
+    @Test
+    public void testGivenOnlyWdlFilesWhenProbeWdlThenSameResults() throws IOException {
+        Path directory = this.generate();
+        Tablebase expected = new Tablebase(directory);
+        Path wdlDirectory = this.temporaryFolder.newFolder().toPath();
+        long tableBytes = 0;
+        long wdlBytes = 0;
+        for (Material material : Material.getMaterials(WdlTableTest.PIECES)) {
+            Path path = expected.getWdlPath(material);
+            Files.copy(path, wdlDirectory.resolve(path.getFileName()));
+            tableBytes += Files.size(expected.getPath(material));
+            wdlBytes += Files.size(path);
+        }
+        assertTrue(wdlBytes * 8 < tableBytes);
+        Tablebase actual = new Tablebase(wdlDirectory);
+        assertEquals(WdlTableTest.PIECES, actual.getMaximumPieces());
+        this.assertSameResults(expected, actual);
+        assertEquals(Tablebase.UNKNOWN, actual.probe(new Game()));
+        assertEquals(Tablebase.UNKNOWN, actual.probeWdl(new Game()));
+    }
+
+}
@@ -0,0 +1,51 @@
+package es.urjccode.mastercloudapps.adcs.draughts.tournament;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class StatisticsTest {
+
+    private static final double DELTA = 0.01;
+
+    @Test
+    public void testGivenEvenResultsWhenGetEloThenZero() {
+        Statistics statistics = new Statistics(10, 20, 10);
+        assertEquals(40, statistics.getGames());
+        assertEquals(0.5, statistics.getScore(), StatisticsTest.DELTA);
+        assertEquals(0, statistics.getElo(), StatisticsTest.DELTA);
+        assertTrue(statistics.getEloMargin() > 0);
+    }
+
+    @Test
+    public void testGivenThreeQuartersScoreWhenGetEloThenPlus191() {
+        Statistics statistics = new Statistics(50, 50, 0);
+        assertEquals(0.75, statistics.getScore(), StatisticsTest.DELTA);
+        assertEquals(190.85, statistics.getElo(), StatisticsTest.DELTA);
+        assertEquals(0.75, Statistics.getScore(statistics.getElo()), StatisticsTest.DELTA);
+    }
+
+    @Test
+    public void testGivenMoreGamesWhenGetEloMarginThenNarrower() {
+        assertTrue(new Statistics(400, 200, 400).getEloMargin() < new Statistics(40, 20, 40).getEloMargin());
+        assertEquals(Double.POSITIVE_INFINITY, new Statistics(10, 0, 0).getEloMargin(), 0);
+    }
+
+    @Test
+    public void testGivenStrongResultsWhenSprtThenAcceptH1() {
+        Sprt sprt = new Sprt();
+        assertEquals(Sprt.State.CONTINUE, sprt.getState(new Statistics()));
+        assertEquals(Sprt.State.CONTINUE, sprt.getState(new Statistics(11, 10, 9)));
+        assertEquals(Sprt.State.ACCEPT_H1, sprt.getState(new Statistics(600, 400, 400)));
+        assertTrue(sprt.getLlr(new Statistics(600, 400, 400)) >= sprt.getUpperBound());
+    }
+
+    @Test
+    public void testGivenWeakResultsWhenSprtThenAcceptH0() {
+        Sprt sprt = new Sprt();
+        assertEquals(Sprt.State.ACCEPT_H0, sprt.getState(new Statistics(400, 400, 600)));
+        assertEquals(Math.log(0.05 / 0.95), sprt.getLowerBound(), StatisticsTest.DELTA);
+    }
+
+}
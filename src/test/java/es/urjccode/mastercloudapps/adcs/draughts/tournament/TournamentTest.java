@@ -0,0 +1,81 @@
+package es.urjccode.mastercloudapps.adcs.draughts.tournament;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.junit.Test;
+
+import es.urjccode.mastercloudapps.adcs.draughts.pdn.PdnGame;
+import es.urjccode.mastercloudapps.adcs.draughts.pdn.PdnReader;
+import es.urjccode.mastercloudapps.adcs.draughts.pdn.PdnValidator;
+import es.urjccode.mastercloudapps.adcs.draughts.pdn.PdnWriter;
+
+public class TournamentTest {
+
+    private static final String FIRST = "alphabeta:depth=2,hash=1";
+    private static final String SECOND = "alphabeta:depth=1,hash=1";
+
+    private String run(int games, int threads, Sprt sprt, Statistics[] statistics) {
+        Tournament tournament = new Tournament(Player.parse(TournamentTest.FIRST),
+            Player.parse(TournamentTest.SECOND), games, Tournament.DEFAULT_SEED);
+        tournament.setMaximumPlies(60);
+        tournament.setSprt(sprt);
+        StringWriter string = new StringWriter();
+        tournament.setWriter(new PdnWriter(string));
+        statistics[0] = tournament.run(threads);
+        return string.toString();
+    }
+
+    @Test
+    public void testGivenSpecsWhenParseThenPlayersOrNull() {
+        Player player = Player.parse("mcts:playouts=500,threads=2");
+        assertEquals(Player.Type.MCTS, player.getType());
+        assertEquals(500, player.get(Player.PLAYOUTS));
+        assertEquals(2, player.get(Player.THREADS));
+        assertEquals(Player.Type.LAZYSMP, Player.parse("lazysmp").getType());
+        assertNull(Player.parse("minimax"));
+        assertNull(Player.parse("alphabeta:depth=0"));
+        assertNull(Player.parse("alphabeta:width=3"));
+        assertNull(Player.parse("mcts:playouts=x"));
+        assertNull(Player.parse("mcts:playouts=0"));
+    }
+
+    @Test
+    public void testGivenGamesWhenRunThenValidPdnWithAlternatingColors() throws IOException {
+        Statistics[] statistics = new Statistics[1];
+        PdnReader reader = new PdnReader(new StringReader(this.run(4, 2, null, statistics)));
+        PdnValidator validator = new PdnValidator();
+        int games = 0;
+        for (PdnGame game = reader.next(); game != null; game = reader.next(), games++) {
+            assertTrue(validator.validate(game));
+            assertEquals(String.valueOf(games + 1), game.getTag(Tournament.ROUND));
+            assertEquals(games % 2 == 0 ? TournamentTest.FIRST : TournamentTest.SECOND, game.getTag(Tournament.WHITE));
+            assertNotNull(game.getTag(PdnGame.SEED));
+            assertTrue(game.getMoves().size() <= 60);
+        }
+        assertEquals(4, games);
+        assertEquals(4, statistics[0].getGames());
+    }
+
+    @Test
+    public void testGivenSameSeedWhenRunWithDifferentThreadsThenSameGames() {
+        Statistics[] statistics = new Statistics[1];
+        String expected = this.run(6, 1, null, statistics);
+        assertEquals(expected, this.run(6, 3, null, statistics));
+        assertEquals(expected, this.run(6, 1, null, statistics));
+    }
+
+    @Test
+    public void testGivenDecidedSprtWhenRunThenStopsEarly() {
+        Statistics[] statistics = new Statistics[1];
+        this.run(40, 2, new Sprt(-1000, 1000, 0.49, 0.49), statistics);
+        assertTrue(statistics[0].getGames() < 40);
+    }
+
+}
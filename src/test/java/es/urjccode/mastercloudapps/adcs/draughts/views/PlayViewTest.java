@@ -1,5 +1,7 @@
 package es.urjccode.mastercloudapps.adcs.draughts.views;
 
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -107,4 +109,14 @@ public class PlayViewTest {
             new Coordinate(3, 0));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testGivenPlayViewWhenInteractWithEngineTurnThenMoveEngine() {
+        when(playController.getColor()).thenReturn(Color.BLACK);
+        when(playController.isEngineTurn()).thenReturn(true);
+        playView.interact(playController);
+        verify(playController).moveEngine();
+        verify(console).writeln("Mueven las negras (máquina)");
+        verify(console, never()).readString(anyString());
+    }
+
+}